@@ -0,0 +1,129 @@
+package com.example.kakao_login.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 행 배열을 읽는 ResultSet (DB 없이 행 매핑 비용만 측정)
+ * - 매핑에 쓰이는 next / findColumn / getXxx / wasNull 만 직접 구현, 나머지는 지원 안 함
+ * - 숫자 컬럼은 MySQL 드라이버처럼 DECIMAL → BigDecimal, INT → Integer, 거리식 → Double 로 보관
+ * - byte[] 로 보관한 문자열 컬럼은 드라이버처럼 읽을 때마다 UTF-8 로 디코딩 (TEXT 컬럼 비용 재현)
+ * - 한 번 만들어 두고 측정마다 beforeFirst() 로 처음으로 되돌려 재사용
+ */
+final class FakeResultSet extends UnsupportedResultSet {
+
+    private final Map<String, Integer> index;
+    private final Object[][] rows;
+    private int cursor = -1;
+    private boolean lastNull;
+
+    private FakeResultSet(Map<String, Integer> index, Object[][] rows) {
+        this.index = index;
+        this.rows = rows;
+    }
+
+    static FakeResultSet of(List<String> labels, Object[][] rows) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < labels.size(); i++) {
+            index.put(labels.get(i), i + 1);
+        }
+        return new FakeResultSet(index, rows);
+    }
+
+    @Override
+    public boolean next() {
+        return ++cursor < rows.length;
+    }
+
+    @Override
+    public void beforeFirst() {
+        cursor = -1;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return lastNull;
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        Integer i = index.get(columnLabel);
+        if (i == null) {
+            throw new SQLException("Column not found: " + columnLabel);
+        }
+        return i;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    private Object value(int columnIndex) {
+        Object v = rows[cursor][columnIndex - 1];
+        lastNull = v == null;
+        return v;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object v = value(columnIndex);
+        return v == null ? null : v instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : v.toString();
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        Object v = value(columnIndex);
+        return v == null ? 0 : ((Number) v).intValue();
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object v = value(columnIndex);
+        return v == null ? 0.0 : ((Number) v).doubleValue();
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) {
+        Object v = value(columnIndex);
+        return v == null ? null : v instanceof BigDecimal b ? b : new BigDecimal(v.toString());
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(int columnIndex) {
+        return value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.kakao_login.benchmark;
+
+import com.example.kakao_login.dto.search.StoreSummaryDto;
+import com.example.kakao_login.repository.StoreSearchRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 본 조회 행 매핑 + DTO 조립 비교
+ * - legacy: 행마다 LinkedHashMap 에 담고 Number 로 받은 뒤 캐스팅해서 DTO 조립 (이전 SearchRepository 방식)
+ * - record: ResultSet 에서 바로 StoreSearchRow 로 읽고 toDto 로 조립
+ * - 페이지 크기 + 1 건 (다음 페이지 판단용) 기준, -prof gc 로 할당량 비교
+ * - ResultSet 은 한 번 만들어 두고 측정마다 처음으로 되돌림 (측정 단위가 마이크로초라 Level.Invocation 준비는 쓰지 않음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchRowMappingBenchmark {
+
+    private static final List<String> LABELS = List.of(
+            "id", "name", "address", "rep_image_url", "rating_avg", "rating_count",
+            "category_name", "distance_km", "best_discount_pct", "popularity_score");
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private FakeResultSet rs;
+    private List<String>[] tagsByRow;
+    private List<String>[] menusByRow;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        int n = pageSize + 1;
+        Object[][] data = new Object[n][];
+        tagsByRow = (List<String>[]) new List[n];
+        menusByRow = (List<String>[]) new List[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = new Object[]{
+                    "store-" + i,
+                    "얼리버드 베이커리 " + i + "호점",
+                    "서울특별시 강남구 테헤란로 " + (100 + i),
+                    "https://cdn.example.com/stores/" + i + ".jpg",
+                    i % 5 == 0 ? null : new BigDecimal("4.35"),
+                    120 + i,
+                    "베이커리",
+                    0.25 * i,
+                    i % 3 == 0 ? null : 20 + i % 30,
+                    new BigDecimal(300 + i + ".00")
+            };
+            tagsByRow[i] = List.of("조용한", "주차가능", "테이크아웃");
+            menusByRow[i] = List.of("아메리카노", "크루아상", "소금빵");
+        }
+        rs = FakeResultSet.of(LABELS, data);
+    }
+
+    @Benchmark
+    public List<StoreSummaryDto> legacyMap() throws SQLException {
+        RowMapper<Map<String, Object>> mapper = (r, rowNum) -> {
+            var m = new LinkedHashMap<String, Object>();
+            m.put("id", r.getString("id"));
+            m.put("name", r.getString("name"));
+            m.put("address", r.getString("address"));
+            m.put("rep_image_url", r.getString("rep_image_url"));
+
+            Number nDistance  = (Number) r.getObject("distance_km");
+            Number nRatingAvg = (Number) r.getObject("rating_avg");
+            Number nRatingCnt = (Number) r.getObject("rating_count");
+            Number nBestDisc  = (Number) r.getObject("best_discount_pct");
+
+            m.put("distance_km", nDistance == null ? null : nDistance.doubleValue());
+            m.put("rating_avg",  nRatingAvg == null ? null : nRatingAvg.doubleValue());
+            m.put("rating_count",nRatingCnt == null ? null : nRatingCnt.intValue());
+            m.put("best_discount_pct", nBestDisc == null ? null : nBestDisc.intValue());
+            m.put("popularity_score", r.getBigDecimal("popularity_score"));
+            m.put("category_name", r.getString("category_name"));
+            return m;
+        };
+        var rows = new ArrayList<Map<String, Object>>();
+        rs.beforeFirst();
+        int rowNum = 0;
+        while (rs.next()) {
+            rows.add(mapper.mapRow(rs, rowNum++));
+        }
+
+        var items = new ArrayList<StoreSummaryDto>();
+        for (int i = 0; i < rows.size(); i++) {
+            var r = rows.get(i);
+            String categoryName = (String) r.get("category_name");
+            items.add(new StoreSummaryDto(
+                    (String) r.get("id"),
+                    (String) r.get("name"),
+                    (String) r.get("address"),
+                    (String) r.get("rep_image_url"),
+                    (Double) r.get("distance_km"),
+                    new StoreSummaryDto.Rating((Double) r.get("rating_avg"), (Integer) r.get("rating_count")),
+                    null, null, null,
+                    categoryName == null ? List.of() : List.of(categoryName),
+                    tagsByRow[i] == null ? List.of() : tagsByRow[i],
+                    menusByRow[i] == null ? List.of() : menusByRow[i],
+                    new StoreSummaryDto.Earlybird(r.get("best_discount_pct") != null,
+                            (Integer) r.get("best_discount_pct"), null, null)));
+        }
+        return items;
+    }
+
+    @Benchmark
+    public List<StoreSummaryDto> record() throws SQLException {
+        var mapper = StoreSearchRow.mapper(null);
+        var rows = new ArrayList<StoreSearchRow>();
+        rs.beforeFirst();
+        int rowNum = 0;
+        while (rs.next()) {
+            rows.add(mapper.mapRow(rs, rowNum++));
+        }
+
+        var items = new ArrayList<StoreSummaryDto>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            items.add(rows.get(i).toDto(tagsByRow[i], menusByRow[i]));
+        }
+        return items;
+    }
+}
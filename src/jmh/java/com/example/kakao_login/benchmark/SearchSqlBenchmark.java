@@ -0,0 +1,62 @@
+package com.example.kakao_login.benchmark;
+
+import com.example.kakao_login.repository.StoreSearchSql;
+import com.example.kakao_login.search.StoreSortMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 SQL 조립 비교
+ * - legacy: text block 템플릿을 요청마다 formatted() 로 채움 (이전 SearchRepository 방식)
+ * - builder: StoreSearchSql 상수 조각을 StringBuilder 한 번으로 연결
+ * - WHERE 는 키워드/카테고리/공간 인덱스 후보가 모두 붙은 경우를 가정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchSqlBenchmark {
+
+    private final String distanceExpr = "FIELD(s.id, :geoIds)";
+    private final StringBuilder where = new StringBuilder(" WHERE s.is_active = 1 ")
+            .append(" AND s.id IN (:kwIds) ")
+            .append("""
+              AND v.category_id = :catId
+            """)
+            .append(" AND s.id IN (:geoIds) ")
+            .append(" AND s.lat IS NOT NULL AND s.lng IS NOT NULL ");
+    private final String seek = " WHERE (popularity_score < :cursorKey OR (popularity_score = :cursorKey AND id > :cursorId)) ";
+
+    @Benchmark
+    public String legacyFormatted() {
+        String orderBy = StoreSearchSql.orderBy(StoreSortMode.POPULARITY);
+        return """
+          WITH base AS (
+            SELECT
+              v.store_id AS id, s.name, s.address, s.rep_image_url,
+              v.rating_avg, v.rating_count,
+              c.name AS category_name,
+              %s AS distance_km,
+              v.best_discount_pct,
+              v.popularity_score
+            %s
+            %s
+          )
+          SELECT *
+          FROM base
+          %s
+          %s
+          LIMIT :limit OFFSET :offset
+        """.formatted(distanceExpr, StoreSearchSql.FROM_CLAUSE + StoreSearchSql.CATEGORY_JOIN, where, seek, orderBy);
+    }
+
+    @Benchmark
+    public String builder() {
+        return StoreSearchSql.mainQuery(distanceExpr, where, seek, StoreSearchSql.orderBy(StoreSortMode.POPULARITY));
+    }
+}
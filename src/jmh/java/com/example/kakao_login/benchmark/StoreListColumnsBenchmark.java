@@ -0,0 +1,133 @@
+package com.example.kakao_login.benchmark;
+
+import com.example.kakao_login.entity.BusinessStatus;
+import com.example.kakao_login.entity.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 시 매장 전체 컬럼 vs 카드 컬럼만 읽을 때의 행 디코딩 비용 비교
+ * - allColumns: 모든 컬럼(TEXT ai_recommendation 포함)을 읽어 Store 를 만듦 (SELECT * 를 손으로 매핑)
+ * - cardColumns: 목록 카드에 필요한 6개 컬럼만 읽음 (StoreRepository.StoreCard 와 같은 컬럼)
+ * - Hibernate 는 실행하지 않음: 두 쪽 모두 직접 쓴 매핑이며 엔티티 하이드레이션, 영속성 컨텍스트 스냅샷,
+ *   지연 로딩 인터셉터, DB 왕복/전송량은 포함되지 않음
+ * - 결과는 읽는 컬럼 수와 TEXT 디코딩 차이만 보여주며, 실제 리포지토리 경로의 메모리/지연 개선 수치로 쓰지 않음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreListColumnsBenchmark {
+
+    private static final List<String> ALL_COLUMNS = List.of(
+            "id", "user_id", "category_id", "name", "ai_recommendation", "phone", "address",
+            "latitude", "longitude", "kakao_place_id", "naver_place_id", "rep_image_url",
+            "rating_avg", "rating_count", "business_status", "open_time", "close_time",
+            "created_at", "updated_at", "is_active");
+
+    private static final List<String> CARD_COLUMNS = List.of(
+            "id", "name", "rep_image_url", "business_status", "open_time", "close_time");
+
+    /** 목록 크기 */
+    @Param({"20", "100"})
+    public int rows;
+
+    /** ai_recommendation 길이 (한글 글자 수) */
+    @Param({"200", "2000"})
+    public int aiTextLength;
+
+    private FakeResultSet fullRs;
+    private FakeResultSet cardRs;
+
+    /** 목록 카드 (StoreRepository.StoreCard 와 같은 값) */
+    public record StoreCard(String id, String name, String repImageUrl, BusinessStatus businessStatus,
+                            String openTime, String closeTime) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] aiText = "오전 일찍 방문하면 갓 구운 빵과 커피를 즐길 수 있어요 ".repeat(aiTextLength / 30 + 1)
+                .substring(0, aiTextLength).getBytes(StandardCharsets.UTF_8);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Object[][] fullData = new Object[rows][];
+        Object[][] cardData = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            String id = "store-" + i;
+            String name = "얼리버드 베이커리 " + i + "호점";
+            String image = "https://cdn.example.com/stores/" + i + ".jpg";
+            fullData[i] = new Object[]{
+                    id, "owner-" + i, "category-1", name, aiText, "02-123-4567",
+                    "서울특별시 강남구 테헤란로 " + (100 + i),
+                    new BigDecimal("37.49794200"), new BigDecimal("127.02762100"),
+                    "kakao-" + i, "naver-" + i, image,
+                    new BigDecimal("4.35"), 120 + i, "OPEN", "07:00", "21:00",
+                    now, now, Boolean.TRUE
+            };
+            cardData[i] = new Object[]{id, name, image, "OPEN", "07:00", "21:00"};
+        }
+        fullRs = FakeResultSet.of(ALL_COLUMNS, fullData);
+        cardRs = FakeResultSet.of(CARD_COLUMNS, cardData);
+    }
+
+    @Benchmark
+    public List<Store> allColumns() throws SQLException {
+        var out = new ArrayList<Store>();
+        fullRs.beforeFirst();
+        while (fullRs.next()) {
+            // 매핑하지 않는 감사 컬럼도 SELECT * 처럼 디코딩은 함
+            fullRs.getObject("created_at");
+            fullRs.getObject("updated_at");
+            fullRs.getObject("is_active");
+            out.add(Store.builder()
+                    .id(fullRs.getString("id"))
+                    .userId(fullRs.getString("user_id"))
+                    .categoryId(fullRs.getString("category_id"))
+                    .name(fullRs.getString("name"))
+                    .aiRecommendation(fullRs.getString("ai_recommendation"))
+                    .phone(fullRs.getString("phone"))
+                    .address(fullRs.getString("address"))
+                    .latitude(fullRs.getBigDecimal("latitude"))
+                    .longitude(fullRs.getBigDecimal("longitude"))
+                    .kakaoPlaceId(fullRs.getString("kakao_place_id"))
+                    .naverPlaceId(fullRs.getString("naver_place_id"))
+                    .repImageUrl(fullRs.getString("rep_image_url"))
+                    .ratingAvg(fullRs.getBigDecimal("rating_avg"))
+                    .ratingCount(fullRs.getInt("rating_count"))
+                    .businessStatus(BusinessStatus.valueOf(fullRs.getString("business_status")))
+                    .openTime(fullRs.getString("open_time"))
+                    .closeTime(fullRs.getString("close_time"))
+                    .build());
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<StoreCard> cardColumns() throws SQLException {
+        var out = new ArrayList<StoreCard>();
+        cardRs.beforeFirst();
+        while (cardRs.next()) {
+            out.add(new StoreCard(
+                    cardRs.getString("id"),
+                    cardRs.getString("name"),
+                    cardRs.getString("rep_image_url"),
+                    BusinessStatus.valueOf(cardRs.getString("business_status")),
+                    cardRs.getString("open_time"),
+                    cardRs.getString("close_time")));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.kakao_login.common;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 최신순 (created_at DESC, id DESC) 키셋 커서
+ * - 이전 페이지 마지막 행의 작성 시각 + ID
+ * - 리뷰 피드, 사진 모아보기, 포인트 내역에서 공통 사용
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, String id) {
+
+    /**
+     * 커서 문자열 디코딩 (없으면 null = 첫 페이지)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static CreatedAtCursor decodeOrNull(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> keys = CursorCodec.decode(cursor, 2);
+        if (keys.get(0) == null || keys.get(1) == null) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        try {
+            return new CreatedAtCursor(LocalDateTime.parse(keys.get(0)), keys.get(1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(List.of(createdAt.toString(), id));
+    }
+}
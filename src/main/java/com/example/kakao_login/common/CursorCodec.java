@@ -0,0 +1,102 @@
+package com.example.kakao_login.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션용 불투명 커서 인코더
+ * - 마지막 행의 정렬 키 목록을 Base64(URL-safe) 문자열로 변환
+ * - 클라이언트는 내용을 해석하지 않고 그대로 다음 요청에 전달
+ * - 키 안의 구분자/null 표시 문자는 백슬래시로 이스케이프 (매장명 등 임의 문자열도 왕복 보장)
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "\u001f";
+    private static final String NULL_MARKER = "\u0000";
+    private static final char ESCAPE = '\\';
+
+    private CursorCodec() {}
+
+    /**
+     * 정렬 키 목록을 커서 문자열로 인코딩
+     * @param keys 정렬 키 (null 허용)
+     * @return 커서 문자열
+     */
+    public static String encode(List<String> keys) {
+        var parts = new ArrayList<String>(keys.size());
+        for (String key : keys) {
+            parts.add(key == null ? NULL_MARKER : escape(key));
+        }
+        byte[] raw = String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 목록으로 디코딩
+     * @param cursor 커서 문자열
+     * @param expectedSize 기대하는 키 개수
+     * @return 정렬 키 목록 (null 포함 가능)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static List<String> decode(String cursor, int expectedSize) {
+        if (cursor == null) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        String[] parts = raw.split(SEPARATOR, -1);
+        if (parts.length != expectedSize) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        var keys = new ArrayList<String>(parts.length);
+        for (String part : parts) {
+            keys.add(NULL_MARKER.equals(part) ? null : unescape(part));
+        }
+        return keys;
+    }
+
+    private static String escape(String key) {
+        var sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case ESCAPE -> sb.append(ESCAPE).append(ESCAPE);
+                case '\u001f' -> sb.append(ESCAPE).append('s');
+                case '\u0000' -> sb.append(ESCAPE).append('0');
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String part) {
+        if (part.indexOf(ESCAPE) < 0 && part.indexOf('\u0000') < 0) {
+            return part;
+        }
+        var sb = new StringBuilder(part.length());
+        for (int i = 0; i < part.length(); i++) {
+            char c = part.charAt(i);
+            if (c == '\u0000') {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+            if (c != ESCAPE) {
+                sb.append(c);
+                continue;
+            }
+            char next = ++i < part.length() ? part.charAt(i) : 0;
+            switch (next) {
+                case ESCAPE -> sb.append(ESCAPE);
+                case 's' -> sb.append('\u001f');
+                case '0' -> sb.append('\u0000');
+                default -> throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+        }
+        return sb.toString();
+    }
+}
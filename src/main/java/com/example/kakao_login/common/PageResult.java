@@ -2,4 +2,14 @@ package com.example.kakao_login.common;
 
 import java.util.List;
 
-public record PageResult<T>(List<T> items, int page, int size, long total, boolean hasNext) {}
+/**
+ * 페이지 응답
+ * @param total 전체 건수 (집계를 생략한 경우 null)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record PageResult<T>(List<T> items, int page, int size, Long total, boolean hasNext, String nextCursor) {
+
+    public PageResult(List<T> items, int page, int size, long total, boolean hasNext) {
+        this(items, page, size, Long.valueOf(total), hasNext, null);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.kakao_login.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 검색 결과 보강(태그/메뉴 배치 조회) 병렬 실행용 풀
+     * - 큐가 가득 차면 호출 스레드에서 직접 실행 (요청이 버려지지 않도록)
+     * - 크기는 DB 커넥션 풀보다 작게 유지
+     */
+    @Bean(name = "searchEnrichmentExecutor")
+    public ThreadPoolTaskExecutor searchEnrichmentExecutor(
+            @Value("${app.search.enrichment.pool-size:4}") int poolSize,
+            @Value("${app.search.enrichment.queue-capacity:100}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-enrich-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 매장 상세 하위 조회(메뉴/사용자 컨텍스트) 병렬 실행용 풀
+     * - 호출 스레드는 하위 조회를 기다리는 동안 커넥션을 잡지 않으므로 상세 요청 1건은 동시에 커넥션 1개만 사용
+     * - 스레드 수는 DB 커넥션 풀보다 작게 유지 (다른 요청이 쓸 커넥션을 남겨 둠)
+     * - 큐가 가득 차면 호출 스레드에서 직접 실행 (순차 실행과 같아질 뿐 실패하지 않음)
+     */
+    @Bean(name = "storeDetailExecutor")
+    public ThreadPoolTaskExecutor storeDetailExecutor(
+            @Value("${app.store-detail.fan-out.pool-size:6}") int poolSize,
+            @Value("${app.store-detail.fan-out.queue-capacity:50}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("store-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.time.LocalDate;
 
@@ -195,16 +196,19 @@ public class DataInitializer {
         // 리뷰 이미지 데이터 생성 (가비애 실제 이미지 URL 사용)
         List<ReviewImage> images = Arrays.asList(
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(0).getId()) // 잉뉴 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/174ee3e2-b8c3-4fb9-9a7f-e4b04bb16ab9")
                         .sortOrder(1)
                         .build(),
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(1).getId()) // 펭현숙퀸카 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/f1d81032-a660-4a70-895a-f417c038cce7")
                         .sortOrder(2)
                         .build(),
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(2).getId()) // 레이싱카 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/6e86abc8-4f1b-4a7d-864b-5479cf0e51af")
                         .sortOrder(3)
@@ -212,6 +216,7 @@ public class DataInitializer {
         );
 
         reviewImageRepository.saveAll(images);
+        applyImageSummary(savedReviews, images);
     }
 
     private void initGabiaeMenus() {
@@ -359,16 +364,19 @@ public class DataInitializer {
         // 리뷰 이미지 데이터 생성 (그랑주 실제 이미지 URL 사용)
         List<ReviewImage> images = Arrays.asList(
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(0).getId()) // 커피러버 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/d1850091-cf11-4bf9-94a5-998a6746042e")
                         .sortOrder(1)
                         .build(),
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(1).getId()) // 디저트퀸 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/17d5a32c-b0e8-444b-97e9-5b3bb5af722b")
                         .sortOrder(2)
                         .build(),
                 ReviewImage.builder()
+                        .storeId(storeId)
                         .reviewId(savedReviews.get(2).getId()) // 브런치맨 리뷰
                         .imageUrl("https://github.com/user-attachments/assets/ea5db312-4a4a-4acb-bc64-3afc79245526")
                         .sortOrder(3)
@@ -376,6 +384,22 @@ public class DataInitializer {
         );
         
         reviewImageRepository.saveAll(images);
+        applyImageSummary(savedReviews, images);
+    }
+
+    /**
+     * 리뷰 대표 이미지 / 이미지 수 반영 (리뷰 작성 API 와 동일하게 비정규화)
+     */
+    private void applyImageSummary(List<StoreReview> reviews, List<ReviewImage> images) {
+        for (StoreReview review : reviews) {
+            List<ReviewImage> own = images.stream()
+                    .filter(image -> image.getReviewId().equals(review.getId()))
+                    .sorted(Comparator.comparing(ReviewImage::getSortOrder))
+                    .toList();
+            review.setImageCount(own.size());
+            review.setRepImageUrl(own.isEmpty() ? null : own.get(0).getImageUrl());
+        }
+        storeReviewRepository.saveAll(reviews);
     }
 
     private void initGabiaeMenuBoardImages() {
@@ -419,7 +443,7 @@ public class DataInitializer {
 
     private void initDefaultStoreView() {
         storeRepository.findByName("가비애").ifPresent(store -> {
-            LocalDate defaultDate = StoreView.DEFAULT_VIEW_DATE;
+            LocalDate defaultDate = StoreView.today();
             storeViewRepository
                     .findByStoreIdAndViewDateAndIsActiveTrue(store.getId(), defaultDate)
                     .orElseGet(() -> storeViewRepository.save(
@@ -0,0 +1,59 @@
+package com.example.kakao_login.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 선택 테이블 존재 여부 (기동 시 한 번 확인)
+ * - schema.sql 적용 후 생성되므로 요청마다 information_schema 를 조회하지 않음
+ * - 확인에 실패하면 있다고 가정 (조회 시 오류는 호출 측에서 처리)
+ */
+@Slf4j
+@Component
+public class SchemaCapabilities {
+
+    public static final String POINT_HISTORY = "point_history";
+    public static final String POINT_MONTHLY_ROLLUPS = "point_monthly_rollups";
+
+    private static final List<String> OPTIONAL_TABLES = List.of(POINT_HISTORY, POINT_MONTHLY_ROLLUPS);
+
+    private static final String TABLES_SQL = """
+        SELECT table_name
+          FROM information_schema.tables
+         WHERE table_schema = DATABASE()
+           AND table_name IN (:tables)
+        """;
+
+    private final Set<String> present;
+
+    public SchemaCapabilities(NamedParameterJdbcTemplate jdbc) {
+        Set<String> found;
+        try {
+            found = new HashSet<>(jdbc.queryForList(TABLES_SQL,
+                    new MapSqlParameterSource("tables", OPTIONAL_TABLES), String.class));
+            log.info("선택 테이블 확인 - 존재: {}", found);
+        } catch (Exception e) {
+            found = new HashSet<>(OPTIONAL_TABLES);
+            log.warn("선택 테이블 확인 실패, 모두 있다고 가정 - error: {}", e.getMessage());
+        }
+        this.present = Set.copyOf(found);
+    }
+
+    public boolean hasTable(String table) {
+        return present.contains(table);
+    }
+
+    public boolean hasPointHistory() {
+        return hasTable(POINT_HISTORY);
+    }
+
+    public boolean hasPointMonthlyRollups() {
+        return hasTable(POINT_MONTHLY_ROLLUPS);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.kakao_login.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일회성 스키마 변경 / 데이터 보정 (schema.sql 적용 후, 기동 시 한 번 확인)
+ * - schema.sql 은 매 기동마다 실행되므로 CREATE TABLE IF NOT EXISTS 처럼 반복해도 되는 문장만 둠
+ * - 컬럼/인덱스 변경과 전체 테이블 보정은 여기서 버전별로 한 번만 실행하고 schema_migrations 에 기록
+ * - MySQL DDL 은 트랜잭션으로 묶이지 않으므로 DDL 단계는 information_schema 로 적용 여부를 확인 후 실행
+ *   (중간에 실패해 다시 실행돼도 끝난 단계는 건너뜀, 보정 SQL 은 다시 실행해도 같은 결과가 되게 작성)
+ * - 여러 노드가 동시에 기동해도 GET_LOCK 으로 한 노드만 실행
+ * - 실패하면 기동을 중단 (오류를 무시하지 않음)
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class SchemaMigrator {
+
+    private static final String LOCK_NAME = "schema_migrations";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    /** 실행 순서대로, 한 번 배포된 항목은 수정하지 않고 새 버전을 뒤에 추가 */
+    static final List<Migration> MIGRATIONS = List.of(
+        new Migration("user-point-counters-backfill",
+            "기존 원장으로 사용자별 리뷰 등록 횟수 / 지급한 마일스톤 채우기",
+            List.of(Step.sql("""
+                INSERT IGNORE INTO user_point_counters (user_id, review_count, milestones_granted, updated_at)
+                SELECT h.user_id, h.review_count,
+                       (h.review_count >= 10) * 1 | (h.review_count >= 20) * 2 | (h.review_count >= 30) * 4 | (h.review_count >= 40) * 8,
+                       NOW(6)
+                  FROM (SELECT user_id, COUNT(*) AS review_count
+                          FROM point_history
+                         WHERE type = 'EARN' AND reason LIKE '%리뷰 등록%'
+                         GROUP BY user_id) h
+                """))),
+        new Migration("point-monthly-rollups-backfill",
+            "기존 원장으로 월간 포인트 합계 채우기 + 포인트 내역 커서 페이지 인덱스",
+            List.of(
+                Step.sql("""
+                    INSERT IGNORE INTO point_monthly_rollups (user_id, month, earned, spent, updated_at)
+                    SELECT user_id,
+                           DATE_FORMAT(created_at, '%Y-%m-01'),
+                           SUM(CASE WHEN type = 'EARN'  THEN points ELSE 0 END),
+                           SUM(CASE WHEN type = 'SPEND' THEN points ELSE 0 END),
+                           NOW(6)
+                      FROM point_history
+                     GROUP BY user_id, DATE_FORMAT(created_at, '%Y-%m-01')
+                    """),
+                Step.addIndex("point_history", "idx_point_history_user_created", """
+                    ALTER TABLE point_history
+                        ADD INDEX idx_point_history_user_created (user_id, created_at DESC, id DESC)
+                    """))),
+        new Migration("review-image-summary",
+            "리뷰 대표 이미지 / 이미지 수 비정규화, 리뷰 이미지 매장ID (사진 모아보기) + 기존 데이터 보정",
+            List.of(
+                Step.addColumn("store_reviews", "rep_image_url", """
+                    ALTER TABLE store_reviews ADD COLUMN rep_image_url VARCHAR(500) NULL
+                    """),
+                Step.addColumn("store_reviews", "image_count", """
+                    ALTER TABLE store_reviews ADD COLUMN image_count INT NOT NULL DEFAULT 0
+                    """),
+                Step.addColumn("review_images", "store_id", """
+                    ALTER TABLE review_images ADD COLUMN store_id VARCHAR(36) NULL
+                    """),
+                Step.addIndex("review_images", "idx_image_store_created", """
+                    ALTER TABLE review_images
+                        ADD INDEX idx_image_store_created (store_id, created_at DESC, id DESC)
+                    """),
+                Step.sql("""
+                    UPDATE review_images ri
+                      JOIN store_reviews sr ON sr.id = ri.review_id
+                       SET ri.store_id = sr.store_id
+                     WHERE ri.store_id IS NULL
+                    """),
+                Step.sql("""
+                    UPDATE store_reviews sr
+                      JOIN (SELECT ri.review_id,
+                                   COUNT(*) AS image_count,
+                                   SUBSTRING_INDEX(GROUP_CONCAT(ri.image_url ORDER BY ri.sort_order, ri.id SEPARATOR '\\n'), '\\n', 1) AS rep_image_url
+                              FROM review_images ri
+                             WHERE ri.is_active = 1
+                             GROUP BY ri.review_id) a ON a.review_id = sr.id
+                       SET sr.image_count   = a.image_count,
+                           sr.rep_image_url = a.rep_image_url
+                     WHERE sr.rep_image_url IS NULL
+                    """))),
+        new Migration("review-feed-index",
+            "리뷰 피드 커서용 (store_id, created_at, id) 인덱스로 교체",
+            List.of(
+                // 새 인덱스를 먼저 만들어 store_id 조회가 인덱스 없이 남는 구간이 없도록 함
+                Step.addIndex("store_reviews", "idx_review_store_feed", """
+                    ALTER TABLE store_reviews
+                        ADD INDEX idx_review_store_feed (store_id, created_at DESC, id DESC)
+                    """),
+                Step.dropIndex("store_reviews", "idx_review_store_created"))),
+        new Migration("store-search-view-sort",
+            "모든 매장에 검색 뷰 행 채우기 + 검색 정렬 순서와 같은 (값 DESC, store_id) 인덱스로 교체",
+            List.of(
+                // 딜/찜 값은 기동 시 전체 재계산(StoreSearchViewUpdater)에서 채움, 여기서는 행 존재만 보장
+                Step.sql("""
+                    INSERT IGNORE INTO store_search_view
+                          (store_id, category_id, rating_avg, rating_count, popularity_score, updated_at)
+                    SELECT s.id, s.category_id, s.rating_avg, COALESCE(s.rating_count, 0),
+                           COALESCE(s.rating_count, 0) * 1.0, NOW(6)
+                      FROM stores s
+                    """),
+                Step.addIndex("store_search_view", "idx_ssv_discount_sort", """
+                    ALTER TABLE store_search_view
+                        ADD INDEX idx_ssv_discount_sort (best_discount_pct DESC, store_id)
+                    """),
+                Step.addIndex("store_search_view", "idx_ssv_popularity_sort", """
+                    ALTER TABLE store_search_view
+                        ADD INDEX idx_ssv_popularity_sort (popularity_score DESC, store_id)
+                    """),
+                Step.addIndex("store_search_view", "idx_ssv_rating_sort", """
+                    ALTER TABLE store_search_view
+                        ADD INDEX idx_ssv_rating_sort (rating_avg DESC, rating_count DESC, store_id)
+                    """),
+                Step.dropIndex("store_search_view", "idx_ssv_discount"),
+                Step.dropIndex("store_search_view", "idx_ssv_popularity"),
+                Step.dropIndex("store_search_view", "idx_ssv_rating")))
+    );
+
+    private static final String APPLIED_SQL = """
+        SELECT version FROM schema_migrations
+        """;
+
+    private static final String RECORD_SQL = """
+        INSERT INTO schema_migrations (version, description, applied_at) VALUES (?, ?, ?)
+        """;
+
+    private static final String COLUMN_EXISTS_SQL = """
+        SELECT COUNT(*) FROM information_schema.columns
+         WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+        """;
+
+    private static final String INDEX_EXISTS_SQL = """
+        SELECT COUNT(*) FROM information_schema.statistics
+         WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+        """;
+
+    public SchemaMigrator(JdbcTemplate jdbc) {
+        jdbc.execute((ConnectionCallback<Void>) con -> {
+            // GET_LOCK 은 세션 단위이므로 잠금과 마이그레이션을 같은 커넥션에서 실행
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+            Integer locked = session.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+            if (locked == null || locked != 1) {
+                throw new IllegalStateException("스키마 마이그레이션 잠금을 얻지 못했습니다.");
+            }
+            try {
+                migrate(session);
+            } finally {
+                session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(JdbcTemplate session) {
+        Set<String> applied = new HashSet<>(session.queryForList(APPLIED_SQL, String.class));
+        for (Migration migration : MIGRATIONS) {
+            if (applied.contains(migration.version())) {
+                continue;
+            }
+            long started = System.currentTimeMillis();
+            log.info("스키마 마이그레이션 시작 - version: {}, {}", migration.version(), migration.description());
+            for (Step step : migration.steps()) {
+                if (step.isSatisfied(session)) {
+                    log.info("스키마 마이그레이션 단계 건너뜀 (이미 적용) - version: {}, {}.{}",
+                            migration.version(), step.table(), step.name());
+                    continue;
+                }
+                int rows = session.update(step.sql());
+                log.debug("스키마 마이그레이션 단계 완료 - version: {}, rows: {}", migration.version(), rows);
+            }
+            session.update(RECORD_SQL, migration.version(), migration.description(), LocalDateTime.now());
+            log.info("스키마 마이그레이션 완료 - version: {}, 소요: {}ms",
+                    migration.version(), System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * 버전 하나 (단계는 순서대로 실행, 모두 끝나면 기록)
+     */
+    record Migration(String version, String description, List<Step> steps) {
+    }
+
+    /**
+     * 단계 하나
+     * @param check 이미 적용됐는지 확인 방법 (NONE 이면 항상 실행)
+     * @param table 확인 대상 테이블
+     * @param name 확인 대상 컬럼 / 인덱스
+     */
+    record Step(Check check, String table, String name, String sql) {
+
+        enum Check { NONE, COLUMN_MISSING, INDEX_MISSING, INDEX_PRESENT }
+
+        /** 다시 실행해도 같은 결과가 되는 문장 (보정 UPDATE / INSERT IGNORE) */
+        static Step sql(String sql) {
+            return new Step(Check.NONE, null, null, sql);
+        }
+
+        static Step addColumn(String table, String column, String ddl) {
+            return new Step(Check.COLUMN_MISSING, table, column, ddl);
+        }
+
+        static Step addIndex(String table, String index, String ddl) {
+            return new Step(Check.INDEX_MISSING, table, index, ddl);
+        }
+
+        static Step dropIndex(String table, String index) {
+            return new Step(Check.INDEX_PRESENT, table, index, "ALTER TABLE " + table + " DROP INDEX " + index);
+        }
+
+        boolean isSatisfied(JdbcTemplate session) {
+            return switch (check) {
+                case NONE -> false;
+                case COLUMN_MISSING -> exists(session, COLUMN_EXISTS_SQL);
+                case INDEX_MISSING -> exists(session, INDEX_EXISTS_SQL);
+                case INDEX_PRESENT -> !exists(session, INDEX_EXISTS_SQL);
+            };
+        }
+
+        private boolean exists(JdbcTemplate session, String sql) {
+            Integer count = session.queryForObject(sql, Integer.class, table, name);
+            return count != null && count > 0;
+        }
+    }
+}
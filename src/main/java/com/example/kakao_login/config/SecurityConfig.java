@@ -27,7 +27,7 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
 
-    /** 1) 액추에이터 전용 체인: health/info만 허용 (나머지 액추에이터는 차단) */
+    /** 1) 액추에이터 전용 체인: health/info만 허용, metrics는 로그인 사용자만 (나머지 액추에이터는 차단) */
     @Bean
     @Order(0)
     public SecurityFilterChain actuatorChain(HttpSecurity http) throws Exception {
@@ -37,6 +37,7 @@ public class SecurityConfig {
                 .cors(cors -> cors.disable())
                 .authorizeHttpRequests(a -> a
                         .requestMatchers(EndpointRequest.to("health", "info")).permitAll()
+                        .requestMatchers(EndpointRequest.to("metrics")).authenticated()
                         .anyRequest().denyAll()
                 );
         return http.build();
@@ -71,6 +72,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/menu-board-images/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/stores/*/favorite").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/stores/*/favorite").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/stores/favorites/sync").permitAll()
                         
                         // 리뷰 CRUD API 허용
                         .requestMatchers(HttpMethod.POST, "/api/v1/stores/reviews/**").permitAll()
@@ -87,6 +89,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, "/api/v1/test/**").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/test/**").permitAll()
 
+                        // 운영 API: 관리자만 (포인트 일괄 적립 / 진행 상태)
+                        .requestMatchers("/api/v1/points/accruals", "/api/v1/points/accruals/**").hasRole("ADMIN")
+
                         // 그 외는 인증 필요 (여기에 /api/auth/me 포함)
                         .anyRequest().authenticated()
                 )
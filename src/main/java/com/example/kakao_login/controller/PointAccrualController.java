@@ -0,0 +1,61 @@
+package com.example.kakao_login.controller;
+
+import com.example.kakao_login.common.ApiResponse;
+import com.example.kakao_login.dto.point.PointAccrualResponse;
+import com.example.kakao_login.dto.point.PointGrantRequest;
+import com.example.kakao_login.service.PointAccrualService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 포인트 일괄 적립 Controller (캠페인 지급)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/points/accruals")
+@RequiredArgsConstructor
+public class PointAccrualController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final PointAccrualService pointAccrualService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 포인트 일괄 적립
+     * - 본문: 한 줄에 적립 한 건 (NDJSON), 본문 전체를 메모리에 올리지 않고 읽으면서 청크 단위로 적립
+     * - grant_key 가 같은 항목은 한 번만 적립되므로 실패 시 같은 본문을 그대로 다시 보내면 됨
+     * - jobId: 진행 상태 조회용 작업 ID (생략 시 생성)
+     * - ADMIN 권한 필요 (SecurityConfig), 한 건당 / 작업당 포인트 상한 적용
+     */
+    @PostMapping(consumes = NDJSON)
+    public ApiResponse<PointAccrualResponse> accrue(
+        @RequestParam(required = false) String jobId,
+        HttpServletRequest request
+    ) throws IOException {
+        log.info("포인트 일괄 적립 요청 - jobId: {}", jobId);
+
+        try (MappingIterator<PointGrantRequest> grants = objectMapper.readerFor(PointGrantRequest.class)
+                .readValues(request.getInputStream())) {
+            PointAccrualResponse response = pointAccrualService.accrue(jobId, grants);
+            return ApiResponse.success(response);
+        }
+    }
+
+    /**
+     * 포인트 일괄 적립 진행 상태 조회
+     */
+    @GetMapping("/{jobId}")
+    public ApiResponse<PointAccrualResponse> getJob(@PathVariable("jobId") String jobId) {
+        log.debug("포인트 일괄 적립 상태 조회 요청 - jobId: {}", jobId);
+
+        PointAccrualResponse response = pointAccrualService.getJob(jobId);
+        return ApiResponse.success(response);
+    }
+}
@@ -5,10 +5,13 @@ import com.example.kakao_login.common.PageResult;
 import com.example.kakao_login.dto.search.FilterMetaResponse;
 import com.example.kakao_login.dto.search.StoreSearchRequest;
 import com.example.kakao_login.dto.search.StoreSummaryDto;
+import com.example.kakao_login.dto.search.SuggestionDto;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/search")
 @RequiredArgsConstructor
@@ -31,16 +34,26 @@ public class SearchController {
             @RequestParam(name="open_now", required = false) Boolean openNow,
             @RequestParam(name="has_deal", required = false) Boolean hasDeal,
             @RequestParam(name="distance_max_km", required = false) Double distanceMaxKm,
-            @RequestParam(required = false, defaultValue = "recent") String sort,
+            @RequestParam(required = false) String sort, // 미지정: 키워드 검색이면 관련도순, 아니면 recent
             @RequestParam(required = false, defaultValue = "1") Integer page,
             @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(name="include_total", required = false) Boolean includeTotal,
             @RequestHeader(name="X-USER-ID", required = false) String userId // JWT 연동 전 임시
     ){
         var req = new StoreSearchRequest(q, categoryId, tagIds, lat, lng, radiusKm, time,
-                dayOfWeek, openNow, hasDeal, distanceMaxKm, sort, page, size, userId);
+                dayOfWeek, openNow, hasDeal, distanceMaxKm, sort, page, size, cursor, includeTotal, userId);
         return ApiResponse.ok(service.searchStores(req));
     }
 
+    @GetMapping("/suggest")
+    public ApiResponse<List<SuggestionDto>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false, defaultValue = "10") Integer limit
+    ){
+        return ApiResponse.ok(service.suggest(q, limit));
+    }
+
     @GetMapping("/filters")
     public ApiResponse<FilterMetaResponse> getFilters(
             @RequestParam(required = false) Double lat,
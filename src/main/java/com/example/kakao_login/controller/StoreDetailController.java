@@ -1,6 +1,7 @@
 package com.example.kakao_login.controller;
 
 import com.example.kakao_login.common.ApiResponse;
+import com.example.kakao_login.dto.store.StoreBatchResponse;
 import com.example.kakao_login.dto.store.StoreDetailResponse;
 import com.example.kakao_login.dto.store.TodaysPopularStoreResponse;
 import com.example.kakao_login.dto.store.HotMorningSaleResponse;
@@ -9,10 +10,14 @@ import com.example.kakao_login.service.StoreDetailService;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * 매장 상세 조회 Controller
@@ -28,18 +33,42 @@ public class StoreDetailController {
 
     /**
      * 매장 상세 정보 조회
+     * - 응답에 강한 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304 반환
      */
     @GetMapping("/{storeId}")
-    public ApiResponse<StoreDetailResponse> getStoreDetail(
+    public ResponseEntity<ApiResponse<StoreDetailResponse>> getStoreDetail(
         @PathVariable 
         @NotBlank(message = "매장 ID는 필수입니다") 
         String storeId,
         
         @RequestHeader(name = "X-USER-ID", required = false) 
+        String userId,
+
+        WebRequest webRequest
+    ) {
+        StoreDetailService.TaggedStoreDetail detail = storeDetailService.getStoreDetail(storeId, userId);
+        if (webRequest.checkNotModified(detail.etag())) {
+            return null; // 304 (ETag 헤더는 checkNotModified 가 설정)
+        }
+        return ResponseEntity.ok()
+            .eTag(detail.etag())
+            .cacheControl(CacheControl.noCache())
+            .body(ApiResponse.success(detail.response()));
+    }
+
+    /**
+     * 매장 일괄 조회 (찜 목록 / 모닝 세일 카드 / 지도 핀)
+     * - ids=a,b,c (최대 StoreDetailService.MAX_BATCH_SIZE 개), 매장별 실패는 errors 로 응답
+     */
+    @GetMapping("/batch")
+    public ApiResponse<StoreBatchResponse> getStoreDetails(
+        @RequestParam("ids")
+        List<String> storeIds,
+
+        @RequestHeader(name = "X-USER-ID", required = false)
         String userId
     ) {
-        StoreDetailResponse response = storeDetailService.getStoreDetail(storeId, userId);
-        return ApiResponse.success(response);
+        return ApiResponse.success(storeDetailService.getStoreDetails(storeIds, userId));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.example.kakao_login.controller;
 import com.example.kakao_login.common.ApiResponse;
 import com.example.kakao_login.dto.review.ReviewUpdateRequest;
 import com.example.kakao_login.dto.review.ReviewCreateRequest;
+import com.example.kakao_login.dto.review.StorePhotosResponse;
 import com.example.kakao_login.dto.review.StoreReviewsResponse;
 import com.example.kakao_login.dto.review.UserReviewResponse;
 import com.example.kakao_login.exception.ReviewAccessDeniedException;
@@ -29,16 +30,21 @@ public class StoreReviewController {
     private final StoreReviewService storeReviewService;
 
     /**
-     * 매장 리뷰 목록 조회
+     * 매장 리뷰 목록 조회 (커서 페이지네이션)
      * @param storeId 매장 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 50)
      * @return 매장 리뷰 응답
      */
     @GetMapping("/{storeId}/reviews")
-    public ResponseEntity<ApiResponse<StoreReviewsResponse>> getStoreReviews(@PathVariable String storeId) {
-        log.debug("매장 리뷰 조회 요청 - storeId: {}", storeId);
+    public ResponseEntity<ApiResponse<StoreReviewsResponse>> getStoreReviews(
+            @PathVariable String storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + StoreReviewService.DEFAULT_PAGE_SIZE) int size) {
+        log.debug("매장 리뷰 조회 요청 - storeId: {}, cursor: {}", storeId, cursor);
 
         try {
-            StoreReviewsResponse response = storeReviewService.getStoreReviews(storeId);
+            StoreReviewsResponse response = storeReviewService.getStoreReviews(storeId, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(response));
 
         } catch (StoreNotFoundException e) {
@@ -53,6 +59,36 @@ public class StoreReviewController {
         }
     }
 
+    /**
+     * 매장 사진 모아보기 (커서 페이지네이션)
+     * @param storeId 매장 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 50)
+     * @return 매장 사진 응답
+     */
+    @GetMapping("/{storeId}/photos")
+    public ResponseEntity<ApiResponse<StorePhotosResponse>> getStorePhotos(
+            @PathVariable String storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + StoreReviewService.DEFAULT_PAGE_SIZE) int size) {
+        log.debug("매장 사진 조회 요청 - storeId: {}, cursor: {}", storeId, cursor);
+
+        try {
+            StorePhotosResponse response = storeReviewService.getStorePhotos(storeId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+
+        } catch (StoreNotFoundException e) {
+            log.warn("매장을 찾을 수 없음 - storeId: {}", storeId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail("매장을 찾을 수 없습니다.", 404));
+
+        } catch (StoreReviewServiceException e) {
+            log.error("매장 사진 조회 실패 - storeId: {}", storeId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.fail("매장 사진 조회 중 오류가 발생했습니다.", 500));
+        }
+    }
+
     /**
      * 사용자 리뷰 목록 조회
      * @param userId 사용자 ID
@@ -30,7 +30,7 @@ public class TestController {
 
     @GetMapping("/stores")
     public ApiResponse<List<Map<String, Object>>> getStores() {
-        List<Map<String, Object>> stores = storeRepository.findAll().stream()
+        List<Map<String, Object>> stores = storeRepository.findAllListings().stream()
                 .map(store -> {
                     Map<String, Object> storeMap = new HashMap<>();
                     storeMap.put("id", store.getId());
@@ -71,7 +71,7 @@ public class TestController {
      */
     @GetMapping("/store-views/today")
     public ApiResponse<Object> getTodayStoreViews() {
-        java.time.LocalDate defaultDate = com.example.kakao_login.entity.StoreView.DEFAULT_VIEW_DATE;
+        java.time.LocalDate defaultDate = com.example.kakao_login.entity.StoreView.today();
         var views = storeViewRepository.findByViewDateOrderByViewCountDesc(defaultDate);
         
         var result = new HashMap<String, Object>();
@@ -94,7 +94,7 @@ public class TestController {
     public ApiResponse<String> incrementStoreView(@RequestParam String storeId) {
         // StoreDetailService를 직접 주입받지 않고 여기서 로직 구현
         try {
-            java.time.LocalDate defaultDate = com.example.kakao_login.entity.StoreView.DEFAULT_VIEW_DATE;
+            java.time.LocalDate defaultDate = com.example.kakao_login.entity.StoreView.today();
             
             // 기존 조회수 레코드 조회
             var existingView = storeViewRepository.findByStoreIdAndViewDateAndIsActiveTrue(storeId, defaultDate)
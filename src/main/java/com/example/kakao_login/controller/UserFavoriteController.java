@@ -2,6 +2,7 @@ package com.example.kakao_login.controller;
 
 import com.example.kakao_login.common.ApiResponse;
 import com.example.kakao_login.dto.favorite.FavoriteResponse;
+import com.example.kakao_login.dto.favorite.FavoriteSyncRequest;
 import com.example.kakao_login.service.UserFavoriteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -24,11 +25,12 @@ public class UserFavoriteController {
         @PathVariable String storeId,
         @RequestHeader("X-User-Id") String userId
     ) {
-        userFavoriteService.addFavorite(userId, storeId);
+        boolean changed = userFavoriteService.addFavorite(userId, storeId);
         
         FavoriteResponse.ToggleResponse response = FavoriteResponse.ToggleResponse.builder()
             .isFavorite(true)
-            .message("즐겨찾기에 추가되었습니다")
+            .changed(changed)
+            .message(changed ? "즐겨찾기에 추가되었습니다" : "이미 즐겨찾기한 매장입니다")
             .build();
             
         return ApiResponse.success(response);
@@ -42,16 +44,29 @@ public class UserFavoriteController {
         @PathVariable String storeId,
         @RequestHeader("X-User-Id") String userId
     ) {
-        userFavoriteService.removeFavorite(userId, storeId);
+        boolean changed = userFavoriteService.removeFavorite(userId, storeId);
         
         FavoriteResponse.ToggleResponse response = FavoriteResponse.ToggleResponse.builder()
             .isFavorite(false)
-            .message("즐겨찾기에서 삭제되었습니다")
+            .changed(changed)
+            .message(changed ? "즐겨찾기에서 삭제되었습니다" : "즐겨찾기하지 않은 매장입니다")
             .build();
             
         return ApiResponse.success(response);
     }
 
+    /**
+     * 즐겨찾기 일괄 동기화 (오프라인 중 쌓인 추가/해제 기록)
+     */
+    @PostMapping("/favorites/sync")
+    public ApiResponse<FavoriteResponse.SyncResponse> syncFavorites(
+        @RequestBody FavoriteSyncRequest request,
+        @RequestHeader("X-User-Id") String userId
+    ) {
+        FavoriteResponse.SyncResponse response = userFavoriteService.syncFavorites(userId, request);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 즐겨찾기한 매장 목록 조회
      */
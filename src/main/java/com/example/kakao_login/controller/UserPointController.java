@@ -33,15 +33,18 @@ public class UserPointController {
     }
 
     /**
-     * 사용자 포인트 적립 내역 조회
+     * 사용자 포인트 적립 내역 조회 (커서 페이지네이션)
+     * - cursor: 이전 응답의 next_cursor (첫 페이지면 생략)
      */
     @GetMapping("/{userId}/points/history")
     public ApiResponse<PointHistoryResponse.PointHistoryListResponse> getPointHistory(
-        @PathVariable("userId") String userId
+        @PathVariable("userId") String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + UserPointService.DEFAULT_HISTORY_PAGE_SIZE) int size
     ) {
-        log.debug("사용자 포인트 적립 내역 조회 요청 - userId: {}", userId);
+        log.debug("사용자 포인트 적립 내역 조회 요청 - userId: {}, cursor: {}", userId, cursor);
         
-        PointHistoryResponse.PointHistoryListResponse response = userPointService.getPointHistory(userId);
+        PointHistoryResponse.PointHistoryListResponse response = userPointService.getPointHistory(userId, cursor, size);
         return ApiResponse.success(response);
     }
 }
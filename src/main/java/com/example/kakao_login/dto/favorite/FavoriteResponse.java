@@ -17,10 +17,27 @@ public class FavoriteResponse {
     public record ToggleResponse(
         @JsonProperty("is_favorite")
         boolean isFavorite, // 즐겨찾기 상태
+
+        boolean changed, // 이번 요청으로 상태가 바뀌었는지 (이미 같은 상태였으면 false)
         
         String message // 처리 결과 메시지
     ) {}
 
+    /**
+     * 즐겨찾기 일괄 동기화 응답
+     */
+    @Builder
+    public record SyncResponse(
+        @JsonProperty("added_store_ids")
+        List<String> addedStoreIds, // 새로 추가된 매장 ID
+
+        @JsonProperty("removed_store_ids")
+        List<String> removedStoreIds, // 해제된 매장 ID
+
+        @JsonProperty("unchanged_count")
+        int unchangedCount // 이미 요청한 상태라 바뀌지 않은 매장 수
+    ) {}
+
     /**
      * 즐겨찾기 매장 목록 응답
      */
@@ -0,0 +1,50 @@
+package com.example.kakao_login.dto.favorite;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 일괄 동기화 요청 DTO (오프라인 중 쌓인 추가/해제를 한 번에 반영)
+ */
+@Builder
+public record FavoriteSyncRequest(
+    @JsonProperty("toggles")
+    List<Toggle> toggles // 추가/해제 기록 (발생 순서, 같은 매장은 마지막 기록이 최종 상태)
+) {
+    public static final int MAX_TOGGLES = 200;
+
+    /**
+     * 추가/해제 기록 한 건
+     */
+    @Builder
+    public record Toggle(
+        @JsonProperty("store_id")
+        String storeId, // 매장 ID
+
+        @JsonProperty("is_favorite")
+        Boolean isFavorite // true: 추가, false: 해제
+    ) {}
+
+    /**
+     * 유효성 검사
+     * @throws IllegalArgumentException 유효하지 않은 경우
+     */
+    public void validate() {
+        if (toggles == null || toggles.isEmpty()) {
+            throw new IllegalArgumentException("동기화할 즐겨찾기 기록이 없습니다.");
+        }
+        if (toggles.size() > MAX_TOGGLES) {
+            throw new IllegalArgumentException("즐겨찾기 기록은 한 번에 " + MAX_TOGGLES + "건까지 보낼 수 있습니다.");
+        }
+        for (Toggle toggle : toggles) {
+            if (toggle == null || toggle.storeId() == null || toggle.storeId().trim().isEmpty()) {
+                throw new IllegalArgumentException("매장 ID는 필수입니다.");
+            }
+            if (toggle.isFavorite() == null) {
+                throw new IllegalArgumentException("is_favorite 는 필수입니다.");
+            }
+        }
+    }
+}
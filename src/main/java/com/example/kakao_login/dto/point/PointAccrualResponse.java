@@ -0,0 +1,50 @@
+package com.example.kakao_login.dto.point;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 일괄 적립 작업 진행 상태 응답 DTO
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PointAccrualResponse(
+    @JsonProperty("job_id")
+    String jobId, // 작업 ID
+
+    @JsonProperty("status")
+    String status, // RUNNING / COMPLETED / FAILED
+
+    @JsonProperty("received")
+    Long received, // 읽은 요청 수
+
+    @JsonProperty("applied")
+    Long applied, // 적립한 건수
+
+    @JsonProperty("duplicates")
+    Long duplicates, // 이미 적립된 멱등 키라 건너뛴 건수
+
+    @JsonProperty("rejected")
+    Long rejected, // 유효성 검사 실패 건수
+
+    @JsonProperty("failed")
+    Long failed, // 처리 오류로 적립하지 못한 건수 (같은 요청을 다시 보내면 재시도)
+
+    @JsonProperty("points_applied")
+    Long pointsApplied, // 적립한 포인트 합계
+
+    @JsonProperty("grants_per_second")
+    Double grantsPerSecond, // 처리량 (요청 건/초)
+
+    @JsonProperty("started_at")
+    LocalDateTime startedAt,
+
+    @JsonProperty("finished_at")
+    LocalDateTime finishedAt,
+
+    @JsonProperty("error")
+    String error // 작업 실패 사유
+) {}
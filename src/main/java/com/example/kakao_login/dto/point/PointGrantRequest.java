@@ -0,0 +1,46 @@
+package com.example.kakao_login.dto.point;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+/**
+ * 포인트 일괄 적립 요청 한 건 (NDJSON 한 줄)
+ */
+@Builder
+public record PointGrantRequest(
+    @JsonProperty("grant_key")
+    String grantKey, // 멱등 키 (같은 키는 한 번만 적립, 최대 100자)
+
+    @JsonProperty("user_id")
+    String userId, // 사용자 ID
+
+    @JsonProperty("points")
+    Integer points, // 적립 포인트 (1 ~ MAX_POINTS)
+
+    @JsonProperty("reason")
+    String reason // 적립 사유
+) {
+    public static final int MAX_GRANT_KEY_LENGTH = 100;
+    public static final int MAX_REASON_LENGTH = 255;
+    /** 한 건당 적립 상한 (캠페인 지급 단위를 넘는 값은 입력 오류로 봄) */
+    public static final int MAX_POINTS = 100_000;
+
+    /**
+     * 유효성 검사
+     * @throws IllegalArgumentException 유효하지 않은 경우
+     */
+    public void validate() {
+        if (grantKey == null || grantKey.isBlank() || grantKey.length() > MAX_GRANT_KEY_LENGTH) {
+            throw new IllegalArgumentException("grant_key는 1~" + MAX_GRANT_KEY_LENGTH + "자여야 합니다.");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        if (points == null || points <= 0 || points > MAX_POINTS) {
+            throw new IllegalArgumentException("적립 포인트는 1~" + MAX_POINTS + " 사이여야 합니다.");
+        }
+        if (reason == null || reason.isBlank() || reason.length() > MAX_REASON_LENGTH) {
+            throw new IllegalArgumentException("적립 사유는 1~" + MAX_REASON_LENGTH + "자여야 합니다.");
+        }
+    }
+}
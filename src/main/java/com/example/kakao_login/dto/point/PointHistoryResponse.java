@@ -28,8 +28,32 @@ public class PointHistoryResponse {
         @JsonProperty("total_spent")
         Integer totalSpent, // 총 사용 포인트
         
+        @JsonProperty("monthly")
+        List<MonthlySummary> monthly, // 최근 월별 적립/사용 합계 (최근 월부터)
+
         @JsonProperty("history")
-        List<PointHistoryItem> history // 포인트 적립 내역 목록
+        List<PointHistoryItem> history, // 포인트 적립 내역 목록 (현재 페이지)
+
+        @JsonProperty("has_next")
+        Boolean hasNext, // 다음 페이지 존재 여부
+
+        @JsonProperty("next_cursor")
+        String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
+    ) {}
+
+    /**
+     * 월별 적립/사용 합계
+     */
+    @Builder
+    public record MonthlySummary(
+        @JsonProperty("month")
+        String month, // yyyy-MM
+
+        @JsonProperty("earned")
+        Long earned, // 적립 합계
+
+        @JsonProperty("spent")
+        Long spent // 사용 합계
     ) {}
 
     /**
@@ -0,0 +1,35 @@
+package com.example.kakao_login.dto.review;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 매장 사진 모아보기 응답 DTO (커서 페이지 단위, 최신순)
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StorePhotosResponse(
+    @JsonProperty("photos")
+    List<Photo> photos, // 사진 목록 (현재 페이지)
+
+    @JsonProperty("has_next")
+    Boolean hasNext, // 다음 페이지 존재 여부
+
+    @JsonProperty("next_cursor")
+    String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
+) {
+    /**
+     * 사진 DTO
+     */
+    @Builder
+    public record Photo(
+        String id, // 이미지 ID
+        @JsonProperty("review_id")
+        String reviewId, // 사진이 달린 리뷰 ID
+        @JsonProperty("image_url")
+        String imageUrl // 이미지 URL
+    ) {}
+}
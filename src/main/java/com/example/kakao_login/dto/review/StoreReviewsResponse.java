@@ -10,6 +10,7 @@ import java.util.List;
 /**
  * 매장 리뷰 조회 응답 DTO
  * - UI 기반: 방문자 TMI(태그), AI 리뷰 요약, 일반 리뷰, 포토 리뷰
+ * - 리뷰 목록은 커서 페이지 단위, AI 요약/사진 모아보기는 첫 페이지에만 포함
  */
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -21,7 +22,13 @@ public record StoreReviewsResponse(
     List<String> photos, // 사진 URL 리스트 (ID 없이)
 
     @JsonProperty("reviews")
-    List<Review> reviews // 리뷰 목록
+    List<Review> reviews, // 리뷰 목록 (현재 페이지)
+
+    @JsonProperty("has_next")
+    Boolean hasNext, // 다음 페이지 존재 여부
+
+    @JsonProperty("next_cursor")
+    String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
 ) {
     /**
      * AI 리뷰 요약 DTO
@@ -40,7 +47,11 @@ public record StoreReviewsResponse(
         @JsonProperty("user_nickname")
         String userNickname, // 작성자 닉네임
         Double rating, // 평점 (1.0-5.0)
-        String content // 리뷰 내용
+        String content, // 리뷰 내용
+        @JsonProperty("rep_image_url")
+        String repImageUrl, // 대표 이미지 URL (포토 리뷰가 아니면 null)
+        @JsonProperty("image_count")
+        Integer imageCount // 이미지 수 (전체 사진은 사진 모아보기 API)
     ) {
         public Review {
             if (rating != null && (rating < 1.0 || rating > 5.0)) {
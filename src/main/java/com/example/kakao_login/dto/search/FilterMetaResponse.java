@@ -6,8 +6,12 @@ public record FilterMetaResponse(
         List<Category> categories,
         List<Tag> tags,
         List<String> sortOptions,
-        List<String> timeSlots
+        List<String> timeSlots,
+        Integer storeCount,             // 조건 내 매장 수 (집계 준비 전이면 null)
+        Integer dealCount,              // 딜 보유 매장 수
+        List<TimeSlotCount> timeSlotCounts // 오늘 시간대별 영업 매장 수
 ) {
-    public record Category(String id, String name, String parentId) {}
+    public record Category(String id, String name, String parentId, Integer count) {}
+    public record TimeSlotCount(String slot, Integer count) {}
     public record Tag(String id, String name, String type, Integer count) {}
 }
\ No newline at end of file
@@ -14,12 +14,16 @@ public record StoreSearchRequest(
         Boolean openNow,
         Boolean hasDeal,
         Double distanceMaxKm,
-        String sort,           // distance|popularity|discount|rating|recent
+        String sort,           // distance|popularity|discount|rating|recent (null: 키워드 관련도순 또는 recent)
         Integer page,
         Integer size,
+        String cursor,         // 이전 응답의 next_cursor (있으면 page 무시)
+        Boolean includeTotal,  // 전체 건수 집계 여부 (null이면 page 모드만 집계)
         String userId          // 로그인 사용자 (is_favorite 계산용)
 ) {
     public int pageOrDefault(){ return page == null || page < 1 ? 1 : page; }
     public int sizeOrDefault(){ return size == null || size < 1 ? 20 : size; }
     public boolean hasKeyword(){ return StringUtils.hasText(q); }
+    public boolean hasCursor(){ return StringUtils.hasText(cursor); }
+    public boolean includeTotalOrDefault(){ return includeTotal != null ? includeTotal : !hasCursor(); }
 }
@@ -18,5 +18,16 @@ public record StoreSummaryDto(
         Earlybird earlybird
 ){
     public record Rating(Double avg, Integer count){}
+
+    public StoreSummaryDto withOpenState(Boolean openNow, String nextOpen){
+        return new StoreSummaryDto(id, name, address, repImageUrl, distanceKm, rating, openNow,
+                nextOpen, isFavorite, categories, tags, menus, earlybird);
+    }
+
+    public StoreSummaryDto withFavorite(Boolean favorite){
+        return new StoreSummaryDto(id, name, address, repImageUrl, distanceKm, rating, isOpenNow,
+                nextOpenTime, favorite, categories, tags, menus, earlybird);
+    }
+
     public record Earlybird(Boolean hasDeal, Integer bestDiscountPct, String dealId, String timeWindow){}
 }
@@ -0,0 +1,7 @@
+package com.example.kakao_login.dto.search;
+
+public record SuggestionDto(
+        String text,
+        String type,    // STORE | MENU | TAG
+        String id       // 매장/태그 ID (메뉴는 null)
+) {}
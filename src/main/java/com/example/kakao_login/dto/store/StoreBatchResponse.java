@@ -0,0 +1,33 @@
+package com.example.kakao_login.dto.store;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * 매장 일괄 조회 응답 DTO
+ * - 요청한 매장 ID를 키로 성공한 매장은 stores, 실패한 매장은 errors 에 담음 (요청 순서 유지)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StoreBatchResponse(
+    Map<String, StoreDetailResponse> stores, // 매장 ID → 상세 정보
+
+    Map<String, ItemError> errors // 매장 ID → 실패 사유
+) {
+
+    /**
+     * 매장별 실패 사유
+     */
+    public record ItemError(
+        String code, // STORE_NOT_FOUND | STORE_DETAIL_ERROR
+        String message
+    ) {
+        public static ItemError notFound() {
+            return new ItemError("STORE_NOT_FOUND", "매장을 찾을 수 없습니다");
+        }
+
+        public static ItemError failed() {
+            return new ItemError("STORE_DETAIL_ERROR", "매장 상세 조회 실패");
+        }
+    }
+}
@@ -138,6 +138,14 @@ public record StoreDetailResponse(
         }
     }
 
+    /**
+     * 사용자 컨텍스트만 바꾼 사본 (캐시된 공통 응답에 사용자별 정보 덧씌우기)
+     */
+    public StoreDetailResponse withUserContext(UserContext userContext) {
+        return new StoreDetailResponse(storeId, name, address, repImageUrl, aiRecommendation, location,
+            externalLinks, ratingAvg, totalReviews, averageRating, businessInfo, discountInfo, userContext, menus);
+    }
+
     /**
      * 성공 응답 생성 헬퍼 메서드
      */
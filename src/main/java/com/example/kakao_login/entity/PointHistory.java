@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @Table(name = "point_history",
     indexes = {
         @Index(name = "idx_point_history_user_id", columnList = "user_id"),
+        @Index(name = "idx_point_history_user_created", columnList = "user_id, created_at DESC, id DESC"),
         @Index(name = "idx_point_history_created_at", columnList = "created_at")
     }
 )
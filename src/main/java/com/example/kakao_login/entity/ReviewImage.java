@@ -8,10 +8,12 @@ import org.hibernate.annotations.UuidGenerator;
  * 리뷰 이미지 엔티티
  * - S3에 저장된 이미지 URL만 관리
  * - 1개 리뷰당 여러 이미지 가능
+ * - 매장 사진 모아보기용으로 매장ID 비정규화 (store_id, created_at 인덱스)
  */
 @Entity
 @Table(name = "review_images", indexes = {
     @Index(name = "idx_image_review_order", columnList = "review_id, sort_order"),
+    @Index(name = "idx_image_store_created", columnList = "store_id, created_at DESC, id DESC"),
     @Index(name = "idx_image_active", columnList = "is_active")
 })
 @Getter @Setter
@@ -28,6 +30,9 @@ public class ReviewImage extends BaseEntity {
     @Column(name = "review_id", nullable = false, length = 36)
     private String reviewId; // 리뷰ID
 
+    @Column(name = "store_id", length = 36)
+    private String storeId; // 매장ID (비정규화)
+
     @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl; // S3 이미지 URL
 
@@ -37,6 +37,7 @@ public class Store extends BaseEntity {
     @Column(nullable = false, length = 100)
     private String name; // 매장명
 
+    @Basic(fetch = FetchType.LAZY) // 바이트코드 향상 적용 시 실제 접근할 때만 조회 (상세 화면 외에는 읽지 않음)
     @Column(name = "ai_recommendation", columnDefinition = "TEXT")
     private String aiRecommendation; // AI추천메시지
 
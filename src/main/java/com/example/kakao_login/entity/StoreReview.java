@@ -12,7 +12,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "store_reviews", indexes = {
-    @Index(name = "idx_review_store_created", columnList = "store_id, created_at DESC"),
+    @Index(name = "idx_review_store_feed", columnList = "store_id, created_at DESC, id DESC"),
     @Index(name = "idx_review_active", columnList = "is_active"),
     @Index(name = "idx_review_rating", columnList = "rating")
 })
@@ -42,6 +42,13 @@ public class StoreReview extends BaseEntity {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content; // 리뷰 내용
 
+    @Column(name = "rep_image_url", length = 500)
+    private String repImageUrl; // 대표 이미지 URL (첫 번째 이미지, 작성 시 비정규화)
+
+    @Builder.Default
+    @Column(name = "image_count", nullable = false)
+    private Integer imageCount = 0; // 이미지 수 (작성 시 비정규화)
+
     /**
      * 평점 유효성 검증
      */
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 /**
  * 매장 조회수 엔티티
@@ -20,10 +21,14 @@ import java.time.LocalDate;
 @Builder
 public class StoreView extends BaseEntity {
 
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
     /**
-     * 조회수를 일자와 무관하게 누적하기 위한 기본 날짜
+     * 조회수 집계 일자 (서울 기준 오늘)
      */
-    public static final LocalDate DEFAULT_VIEW_DATE = LocalDate.of(2000, 1, 1);
+    public static LocalDate today() {
+        return LocalDate.now(SEOUL);
+    }
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
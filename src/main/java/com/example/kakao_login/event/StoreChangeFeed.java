@@ -0,0 +1,146 @@
+package com.example.kakao_login.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 변경 감지 피드
+ * - updated_at 워터마크 기반으로 변경된 매장을 주기적으로 조회해 StoreChangedEvent 발행
+ * - 애플리케이션 외부(DB 직접 수정 등)에서 발생한 변경도 감지
+ * - 하드 삭제(매장 태그 해제, 요일 영업시간 삭제 등)는 감지하지 못하므로 각 인덱스는 주기적 전체 재구축을 병행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreChangeFeed {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /*
+     * 감시 대상별 변경 조회 (row_id: 워터마크 경계 중복 제거용 행 식별자)
+     * - 연결 테이블은 ID 컬럼이 없으므로 자연키로 행을 식별
+     * - 태그 자체(이름/종류) 변경은 그 태그가 붙은 매장들의 변경으로 봄
+     */
+    private static final String STORES_SQL = """
+        SELECT id AS row_id, id AS store_id, updated_at FROM stores WHERE updated_at >= :since
+        """;
+    private static final String MENU_ITEMS_SQL = """
+        SELECT id AS row_id, store_id, updated_at FROM menu_items WHERE updated_at >= :since
+        """;
+    private static final String EARLYBIRD_DEALS_SQL = """
+        SELECT id AS row_id, store_id, updated_at FROM earlybird_deals WHERE updated_at >= :since
+        """;
+    private static final String STORE_TAGS_SQL = """
+        SELECT CONCAT(st.store_id, ':', st.tag_id) AS row_id, st.store_id, st.updated_at
+          FROM store_tags st
+         WHERE st.updated_at >= :since
+        """;
+    private static final String TAGS_SQL = """
+        SELECT CONCAT(t.id, ':', st.store_id) AS row_id, st.store_id, t.updated_at
+          FROM tags t
+          JOIN store_tags st ON st.tag_id = t.id
+         WHERE t.updated_at >= :since
+        """;
+    private static final String STORE_OPEN_HOUR_SQL = """
+        SELECT CONCAT(h.store_id, ':', h.day_of_week) AS row_id, h.store_id, h.updated_at
+          FROM store_open_hour h
+         WHERE h.updated_at >= :since
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ApplicationEventPublisher publisher;
+
+    /** 테이블별 워터마크 */
+    private final Map<String, Watermark> watermarks = new HashMap<>();
+
+    @Scheduled(initialDelayString = "${app.change-feed.poll-interval-ms:5000}",
+               fixedDelayString = "${app.change-feed.poll-interval-ms:5000}")
+    public void poll() {
+        poll("stores", STORES_SQL, StoreChangedEvent.Type.STORE);
+        poll("menu_items", MENU_ITEMS_SQL, StoreChangedEvent.Type.MENU);
+        poll("earlybird_deals", EARLYBIRD_DEALS_SQL, StoreChangedEvent.Type.DEAL);
+        poll("store_tags", STORE_TAGS_SQL, StoreChangedEvent.Type.TAG);
+        poll("tags", TAGS_SQL, StoreChangedEvent.Type.TAG);
+        poll("store_open_hour", STORE_OPEN_HOUR_SQL, StoreChangedEvent.Type.OPEN_HOURS);
+    }
+
+    /**
+     * 테이블 하나를 워터마크 이후로 조회해 변경 이벤트 발행
+     * @param table 테이블명 (상수만 사용)
+     * @param changedSql 워터마크(:since) 이후 변경 행 조회 (row_id, store_id, updated_at)
+     * @param type 발행할 이벤트 타입
+     */
+    private void poll(String table, String changedSql, StoreChangedEvent.Type type) {
+        try {
+            Watermark since = watermarks.get(table);
+            if (since == null) {
+                // 최초 실행: 현재 시점을 기준점으로만 잡음 (초기 적재는 각 인덱스가 담당)
+                Timestamp max = jdbc.queryForObject(
+                    "SELECT MAX(updated_at) FROM " + table, new MapSqlParameterSource(), Timestamp.class);
+                watermarks.put(table, new Watermark(max != null ? max.toLocalDateTime() : EPOCH, Set.of()));
+                return;
+            }
+
+            Set<String> storeIds = new HashSet<>();
+            Watermark next = new Watermark(since.at(), new HashSet<>(since.rowIds()));
+            // 같은 시각에 커밋된 행을 놓치지 않도록 >= 로 조회하고, 이미 처리한 경계 행은 건너뜀
+            jdbc.query(changedSql,
+                new MapSqlParameterSource("since", since.at()),
+                rs -> {
+                    String rowId = rs.getString("row_id");
+                    LocalDateTime updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+                    if (updatedAt.equals(since.at()) && since.rowIds().contains(rowId)) {
+                        return;
+                    }
+                    storeIds.add(rs.getString("store_id"));
+                    next.advance(updatedAt, rowId);
+                });
+            watermarks.put(table, next);
+
+            if (!storeIds.isEmpty()) {
+                log.debug("매장 변경 감지 - table: {}, 매장수: {}", table, storeIds.size());
+                publisher.publishEvent(new StoreChangedEvent(type, storeIds));
+            }
+        } catch (Exception e) {
+            log.warn("매장 변경 감지 실패 - table: {}, error: {}", table, e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 확인 시각과 그 시각에 처리한 행 ID 목록
+     */
+    private static final class Watermark {
+        private LocalDateTime at;
+        private final Set<String> rowIds;
+
+        private Watermark(LocalDateTime at, Set<String> rowIds) {
+            this.at = at;
+            this.rowIds = rowIds;
+        }
+
+        LocalDateTime at() { return at; }
+        Set<String> rowIds() { return rowIds; }
+
+        void advance(LocalDateTime updatedAt, String rowId) {
+            if (updatedAt.isAfter(at)) {
+                at = updatedAt;
+                rowIds.clear();
+            }
+            if (updatedAt.equals(at)) {
+                rowIds.add(rowId);
+            }
+        }
+    }
+}
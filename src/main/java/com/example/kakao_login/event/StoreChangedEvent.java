@@ -0,0 +1,25 @@
+package com.example.kakao_login.event;
+
+import java.util.Set;
+
+/**
+ * 매장 관련 데이터 변경 이벤트
+ * - 인메모리 인덱스/캐시가 해당 매장만 부분 갱신하도록 알림
+ * @param type 변경된 데이터 종류
+ * @param storeIds 변경된 매장 ID 목록
+ */
+public record StoreChangedEvent(Type type, Set<String> storeIds) {
+
+    public enum Type {
+        STORE, // 매장 기본정보 (좌표, 활성상태 등)
+        MENU,  // 메뉴
+        DEAL,  // 얼리버드 딜
+        REVIEW, // 리뷰 (작성/수정/삭제, 앱 내부 쓰기에서 발행)
+        TAG,   // 매장 태그 연결 / 태그 정보
+        OPEN_HOURS // 영업시간 (store_open_hour)
+    }
+
+    public static StoreChangedEvent of(Type type, String storeId) {
+        return new StoreChangedEvent(type, Set.of(storeId));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 얼리버드 딜 상태 전이 쓰기
+ * - 종료 시각이 지난 ACTIVE 딜을 EXPIRED 로 일괄 변경 (updated_at 도 갱신해 변경 감지 피드에 잡히도록)
+ * - 이미 다른 경로로 상태가 바뀐 딜은 건드리지 않음 (status = 'ACTIVE' 조건)
+ */
+@Repository
+public class DealStatusRepository {
+
+    /** IN 목록 한 번에 넣는 최대 개수 */
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String EXPIRE_SQL = """
+        UPDATE earlybird_deals
+           SET status = 'EXPIRED', updated_at = NOW()
+         WHERE id IN (:ids) AND status = 'ACTIVE'
+        """;
+
+    private static final String EXPIRE_OVERDUE_SQL = """
+        UPDATE earlybird_deals
+           SET status = 'EXPIRED', updated_at = NOW()
+         WHERE status = 'ACTIVE' AND valid_until < :now
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public DealStatusRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 지정한 딜 만료 처리
+     * @return 변경된 행 수
+     */
+    public int expire(Collection<String> dealIds) {
+        List<String> ids = List.copyOf(dealIds);
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            var params = new MapSqlParameterSource("ids", ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+            updated += jdbc.update(EXPIRE_SQL, params);
+        }
+        return updated;
+    }
+
+    /**
+     * 종료 시각이 지났는데 ACTIVE 로 남은 딜 전부 만료 처리 (기동/재동기화 시 보정)
+     * @return 변경된 행 수
+     */
+    public int expireOverdue(LocalDateTime now) {
+        return jdbc.update(EXPIRE_OVERDUE_SQL, new MapSqlParameterSource("now", now));
+    }
+}
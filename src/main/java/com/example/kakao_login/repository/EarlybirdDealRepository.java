@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,4 +81,35 @@ public interface EarlybirdDealRepository extends JpaRepository<EarlybirdDeal, St
         ORDER BY d.createdAt DESC
         """)
     List<EarlybirdDeal> findActiveEarlybirdDeals(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * 아직 끝나지 않은 활성 딜 전체 조회 (딜 스케줄러 적재용, 시작 전 딜 포함)
+     * @param currentTime 현재 시간
+     * @return 진행 중이거나 시작 예정인 딜 목록
+     */
+    @Query("""
+        SELECT d FROM EarlybirdDeal d 
+        WHERE d.isActive = true 
+        AND d.status = 'ACTIVE'
+        AND (d.validUntil IS NULL OR d.validUntil >= :currentTime)
+        """)
+    List<EarlybirdDeal> findSchedulable(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * 지정 매장들의 아직 끝나지 않은 활성 딜 조회 (딜 변경 시 부분 재적재용)
+     * @param storeIds 매장 ID 목록
+     * @param currentTime 현재 시간
+     * @return 진행 중이거나 시작 예정인 딜 목록
+     */
+    @Query("""
+        SELECT d FROM EarlybirdDeal d 
+        WHERE d.storeId IN :storeIds 
+        AND d.isActive = true 
+        AND d.status = 'ACTIVE'
+        AND (d.validUntil IS NULL OR d.validUntil >= :currentTime)
+        """)
+    List<EarlybirdDeal> findSchedulableForStores(
+        @Param("storeIds") Collection<String> storeIds,
+        @Param("currentTime") LocalDateTime currentTime
+    );
 }
@@ -0,0 +1,114 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 즐겨찾기 추가/해제 쓰기 (user_favorites)
+ * - 조회 후 저장/삭제 대신 uk_user_store 기준 단일 문장으로 처리 (연속 탭이 겹쳐도 제약 위반 없음)
+ * - 영향받은 행 수로 실제 상태가 바뀌었는지 판단
+ */
+@Repository
+public class FavoriteToggleRepository {
+
+    /** 이미 있으면 무시 (영향 행 0) */
+    private static final String ADD_SQL = """
+        INSERT IGNORE INTO user_favorites (id, user_id, store_id, created_at)
+        VALUES (:id, :userId, :storeId, :createdAt)
+        """;
+
+    private static final String REMOVE_SQL = """
+        DELETE FROM user_favorites WHERE user_id = :userId AND store_id = :storeId
+        """;
+
+    /** 잠금 읽기: 트랜잭션이 끝날 때까지 같은 (사용자, 매장) 추가/해제가 끼어들지 못함 */
+    private static final String LOCK_FAVORITES_SQL = """
+        SELECT store_id FROM user_favorites
+         WHERE user_id = :userId AND store_id IN (:storeIds)
+           FOR UPDATE
+        """;
+
+    /** :rows 는 (id, user_id, store_id, created_at) 묶음 목록으로 펼쳐져 다중 행 INSERT 한 문장이 됨 */
+    private static final String ADD_ALL_SQL = """
+        INSERT IGNORE INTO user_favorites (id, user_id, store_id, created_at)
+        VALUES :rows
+        """;
+
+    private static final String REMOVE_ALL_SQL = """
+        DELETE FROM user_favorites WHERE user_id = :userId AND store_id IN (:storeIds)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public FavoriteToggleRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 즐겨찾기 추가
+     * @return 새로 추가했으면 true (이미 있었으면 false)
+     */
+    public boolean add(String userId, String storeId) {
+        return jdbc.update(ADD_SQL, new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("userId", userId)
+                .addValue("storeId", storeId)
+                .addValue("createdAt", LocalDateTime.now())) == 1;
+    }
+
+    /**
+     * 즐겨찾기 해제
+     * @return 실제로 삭제했으면 true (없었으면 false)
+     */
+    public boolean remove(String userId, String storeId) {
+        return jdbc.update(REMOVE_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("storeId", storeId)) == 1;
+    }
+
+    /**
+     * 매장 중 현재 즐겨찾기한 매장 ID (잠금 읽기, 호출 측 트랜잭션 안에서 호출)
+     */
+    public List<String> lockFavoriteStoreIds(String userId, Collection<String> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.queryForList(LOCK_FAVORITES_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("storeIds", storeIds), String.class);
+    }
+
+    /**
+     * 여러 매장 즐겨찾기 추가 (다중 행 INSERT 한 문장)
+     * @return 추가한 행 수
+     */
+    public int addAll(String userId, Collection<String> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = storeIds.stream()
+                .map(storeId -> new Object[]{UUID.randomUUID().toString(), userId, storeId, now})
+                .toList();
+        return jdbc.update(ADD_ALL_SQL, new MapSqlParameterSource("rows", rows));
+    }
+
+    /**
+     * 여러 매장 즐겨찾기 해제 (한 문장)
+     * @return 삭제한 행 수
+     */
+    public int removeAll(String userId, Collection<String> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        return jdbc.update(REMOVE_ALL_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("storeIds", storeIds));
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,19 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, String> {
         """)
     List<MenuItem> findActiveByStoreIdOrderBySortOrder(@Param("storeId") String storeId);
 
+    /**
+     * 여러 매장의 활성 메뉴 목록 조회 (매장 일괄 조회 API용)
+     * @param storeIds 매장 ID 목록
+     * @return 매장별로 정렬된 메뉴 목록
+     */
+    @Query("""
+        SELECT m FROM MenuItem m 
+        WHERE m.storeId IN :storeIds 
+        AND m.isActive = true 
+        ORDER BY m.storeId, m.sortOrder ASC, m.createdAt ASC
+        """)
+    List<MenuItem> findActiveByStoreIdInOrderBySortOrder(@Param("storeIds") Collection<String> storeIds);
+
     /**
      * 매장의 활성 메뉴 목록 조회 (삭제용)
      * @param storeId 매장 ID
@@ -0,0 +1,164 @@
+package com.example.kakao_login.repository;
+
+import com.example.kakao_login.config.SchemaCapabilities;
+import com.example.kakao_login.entity.PointHistory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 포인트 일괄 적립 (캠페인 등 다수 사용자 동시 지급)
+ * - 청크 단위로 지급 키 확인 → 지급 키 기록 → 사용자별 합산 upsert → 원장 배치 기록
+ * - 모든 쓰기는 JDBC 배치 (rewriteBatchedStatements 사용 시 다중 행 INSERT 한 문장)
+ * - 지급 키(point_grants)는 적립과 같은 트랜잭션에서 기록되므로 같은 요청을 다시 보내도 한 번만 적립
+ * - 배치 결과 행 수는 드라이버가 돌려주지 않을 수 있어(SUCCESS_NO_INFO) 기존 키를 먼저 조회해 걸러냄
+ * - 호출 측 트랜잭션 안에서 호출 (청크 하나 = 트랜잭션 하나)
+ */
+@Repository
+public class PointAccrualRepository {
+
+    /** 이미 처리한 지급 키 (잠금 읽기: 같은 키를 동시에 처리하는 다른 청크는 커밋까지 대기) */
+    private static final String EXISTING_KEYS_SQL = """
+        SELECT grant_key FROM point_grants WHERE grant_key IN (:keys) FOR UPDATE
+        """;
+
+    /** IGNORE 없이 기록: 동시 처리로 키가 겹치면 청크 전체를 롤백 */
+    private static final String GRANT_SQL = """
+        INSERT INTO point_grants (grant_key, user_id, points, reason, created_at)
+        VALUES (:grantKey, :userId, :points, :reason, :createdAt)
+        """;
+
+    /** UPDATE 절에 파라미터가 없어야 드라이버가 다중 행 INSERT로 합칠 수 있음 */
+    private static final String EARN_SQL = """
+        INSERT INTO user_points
+              (id, user_id, point_balance, total_earned, total_spent, created_at, updated_at, is_active)
+        VALUES (UUID(), :userId, :points, :points, 0, NOW(6), NOW(6), 1)
+        ON DUPLICATE KEY UPDATE
+            point_balance = point_balance + VALUES(point_balance),
+            total_earned  = total_earned + VALUES(total_earned),
+            updated_at    = NOW(6)
+        """;
+
+    private static final String APPEND_SQL = """
+        INSERT INTO point_history (id, user_id, type, points, reason, created_at, updated_at, is_active)
+        VALUES (UUID(), :userId, :type, :points, :reason, :createdAt, :createdAt, 1)
+        """;
+
+    private static final String ROLLUP_SQL = """
+        INSERT INTO point_monthly_rollups (user_id, month, earned, spent, updated_at)
+        VALUES (:userId, :month, :earned, 0, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            earned     = earned + VALUES(earned),
+            updated_at = NOW(6)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final SchemaCapabilities schema;
+
+    public PointAccrualRepository(NamedParameterJdbcTemplate jdbc, SchemaCapabilities schema) {
+        this.jdbc = jdbc;
+        this.schema = schema;
+    }
+
+    /**
+     * 적립 한 건 (유효성 검사 완료된 값)
+     */
+    public record Grant(String grantKey, String userId, int points, String reason) {
+    }
+
+    /**
+     * 청크 처리 결과
+     * @param applied 적립한 건수
+     * @param duplicates 이미 처리된 지급 키라 건너뛴 건수 (청크 안 중복 포함)
+     * @param points 적립한 포인트 합계
+     * @param users 잔액이 바뀐 사용자 수
+     */
+    public record ChunkResult(int applied, int duplicates, long points, int users) {
+    }
+
+    /**
+     * 새로 적립할 포인트가 남은 한도를 넘음 (아무것도 쓰기 전에 던지므로 청크 전체가 반영되지 않음)
+     */
+    public static class BudgetExceededException extends RuntimeException {
+        public BudgetExceededException(long points, long budget) {
+            super("적립 한도 초과 - points: " + points + ", budget: " + budget);
+        }
+    }
+
+    /**
+     * 청크 적립
+     * - 사용자 행은 user_id 순으로 갱신 (동시에 도는 청크끼리 잠금 순서를 맞춰 교착 방지)
+     * @param pointBudget 이 청크에서 새로 적립할 수 있는 포인트 합계 (이미 처리된 지급 키는 제외하고 계산)
+     * @throws BudgetExceededException 새로 적립할 포인트가 pointBudget 을 넘는 경우
+     */
+    public ChunkResult applyChunk(List<Grant> grants, long pointBudget) {
+        if (grants.isEmpty()) {
+            return new ChunkResult(0, 0, 0, 0);
+        }
+        Map<String, Grant> byKey = new LinkedHashMap<>();
+        grants.forEach(g -> byKey.putIfAbsent(g.grantKey(), g));
+        Set<String> existing = new HashSet<>(jdbc.queryForList(EXISTING_KEYS_SQL,
+                new MapSqlParameterSource("keys", byKey.keySet()), String.class));
+        List<Grant> fresh = new ArrayList<>(byKey.size());
+        byKey.values().stream().filter(g -> !existing.contains(g.grantKey())).forEach(fresh::add);
+        int duplicates = grants.size() - fresh.size();
+        if (fresh.isEmpty()) {
+            return new ChunkResult(0, duplicates, 0, 0);
+        }
+
+        long freshPoints = fresh.stream().mapToLong(Grant::points).sum();
+        if (freshPoints > pointBudget) {
+            throw new BudgetExceededException(freshPoints, pointBudget);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.batchUpdate(GRANT_SQL, fresh.stream()
+                .map(g -> grantParams(g, now))
+                .toArray(SqlParameterSource[]::new));
+
+        Map<String, Long> perUser = new TreeMap<>();
+        fresh.forEach(g -> perUser.merge(g.userId(), (long) g.points(), Long::sum));
+        jdbc.batchUpdate(EARN_SQL, perUser.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("userId", e.getKey())
+                        .addValue("points", e.getValue()))
+                .toArray(SqlParameterSource[]::new));
+
+        jdbc.batchUpdate(APPEND_SQL, fresh.stream()
+                .map(g -> grantParams(g, now).addValue("type", PointHistory.PointType.EARN.name()))
+                .toArray(SqlParameterSource[]::new));
+
+        if (schema.hasPointMonthlyRollups()) {
+            LocalDate month = now.toLocalDate().withDayOfMonth(1);
+            jdbc.batchUpdate(ROLLUP_SQL, perUser.entrySet().stream()
+                    .map(e -> new MapSqlParameterSource()
+                            .addValue("userId", e.getKey())
+                            .addValue("month", month)
+                            .addValue("earned", e.getValue()))
+                    .toArray(SqlParameterSource[]::new));
+        }
+
+        long points = perUser.values().stream().mapToLong(Long::longValue).sum();
+        return new ChunkResult(fresh.size(), duplicates, points, perUser.size());
+    }
+
+    private MapSqlParameterSource grantParams(Grant grant, LocalDateTime createdAt) {
+        return new MapSqlParameterSource()
+                .addValue("grantKey", grant.grantKey())
+                .addValue("userId", grant.userId())
+                .addValue("points", grant.points())
+                .addValue("reason", grant.reason())
+                .addValue("createdAt", createdAt);
+    }
+}
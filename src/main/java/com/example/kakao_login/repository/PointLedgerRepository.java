@@ -0,0 +1,316 @@
+package com.example.kakao_login.repository;
+
+import com.example.kakao_login.common.CreatedAtCursor;
+import com.example.kakao_login.config.SchemaCapabilities;
+import com.example.kakao_login.dto.point.PointHistoryResponse;
+import com.example.kakao_login.entity.PointHistory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 원장(point_history) + 잔액(user_points) 갱신
+ * - 잔액 변경은 읽고-고치고-저장 대신 단일 UPDATE / upsert 문으로 처리 (동시 적립 유실 없음)
+ * - 원장은 추가만 하고 수정/삭제하지 않음, 잔액 변경과 같은 트랜잭션에서 기록
+ * - 사용자 행 잠금은 문장 실행부터 커밋까지만 잡히므로 호출 측 트랜잭션 끝부분에서 호출
+ * - 검증: 사용자별 원장 스냅샷(point_ledger_snapshots) + 스냅샷 이후 원장 합계를 user_points 누계와 비교
+ * - 월별 적립/사용 합계(point_monthly_rollups)도 원장 기록과 같은 트랜잭션에서 누적
+ */
+@Repository
+public class PointLedgerRepository {
+
+    /** 적립: 행이 없으면 만들고 있으면 더함 (uk_user_point 경합 없음) */
+    private static final String EARN_SQL = """
+        INSERT INTO user_points
+              (id, user_id, point_balance, total_earned, total_spent, created_at, updated_at, is_active)
+        VALUES (UUID(), :userId, :points, :points, 0, NOW(6), NOW(6), 1)
+        ON DUPLICATE KEY UPDATE
+            point_balance = point_balance + VALUES(point_balance),
+            total_earned  = total_earned + VALUES(total_earned),
+            updated_at    = NOW(6)
+        """;
+
+    /** 사용: 잔액이 충분할 때만 차감 */
+    private static final String SPEND_SQL = """
+        UPDATE user_points
+           SET total_spent   = total_spent + :points,
+               point_balance = point_balance - :points,
+               updated_at    = NOW(6)
+         WHERE user_id = :userId
+           AND point_balance >= :points
+        """;
+
+    /** 잔액 부족 시 현재 잔액 (잠금 읽기, 스냅샷이 아닌 최신값) */
+    private static final String LOCK_BALANCE_SQL = """
+        SELECT point_balance FROM user_points WHERE user_id = :userId FOR UPDATE
+        """;
+
+    private static final String APPEND_SQL = """
+        INSERT INTO point_history (id, user_id, type, points, reason, created_at, updated_at, is_active)
+        VALUES (UUID(), :userId, :type, :points, :reason, :createdAt, :createdAt, 1)
+        """;
+
+    private static final String ROLLUP_SQL = """
+        INSERT INTO point_monthly_rollups (user_id, month, earned, spent, updated_at)
+        VALUES (:userId, :month, :earned, :spent, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            earned     = earned + VALUES(earned),
+            spent      = spent + VALUES(spent),
+            updated_at = NOW(6)
+        """;
+
+    /** 사용자 내역 최신순 한 페이지 (%s: 커서 조건), idx_point_history_user_created 범위 스캔 */
+    private static final String HISTORY_PAGE_SQL = """
+        SELECT id, type, points, reason, created_at
+          FROM point_history
+         WHERE user_id = :userId
+           %s
+         ORDER BY created_at DESC, id DESC
+         LIMIT :limit
+        """;
+
+    private static final String HISTORY_SEEK = """
+        AND (created_at < :cursorAt OR (created_at = :cursorAt AND id < :cursorId))""";
+
+    private static final String MONTHLY_SQL = """
+        SELECT month, earned, spent
+          FROM point_monthly_rollups
+         WHERE user_id = :userId
+           AND month >= :fromMonth
+         ORDER BY month DESC
+        """;
+
+    /** 원장 합계 (%s: 기간 조건) */
+    private static final String LEDGER_SUM_SQL = """
+        SELECT user_id,
+               SUM(CASE WHEN type = 'EARN'  THEN points ELSE 0 END) AS earned,
+               SUM(CASE WHEN type = 'SPEND' THEN points ELSE 0 END) AS spent
+          FROM point_history
+         WHERE %s
+         GROUP BY user_id
+        """;
+
+    private static final String WATERMARK_SQL = """
+        SELECT MAX(ledger_until) FROM point_ledger_snapshots
+        """;
+
+    /** 스냅샷 전진: (이전 기준 시각, until] 구간 원장을 누적 */
+    private static final String ADVANCE_SQL = """
+        INSERT INTO point_ledger_snapshots (user_id, total_earned, total_spent, ledger_until, updated_at)
+        SELECT d.user_id, d.earned, d.spent, :until, NOW(6)
+          FROM (%s) d
+        ON DUPLICATE KEY UPDATE
+            total_earned = total_earned + VALUES(total_earned),
+            total_spent  = total_spent + VALUES(total_spent),
+            ledger_until = VALUES(ledger_until),
+            updated_at   = NOW(6)
+        """.formatted(LEDGER_SUM_SQL.formatted("created_at > :from AND created_at <= :until"));
+
+    /** 스냅샷 + 이후 원장으로 계산한 사용자별 누계 (user_points 를 참조하지 않아 UPDATE 대상과 분리) */
+    private static final String LEDGER_TOTALS_SQL = """
+        SELECT u.user_id,
+               COALESCE(s.total_earned, 0) + COALESCE(t.earned, 0) AS ledger_earned,
+               COALESCE(s.total_spent, 0)  + COALESCE(t.spent, 0)  AS ledger_spent
+          FROM (SELECT user_id FROM point_ledger_snapshots
+                UNION
+                SELECT user_id FROM point_history WHERE created_at > :watermark) u
+          LEFT JOIN point_ledger_snapshots s ON s.user_id = u.user_id
+          LEFT JOIN (%s) t ON t.user_id = u.user_id
+        """.formatted(LEDGER_SUM_SQL.formatted("created_at > :watermark"));
+
+    private static final String MISMATCH_CONDITION = """
+        up.total_earned <> COALESCE(x.ledger_earned, 0)
+            OR up.total_spent <> COALESCE(x.ledger_spent, 0)
+            OR up.point_balance <> up.total_earned - up.total_spent
+        """;
+
+    /** 원장과 누계가 다른 사용자 (단일 문장이라 잔액/원장을 같은 시점으로 읽음) */
+    private static final String DRIFT_SQL = """
+        SELECT up.user_id, up.point_balance, up.total_earned, up.total_spent,
+               COALESCE(x.ledger_earned, 0) AS ledger_earned,
+               COALESCE(x.ledger_spent, 0)  AS ledger_spent
+          FROM user_points up
+          LEFT JOIN (%s) x ON x.user_id = up.user_id
+         WHERE %s
+         LIMIT :limit
+        """.formatted(LEDGER_TOTALS_SQL, MISMATCH_CONDITION);
+
+    /** 원장 기준으로 누계/잔액 보정 */
+    private static final String REPAIR_SQL = """
+        UPDATE user_points up
+          LEFT JOIN (%s) x ON x.user_id = up.user_id
+           SET up.point_balance = GREATEST(COALESCE(x.ledger_earned, 0) - COALESCE(x.ledger_spent, 0), 0),
+               up.total_earned  = COALESCE(x.ledger_earned, 0),
+               up.total_spent   = COALESCE(x.ledger_spent, 0),
+               up.updated_at    = NOW(6)
+         WHERE %s
+        """.formatted(LEDGER_TOTALS_SQL, MISMATCH_CONDITION);
+
+    /** 스냅샷이 없을 때 기준 시각 */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final SchemaCapabilities schema;
+
+    public PointLedgerRepository(NamedParameterJdbcTemplate jdbc, SchemaCapabilities schema) {
+        this.jdbc = jdbc;
+        this.schema = schema;
+    }
+
+    /**
+     * 포인트 적립 + 원장 기록
+     */
+    public void earn(String userId, int points, String reason) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("points", points);
+        jdbc.update(EARN_SQL, params);
+        append(userId, PointHistory.PointType.EARN, points, reason);
+    }
+
+    /**
+     * 포인트 사용 + 원장 기록 (잔액보다 많으면 잔액만큼만 사용)
+     * - 잔액이 충분하면 조건부 UPDATE 한 번, 부족할 때만 잠금 읽기 후 남은 잔액을 차감
+     * @return 실제 사용한 포인트 (0이면 원장에 기록하지 않음)
+     */
+    public int spend(String userId, int points, String reason) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("points", points);
+        int spent = 0;
+        if (jdbc.update(SPEND_SQL, params) == 1) {
+            spent = points;
+        } else {
+            List<Integer> balance = jdbc.queryForList(LOCK_BALANCE_SQL, params, Integer.class);
+            int remaining = balance.isEmpty() || balance.get(0) == null ? 0 : Math.min(balance.get(0), points);
+            if (remaining > 0) {
+                params.addValue("points", remaining);
+                jdbc.update(SPEND_SQL, params);
+                spent = remaining;
+            }
+        }
+        if (spent > 0) {
+            append(userId, PointHistory.PointType.SPEND, spent, reason);
+        }
+        return spent;
+    }
+
+    /**
+     * 월별 적립/사용 합계
+     * @param month 해당 월 1일
+     */
+    public record MonthlyRollup(LocalDate month, long earned, long spent) {
+    }
+
+    /**
+     * 사용자 내역 한 페이지 (최신순)
+     * @param after 이전 페이지 마지막 행 (첫 페이지면 null)
+     * @param limit 조회 건수
+     */
+    public List<PointHistoryResponse.PointHistoryItem> findHistoryPage(String userId, CreatedAtCursor after, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        if (after != null) {
+            params.addValue("cursorAt", after.createdAt());
+            params.addValue("cursorId", after.id());
+        }
+        return jdbc.query(HISTORY_PAGE_SQL.formatted(after != null ? HISTORY_SEEK : ""), params,
+                (rs, i) -> PointHistoryResponse.PointHistoryItem.builder()
+                        .id(rs.getString("id"))
+                        .type(rs.getString("type"))
+                        .points(rs.getInt("points"))
+                        .reason(rs.getString("reason"))
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .build());
+    }
+
+    /**
+     * 월별 합계 (fromMonth 이후, 최근 월부터)
+     */
+    public List<MonthlyRollup> findMonthlyRollups(String userId, LocalDate fromMonth) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("fromMonth", fromMonth);
+        return jdbc.query(MONTHLY_SQL, params, (rs, i) -> new MonthlyRollup(
+                rs.getObject("month", LocalDate.class),
+                rs.getLong("earned"),
+                rs.getLong("spent")));
+    }
+
+    /**
+     * 원장과 누계가 다른 사용자
+     * @param ledgerEarned 원장 기준 총 적립
+     * @param ledgerSpent 원장 기준 총 사용
+     */
+    public record Drift(String userId, long pointBalance, long totalEarned, long totalSpent,
+                        long ledgerEarned, long ledgerSpent) {
+    }
+
+    /**
+     * 스냅샷을 until 까지 전진
+     * - until 이전에 시작해 아직 커밋되지 않은 원장 행이 빠지지 않도록 호출 측에서 충분히 과거 시각을 넘김
+     * @return 스냅샷이 갱신된 사용자 수
+     */
+    public int advanceSnapshots(LocalDateTime until) {
+        LocalDateTime from = watermark();
+        if (!until.isAfter(from)) {
+            return 0;
+        }
+        return jdbc.update(ADVANCE_SQL, new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("until", until));
+    }
+
+    /**
+     * 원장과 누계가 다른 사용자 조회
+     * @param limit 최대 건수
+     */
+    public List<Drift> findDrift(int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("watermark", watermark())
+                .addValue("limit", limit);
+        return jdbc.query(DRIFT_SQL, params, (rs, i) -> new Drift(
+                rs.getString("user_id"),
+                rs.getLong("point_balance"),
+                rs.getLong("total_earned"),
+                rs.getLong("total_spent"),
+                rs.getLong("ledger_earned"),
+                rs.getLong("ledger_spent")));
+    }
+
+    /**
+     * 원장 기준으로 불일치 사용자 보정
+     * @return 보정한 사용자 수
+     */
+    public int repairFromLedger() {
+        return jdbc.update(REPAIR_SQL, new MapSqlParameterSource("watermark", watermark()));
+    }
+
+    private LocalDateTime watermark() {
+        LocalDateTime watermark = jdbc.queryForObject(WATERMARK_SQL, new MapSqlParameterSource(), LocalDateTime.class);
+        return watermark != null ? watermark : EPOCH;
+    }
+
+    private void append(String userId, PointHistory.PointType type, int points, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.update(APPEND_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("type", type.name())
+                .addValue("points", points)
+                .addValue("reason", reason)
+                .addValue("createdAt", now));
+        if (schema.hasPointMonthlyRollups()) {
+            boolean earn = type == PointHistory.PointType.EARN;
+            jdbc.update(ROLLUP_SQL, new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("month", now.toLocalDate().withDayOfMonth(1))
+                    .addValue("earned", earn ? points : 0)
+                    .addValue("spent", earn ? 0 : points));
+        }
+    }
+}
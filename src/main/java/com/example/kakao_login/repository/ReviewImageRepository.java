@@ -1,11 +1,13 @@
 package com.example.kakao_login.repository;
 
 import com.example.kakao_login.entity.ReviewImage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,21 +17,36 @@ import java.util.List;
 public interface ReviewImageRepository extends JpaRepository<ReviewImage, String> {
     
     /**
-     * 여러 리뷰의 대표 이미지들을 한 번에 조회 (성능 최적화)
-     * - 각 리뷰의 첫 번째 이미지만 가져옴
+     * 매장 사진 모아보기 첫 페이지 (최신순, 커서 키 (createdAt, id))
+     * - idx_image_store_created (store_id, created_at, id) 범위 스캔
+     * @param limit 페이지 크기 + 1 (다음 페이지 존재 확인용)
      */
     @Query("""
-        SELECT ri FROM ReviewImage ri 
-        WHERE ri.reviewId IN :reviewIds 
-        AND ri.isActive = true 
-        AND ri.sortOrder = (
-            SELECT MIN(ri2.sortOrder) FROM ReviewImage ri2 
-            WHERE ri2.reviewId = ri.reviewId 
-            AND ri2.isActive = true
-        )
-        ORDER BY ri.reviewId, ri.sortOrder
+        SELECT ri.id AS id, ri.reviewId AS reviewId, ri.imageUrl AS imageUrl, ri.createdAt AS createdAt
+        FROM ReviewImage ri
+        WHERE ri.storeId = :storeId
+        AND ri.isActive = true
+        ORDER BY ri.createdAt DESC, ri.id DESC
     """)
-    List<ReviewImage> findRepresentativeImagesByReviewIds(@Param("reviewIds") List<String> reviewIds);
+    List<StorePhoto> findGalleryFirstPage(@Param("storeId") String storeId, Limit limit);
+
+    /**
+     * 매장 사진 모아보기 다음 페이지 (커서 행 이후부터)
+     * @param cursorAt 이전 페이지 마지막 사진 등록 시각
+     * @param cursorId 이전 페이지 마지막 사진 ID
+     */
+    @Query("""
+        SELECT ri.id AS id, ri.reviewId AS reviewId, ri.imageUrl AS imageUrl, ri.createdAt AS createdAt
+        FROM ReviewImage ri
+        WHERE ri.storeId = :storeId
+        AND ri.isActive = true
+        AND (ri.createdAt < :cursorAt OR (ri.createdAt = :cursorAt AND ri.id < :cursorId))
+        ORDER BY ri.createdAt DESC, ri.id DESC
+    """)
+    List<StorePhoto> findGalleryAfter(@Param("storeId") String storeId,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") String cursorId,
+                                      Limit limit);
 
     /**
      * 여러 리뷰 ID에 해당하는 이미지들 삭제
@@ -46,4 +63,14 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, String
      * 여러 리뷰 ID에 해당하는 이미지들 조회
      */
     List<ReviewImage> findByReviewIdIn(List<String> reviewIds);
+
+    /**
+     * 매장 사진 모아보기 항목
+     */
+    interface StorePhoto {
+        String getId();
+        String getReviewId();
+        String getImageUrl();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -1,51 +1,135 @@
 package com.example.kakao_login.repository;
 
+import com.example.kakao_login.common.CursorCodec;
 import com.example.kakao_login.common.PageResult;
 import com.example.kakao_login.dto.search.StoreSearchRequest;
 import com.example.kakao_login.dto.search.StoreSummaryDto;
+import com.example.kakao_login.search.GeoGridIndex;
+import com.example.kakao_login.search.StoreFacetIndex;
+import com.example.kakao_login.search.StoreGeoIndex;
+import com.example.kakao_login.search.StoreKeywordIndex;
+import com.example.kakao_login.search.StoreOpenHoursIndex;
+import com.example.kakao_login.search.StoreSortMode;
+import com.example.kakao_login.search.WeeklySchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @Repository
 public class SearchRepository {
 
+    /** 공간 인덱스 후보가 이보다 많으면 IN 목록 대신 SQL 거리 계산으로 처리 */
+    private static final int MAX_GEO_CANDIDATES = 5000;
+
+    /** 키워드 후보가 이보다 많으면 IN 목록 대신 SQL LIKE로 처리 */
+    private static final int MAX_KEYWORD_CANDIDATES = 5000;
+
+    /** 영업중 매장이 이보다 많으면 IN 목록 대신 SQL 영업시간 조건으로 처리 */
+    private static final int MAX_OPEN_CANDIDATES = 5000;
+
     private final NamedParameterJdbcTemplate jdbc;
-    public SearchRepository(NamedParameterJdbcTemplate jdbc) { this.jdbc = jdbc; }
+    private final StoreGeoIndex geoIndex;
+    private final StoreKeywordIndex keywordIndex;
+    private final StoreOpenHoursIndex openHoursIndex;
+    private final StoreFacetIndex facetIndex;
+    private final Executor enrichmentExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public SearchRepository(NamedParameterJdbcTemplate jdbc, StoreGeoIndex geoIndex,
+                            StoreKeywordIndex keywordIndex,
+                            StoreOpenHoursIndex openHoursIndex,
+                            StoreFacetIndex facetIndex,
+                            @Qualifier("searchEnrichmentExecutor") Executor enrichmentExecutor,
+                            MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.geoIndex = geoIndex;
+        this.keywordIndex = keywordIndex;
+        this.openHoursIndex = openHoursIndex;
+        this.facetIndex = facetIndex;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.meterRegistry = meterRegistry;
+    }
 
     public PageResult<StoreSummaryDto> searchStores(StoreSearchRequest req) {
+        int page = req.pageOrDefault();
+        int size = req.sizeOrDefault();
+        boolean includeTotal = req.includeTotalOrDefault();
         var params = new MapSqlParameterSource();
         var where = new StringBuilder(" WHERE s.is_active = 1 ");
 
-        // --- 키워드 필터: 비교/LIKE 양쪽 모두 동일 collation 강제 ---
+        // 시간/영업 필터 기준 (키워드/공간 후보가 있으면 그 후보를 영업시간 인덱스로 먼저 거름)
+        Integer dow = req.dayOfWeek();
+        if (dow == null) dow = LocalDateTime.now(ZoneId.of("Asia/Seoul")).getDayOfWeek().getValue() % 7; // 일=0
+        params.addValue("dow", dow);
+
+        boolean checkOpenNow = Boolean.TRUE.equals(req.openNow());
+        String time = req.time();
+        boolean timeFilter = checkOpenNow || (time != null && !time.isBlank());
+        if (timeFilter && (time == null || time.isBlank())) {
+            time = LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                    .format(DateTimeFormatter.ofPattern("HH:mm"));
+        }
+        int minuteOfDay = timeFilter ? WeeklySchedule.parseMinuteOfDay(time) : -1;
+        int openDow = dow;
+        boolean openIndexed = timeFilter && openHoursIndex.isReady() && minuteOfDay >= 0 && dow >= 0 && dow <= 6;
+        boolean openApplied = false; // 후보 목록에 영업 필터가 이미 반영됐는지
+
+        // --- 키워드 필터: 인메모리 역색인으로 후보 매장 ID를 먼저 구함 ---
+        Map<String, Double> kwScores = null;
+        List<String> kwIds = null;
         if (req.hasKeyword()) {
             String kw = Optional.ofNullable(req.q()).orElse("");
-            params.addValue("kw", kw);
-            where.append("""
-               AND (
-                 (CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci = '' COLLATE utf8mb4_0900_ai_ci)
-                 OR s.name        COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
-                 OR s.ai_recommendation COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
-                 OR EXISTS (
-                      SELECT 1 FROM menu_items mi
-                       WHERE mi.store_id = s.id
-                         AND mi.name COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
-                 )
-               )
-            """);
+            kwScores = findKeywordCandidates(kw);
+            if (kwScores != null) {
+                kwIds = new ArrayList<>(kwScores.keySet());
+                if (openIndexed) {
+                    kwIds = kwIds.stream().filter(id -> openHoursIndex.isOpenAt(id, openDow, minuteOfDay)).toList();
+                    openApplied = true;
+                }
+                if (kwIds.isEmpty()) {
+                    return new PageResult<>(List.of(), page, size, includeTotal ? 0L : null, false, null);
+                }
+                params.addValue("kwIds", kwIds);
+                where.append(" AND s.id IN (:kwIds) ");
+            } else {
+                // 인덱스 미적재/후보 과다: 비교/LIKE 양쪽 모두 동일 collation 강제
+                params.addValue("kw", kw);
+                where.append("""
+                   AND (
+                     (CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci = '' COLLATE utf8mb4_0900_ai_ci)
+                     OR s.name        COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
+                     OR s.ai_recommendation COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
+                     OR EXISTS (
+                          SELECT 1 FROM menu_items mi
+                           WHERE mi.store_id = s.id
+                             AND mi.name COLLATE utf8mb4_0900_ai_ci LIKE CONCAT('%', CAST(:kw AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci, '%')
+                     )
+                   )
+                """);
+            }
         }
 
-        // --- 카테고리: '=' 비교도 collation 통일 ---
+        // 정렬 기준 (정렬 미지정 키워드 검색은 역색인 점수순, 후보 목록 순서를 FIELD 로 유지)
+        StoreSortMode sortMode = StoreSortMode.resolve(req.sort(), req.lat() != null && req.lng() != null,
+                kwIds != null);
+        List<String> cursorKeys = req.hasCursor() ? decodeCursor(req.cursor(), sortMode) : null;
+
+        // --- 카테고리: 검색 뷰 컬럼으로 비교 (idx_ssv_category 사용, 뷰 테이블은 utf8mb4_0900_ai_ci) ---
         if (req.categoryId() != null && !req.categoryId().isBlank()) {
-            where.append("""
-              AND (s.category_id COLLATE utf8mb4_0900_ai_ci
-                   = CAST(:catId AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci)
-            """);
+            where.append(" AND v.category_id = :catId ");
             params.addValue("catId", req.categoryId());
         }
 
@@ -65,270 +149,406 @@ public class SearchRepository {
 
         // 위치/반경
         String distanceExpr = "NULL";
+        Map<String, Double> geoDistances = null;
+        String geoSeek = null;
         if (req.lat() != null && req.lng() != null) {
             params.addValue("lat", req.lat());
             params.addValue("lng", req.lng());
-            distanceExpr = """
-             (6371 * acos(
-               cos(radians(:lat)) * cos(radians(s.lat)) *
-               cos(radians(s.lng) - radians(:lng)) +
-               sin(radians(:lat)) * sin(radians(s.lat))
-             ))
-            """;
-            if (req.radiusKm() != null) {
-                where.append(" AND ").append(distanceExpr).append(" <= :radiusKm ");
-                params.addValue("radiusKm", req.radiusKm());
+
+            List<GeoGridIndex.Hit> hits = findGeoCandidates(req);
+            if (hits != null && openIndexed) {
+                // 거리순을 유지한 채 영업중 후보만 남김 (거리순 커서 순위도 같은 목록 기준)
+                hits = hits.stream().filter(h -> openHoursIndex.isOpenAt(h.id(), openDow, minuteOfDay)).toList();
+                openApplied = true;
             }
-            if (req.distanceMaxKm() != null) {
-                where.append(" AND ").append(distanceExpr).append(" <= :distanceMax ");
-                params.addValue("distanceMax", req.distanceMaxKm());
+            if (hits != null) {
+                // 공간 인덱스 경로: 후보 ID만 SQL로 전달하고 거리는 인덱스가 계산한 값 사용
+                if (hits.isEmpty()) {
+                    return new PageResult<>(List.of(), page, size, includeTotal ? 0L : null, false, null);
+                }
+                geoDistances = new HashMap<>(hits.size() * 2);
+                var geoIds = new ArrayList<String>(hits.size());
+                for (var hit : hits) {
+                    geoIds.add(hit.id());
+                    geoDistances.put(hit.id(), hit.distanceKm());
+                }
+                params.addValue("geoIds", geoIds);
+                where.append(" AND s.id IN (:geoIds) ");
+                // 후보 목록이 거리순이므로 목록 내 위치가 곧 거리 순위 (정렬 전용, 실제 거리는 매핑 시 덮어씀)
+                distanceExpr = "FIELD(s.id, :geoIds)";
+                if (cursorKeys != null && sortMode == StoreSortMode.DISTANCE) {
+                    // 거리순 커서: 커서 위치까지의 후보 수(=순위) 이후만 조회
+                    params.addValue("seekRank", geoSeekRank(hits, cursorKeys));
+                    geoSeek = " WHERE distance_km > :seekRank ";
+                }
+            } else {
+                distanceExpr = """
+                 (6371 * acos(
+                   cos(radians(:lat)) * cos(radians(s.lat)) *
+                   cos(radians(s.lng) - radians(:lng)) +
+                   sin(radians(:lat)) * sin(radians(s.lat))
+                 ))
+                """;
+                if (req.radiusKm() != null) {
+                    where.append(" AND ").append(distanceExpr).append(" <= :radiusKm ");
+                    params.addValue("radiusKm", req.radiusKm());
+                }
+                if (req.distanceMaxKm() != null) {
+                    where.append(" AND ").append(distanceExpr).append(" <= :distanceMax ");
+                    params.addValue("distanceMax", req.distanceMaxKm());
+                }
             }
             // 거리 사용 시 좌표 없는 매장은 제외
             where.append(" AND s.lat IS NOT NULL AND s.lng IS NOT NULL ");
         }
 
-        // 시간/영업 필터
-        Integer dow = req.dayOfWeek();
-        if (dow == null) dow = LocalDateTime.now(ZoneId.of("Asia/Seoul")).getDayOfWeek().getValue() % 7; // 일=0
-        params.addValue("dow", dow);
+        // 시간/영업 필터 (후보 목록에 반영되지 않은 경우만)
+        if (timeFilter && !openApplied) {
+            // 영업시간 인덱스로 해당 시각 영업중인 매장만 후보로 지정 (너무 많으면 SQL 조건)
+            List<String> openIds = openIndexed
+                    ? openHoursIndex.openStoreIds(dow, minuteOfDay, MAX_OPEN_CANDIDATES)
+                    : null;
+            if (openIds != null) {
+                if (openIds.isEmpty()) {
+                    return new PageResult<>(List.of(), page, size, includeTotal ? 0L : null, false, null);
+                }
+                params.addValue("openIds", openIds);
+                where.append(" AND s.id IN (:openIds) ");
+            } else {
+                params.addValue("t", time);
 
-        boolean checkOpenNow = Boolean.TRUE.equals(req.openNow());
-        String time = req.time();
-        if (checkOpenNow || (time != null && !time.isBlank())) {
-            if (time == null || time.isBlank()) {
-                time = LocalDateTime.now(ZoneId.of("Asia/Seoul"))
-                        .format(DateTimeFormatter.ofPattern("HH:mm"));
+                where.append("""
+                  AND (
+                    EXISTS ( SELECT 1 FROM store_open_hour h
+                             WHERE h.store_id = s.id AND h.day_of_week = :dow
+                               AND (
+                                 (h.is_24h = 1)
+                                 OR (h.open_time <= h.close_time AND :t >= h.open_time AND :t < h.close_time)
+                                 OR (h.open_time > h.close_time AND (:t >= h.open_time OR :t < h.close_time))
+                               )
+                               AND NOT (:t >= IFNULL(h.break_start,'23:59') AND :t < IFNULL(h.break_end,'00:00'))
+                    )
+                    OR
+                    EXISTS ( SELECT 1 FROM store_open_hour hp
+                             WHERE hp.store_id = s.id AND hp.day_of_week = ((:dow + 6) % 7)
+                               AND hp.open_time > hp.close_time
+                               AND :t < hp.close_time
+                               AND NOT (:t >= IFNULL(hp.break_start,'23:59') AND :t < IFNULL(hp.break_end,'00:00'))
+                    )
+                  )
+                """);
             }
-            params.addValue("t", time);
-
-            where.append("""
-              AND (
-                EXISTS ( SELECT 1 FROM store_open_hour h
-                         WHERE h.store_id = s.id AND h.day_of_week = :dow
-                           AND (
-                             (h.is_24h = 1)
-                             OR (h.open_time <= h.close_time AND :t >= h.open_time AND :t < h.close_time)
-                             OR (h.open_time > h.close_time AND (:t >= h.open_time OR :t < h.close_time))
-                           )
-                           AND NOT (:t >= IFNULL(h.break_start,'23:59') AND :t < IFNULL(h.break_end,'00:00'))
-                )
-                OR
-                EXISTS ( SELECT 1 FROM store_open_hour hp
-                         WHERE hp.store_id = s.id AND hp.day_of_week = ((:dow + 6) % 7)
-                           AND hp.open_time > hp.close_time
-                           AND :t < hp.close_time
-                           AND NOT (:t >= IFNULL(hp.break_start,'23:59') AND :t < IFNULL(hp.break_end,'00:00'))
-                )
-              )
-            """);
         }
 
-        // 딜 존재 필터: status 비교도 collation 통일
+        // 딜 존재 필터: 활성 딜이 있는 매장만 best_discount_pct가 채워짐
         if (Boolean.TRUE.equals(req.hasDeal())) {
-            where.append("""
-              AND EXISTS (
-                SELECT 1 FROM earlybird_deals d
-                LEFT JOIN earlybird_inventory i ON i.deal_id = d.id AND i.quota_left > 0
-                WHERE d.store_id = s.id
-                  AND (d.status COLLATE utf8mb4_0900_ai_ci = 'ACTIVE' COLLATE utf8mb4_0900_ai_ci)
-              )
-            """);
+            where.append(" AND v.best_discount_pct IS NOT NULL ");
         }
 
-        // 정렬
-        String orderBy;
-        if (req.sort() == null || req.sort().isBlank()) {
-            // 기본 정렬: 좌표 있으면 거리순, 없으면 이름순
-            if (req.lat() != null && req.lng() != null) {
-                orderBy = " ORDER BY (distance_km IS NULL) ASC, distance_km ASC ";
+        // 정렬 (모든 정렬에 id를 마지막 키로 붙여 커서 위치를 유일하게 만듦)
+        String orderBy = StoreSearchSql.orderBy(sortMode);
+        String seek = "";
+        if (cursorKeys != null) {
+            if (sortMode == StoreSortMode.RELEVANCE) {
+                // 관련도순 커서: 커서 위치(점수, id)까지의 후보 수(=순위) 이후만 조회
+                params.addValue("seekRank", keywordSeekRank(kwIds, kwScores, cursorKeys));
+                seek = " WHERE FIELD(id, :kwIds) > :seekRank ";
             } else {
-                orderBy = " ORDER BY name COLLATE utf8mb4_0900_ai_ci ASC ";
-            }
-        } else {
-            switch (req.sort()) {
-                case "distance" ->
-                        orderBy = " ORDER BY (distance_km IS NULL) ASC, distance_km ASC ";
-                case "rating" ->
-                        orderBy = " ORDER BY (rating_avg IS NULL) ASC, rating_avg DESC, rating_count DESC ";
-                case "discount" ->
-                        orderBy = " ORDER BY (best_discount_pct IS NULL) ASC, best_discount_pct DESC ";
-                case "popularity" ->
-                        orderBy = " ORDER BY (popularity_score IS NULL) ASC, popularity_score DESC ";
-                case "recent" ->
-                        orderBy = " ORDER BY name COLLATE utf8mb4_0900_ai_ci ASC ";
-                default -> {
-                    if (req.lat() != null && req.lng() != null) {
-                        orderBy = " ORDER BY (distance_km IS NULL) ASC, distance_km ASC ";
-                    } else {
-                        orderBy = " ORDER BY name COLLATE utf8mb4_0900_ai_ci ASC ";
-                    }
-                }
+                seek = geoSeek != null ? geoSeek : seekClause(sortMode, cursorKeys, params);
             }
         }
 
-        int page = req.pageOrDefault();
-        int size = req.sizeOrDefault();
-        int offset = (page - 1) * size;
-        params.addValue("limit", size);
+        // 다음 페이지 존재 여부는 한 건 더 조회해서 판단 (COUNT 없이)
+        int offset = cursorKeys != null ? 0 : (page - 1) * size;
+        params.addValue("limit", size + 1);
         params.addValue("offset", offset);
-        params.addValue("uid", req.userId());
-
-        String sql = """
-          WITH base AS (
-            SELECT
-              s.id, s.name, s.address, s.rep_image_url,
-              s.rating_avg, s.rating_count,
-              %s AS distance_km,
-              (SELECT MAX(CASE WHEN discount_value REGEXP '^[0-9]+$'
-                               THEN CAST(discount_value AS SIGNED) ELSE 0 END)
-                 FROM earlybird_deals d
-                WHERE d.store_id = s.id
-                  AND (d.status COLLATE utf8mb4_0900_ai_ci = 'ACTIVE' COLLATE utf8mb4_0900_ai_ci)
-              ) AS best_discount_pct,
-              (SELECT 1 FROM user_favorites f
-                WHERE (f.user_id COLLATE utf8mb4_0900_ai_ci
-                       = CAST(:uid AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci)
-                  AND f.store_id = s.id
-                LIMIT 1) AS fav_flag,
-              (COALESCE(s.rating_count,0) * 1.0 +
-               (SELECT COUNT(*) FROM user_favorites uf WHERE uf.store_id = s.id) * 2.0) AS popularity_score
-            FROM stores s
-            %s
-          )
-          SELECT *
-          FROM base
-          %s
-          LIMIT :limit OFFSET :offset
-        """.formatted(distanceExpr, where, orderBy);
-
-        // 1) 기본 행 조회 (DTO로 바로 매핑하지 말고 Map으로 받아서 후처리)
-        var rows = jdbc.query(sql, params, (rs, n) -> {
-            var m = new LinkedHashMap<String, Object>();
-            m.put("id", rs.getString("id"));
-            m.put("name", rs.getString("name"));
-            m.put("address", rs.getString("address"));
-            m.put("rep_image_url", rs.getString("rep_image_url"));
-
-            Number nDistance  = (Number) rs.getObject("distance_km");
-            Number nRatingAvg = (Number) rs.getObject("rating_avg");
-            Number nRatingCnt = (Number) rs.getObject("rating_count");
-            Number nBestDisc  = (Number) rs.getObject("best_discount_pct");
-
-            m.put("distance_km", nDistance == null ? null : nDistance.doubleValue());
-            m.put("rating_avg",  nRatingAvg == null ? null : nRatingAvg.doubleValue());
-            m.put("rating_count",nRatingCnt == null ? null : nRatingCnt.intValue());
-            m.put("best_discount_pct", nBestDisc == null ? null : nBestDisc.intValue());
-            m.put("is_favorite", rs.getObject("fav_flag") != null);
-            return m;
-        });
 
-        // store_id 수집
-        var storeIds = rows.stream().map(r -> (String) r.get("id")).toList();
-        Map<String, List<String>> tagsByStore = Map.of();
-        Map<String, List<String>> catsByStore = Map.of();
-        Map<String, List<String>> menusByStore = Map.of();
-
-        if (!storeIds.isEmpty()) {
-            var p2 = new MapSqlParameterSource().addValue("ids", storeIds);
-
-            // 2) 태그 배치 조회
-            var tagList = jdbc.query("""
-                SELECT st.store_id, t.name
-                  FROM store_tags st
-                  JOIN tags t ON t.id = st.tag_id
-                 WHERE st.store_id IN (:ids)
-                 ORDER BY t.name
-            """, p2, (rs, n) -> Map.of(
-                    "store_id", rs.getString("store_id"),
-                    "name", rs.getString("name")
-            ));
-            var tmpTags = new HashMap<String, List<String>>();
-            for (var row : tagList) {
-                String sid = (String) row.get("store_id");
-                String name = (String) row.get("name");
-                tmpTags.computeIfAbsent(sid, k -> new ArrayList<>()).add(name);
+        String sql = StoreSearchSql.mainQuery(distanceExpr, where, seek, orderBy);
+
+        // 1) 기본 행 조회 (카테고리는 조인으로 함께 조회, ResultSet에서 바로 레코드로 매핑)
+        var mapper = StoreSearchRow.mapper(geoDistances);
+        List<StoreSearchRow> rows = timed("main", () -> jdbc.query(sql, params, mapper));
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+        String nextCursor = hasNext ? encodeCursor(sortMode, rows.get(rows.size() - 1), kwScores) : null;
+
+        // 2~3) 태그/메뉴 배치 조회를 병렬 실행, 결과는 행 순서와 같은 배열에 바로 채움
+        var positions = new HashMap<String, Integer>(rows.size() * 2);
+        for (int i = 0; i < rows.size(); i++) {
+            positions.put(rows.get(i).id(), i);
+        }
+        List<String>[] tagsByRow = newListArray(rows.size());
+        List<String>[] menusByRow = newListArray(rows.size());
+
+        if (!rows.isEmpty()) {
+            var p2 = new MapSqlParameterSource().addValue("ids", positions.keySet());
+
+            var tagsDone = CompletableFuture.runAsync(() -> timed("tags", () ->
+                jdbc.query("""
+                    SELECT st.store_id, t.name
+                      FROM store_tags st
+                      JOIN tags t ON t.id = st.tag_id
+                     WHERE st.store_id IN (:ids)
+                     ORDER BY t.name
+                """, p2, rs -> {
+                    collect(tagsByRow, positions.get(rs.getString("store_id")), rs.getString("name"));
+                })), enrichmentExecutor);
+
+            // 매장당 앞 3개 메뉴만 필요하므로 DB에서 잘라서 가져옴
+            var menusDone = CompletableFuture.runAsync(() -> timed("menus", () ->
+                jdbc.query("""
+                    SELECT store_id, name
+                      FROM (
+                        SELECT mi.store_id, mi.name,
+                               ROW_NUMBER() OVER (PARTITION BY mi.store_id
+                                                  ORDER BY mi.sort_order ASC, mi.created_at ASC) AS rn
+                          FROM menu_items mi
+                         WHERE mi.store_id IN (:ids)
+                      ) ranked
+                     WHERE rn <= 3
+                     ORDER BY store_id, rn
+                """, p2, rs -> {
+                    collect(menusByRow, positions.get(rs.getString("store_id")), rs.getString("name"));
+                })), enrichmentExecutor);
+
+            try {
+                CompletableFuture.allOf(tagsDone, menusDone).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
             }
-            tagsByStore = tmpTags;
-
-            // 3) 카테고리 배치 조회
-            var catList = jdbc.query("""
-                SELECT s.id AS store_id, c.name
-                  FROM stores s
-                  JOIN categories c ON c.id = s.category_id
-                 WHERE s.id IN (:ids)
-            """, p2, (rs, n) -> Map.of(
-                    "store_id", rs.getString("store_id"),
-                    "name", rs.getString("name")
-            ));
-            var tmpCats = new HashMap<String, List<String>>();
-            for (var row : catList) {
-                String sid = (String) row.get("store_id");
-                String name = (String) row.get("name");
-                tmpCats.computeIfAbsent(sid, k -> new ArrayList<>()).add(name);
+        }
+
+        // 4) DTO로 조립
+        var items = new ArrayList<StoreSummaryDto>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            items.add(rows.get(i).toDto(tagsByRow[i], menusByRow[i]));
+        }
+
+        // total 계산 (같은 where 사용, 요청한 경우에만)
+        Long total = null;
+        if (includeTotal) {
+            String countSql = StoreSearchSql.countQuery(where);
+            total = timed("count", () -> jdbc.queryForObject(countSql, params, Long.class));
+        }
+
+        return new PageResult<>(items, page, size, total, hasNext, nextCursor);
+    }
+
+    /**
+     * 커서 이후 행만 남기는 seek 조건 (ORDER BY와 같은 순서를 따름)
+     * - NULL 정렬값은 항상 마지막이므로 커서 키가 NULL이면 NULL 구간 안에서만 이어감
+     */
+    private String seekClause(StoreSortMode sortMode, List<String> keys, MapSqlParameterSource params) {
+        String key = keys.get(1);
+        params.addValue("cursorId", keys.get(3));
+        try {
+            return switch (sortMode) {
+                case DISTANCE -> {
+                    params.addValue("cursorKey", Double.valueOf(key));
+                    yield " WHERE (distance_km > :cursorKey OR (distance_km = :cursorKey AND id > :cursorId)) ";
+                }
+                case RATING -> {
+                    params.addValue("cursorCount", Integer.valueOf(keys.get(2)));
+                    String countAfter = """
+                        (rating_count < :cursorCount
+                         OR (rating_count = :cursorCount AND id > :cursorId))""";
+                    if (key == null) {
+                        yield " WHERE (rating_avg IS NULL AND " + countAfter + ") ";
+                    }
+                    params.addValue("cursorKey", new BigDecimal(key));
+                    yield " WHERE (rating_avg IS NULL OR rating_avg < :cursorKey OR (rating_avg = :cursorKey AND "
+                            + countAfter + ")) ";
+                }
+                case DISCOUNT -> {
+                    if (key == null) {
+                        yield " WHERE (best_discount_pct IS NULL AND id > :cursorId) ";
+                    }
+                    params.addValue("cursorKey", Integer.valueOf(key));
+                    yield """
+                       WHERE (best_discount_pct IS NULL OR best_discount_pct < :cursorKey
+                              OR (best_discount_pct = :cursorKey AND id > :cursorId))
+                    """;
+                }
+                case POPULARITY -> {
+                    params.addValue("cursorKey", new BigDecimal(key));
+                    yield " WHERE (popularity_score < :cursorKey OR (popularity_score = :cursorKey AND id > :cursorId)) ";
+                }
+                case NAME -> {
+                    params.addValue("cursorKey", Objects.requireNonNull(key));
+                    yield """
+                       WHERE (name COLLATE utf8mb4_0900_ai_ci
+                                > CAST(:cursorKey AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci
+                              OR (name COLLATE utf8mb4_0900_ai_ci
+                                    = CAST(:cursorKey AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci
+                                  AND id > :cursorId))
+                    """;
+                }
+                // 관련도순은 후보 목록 순위로 이어감 (keywordSeekRank)
+                case RELEVANCE -> throw new IllegalStateException("관련도순 커서는 후보 순위로 처리");
+            };
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 공간 인덱스 후보 중 커서 위치(거리, id)까지의 후보 수
+     * - 후보 목록 내 위치(FIELD 순위)가 이 값보다 큰 행이 다음 페이지
+     */
+    private int geoSeekRank(List<GeoGridIndex.Hit> hits, List<String> keys) {
+        double key;
+        try {
+            key = Double.parseDouble(Objects.requireNonNull(keys.get(1)));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        String cursorId = keys.get(3);
+        int rank = 0;
+        for (var hit : hits) {
+            if (hit.distanceKm() < key || (hit.distanceKm() == key && hit.id().compareTo(cursorId) <= 0)) {
+                rank++;
+            } else {
+                break; // 후보는 (거리, id) 오름차순
             }
-            catsByStore = tmpCats;
-
-
-            // 4) 메뉴 배치 조회
-            var menuList = jdbc.query("""
-                SELECT mi.store_id, mi.name
-                  FROM menu_items mi
-                 WHERE mi.store_id IN (:ids)
-                 ORDER BY mi.sort_order ASC, mi.created_at ASC
-            """, p2, (rs, n) -> Map.of(
-                    "store_id", rs.getString("store_id"),
-                    "name", rs.getString("name")
-            ));
-            var tmpMenus = new HashMap<String, List<String>>();
-            for (var row : menuList) {
-                String sid = (String) row.get("store_id");
-                String name = (String) row.get("name");
-                tmpMenus.computeIfAbsent(sid, k -> new ArrayList<>()).add(name);
+        }
+        return rank;
+    }
+
+    /**
+     * 키워드 후보 중 커서 위치(점수, id)까지의 후보 수
+     * - 후보 목록 내 위치(FIELD 순위)가 이 값보다 큰 행이 다음 페이지
+     */
+    private int keywordSeekRank(List<String> kwIds, Map<String, Double> scores, List<String> keys) {
+        double key;
+        try {
+            key = Double.parseDouble(Objects.requireNonNull(keys.get(1)));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+        }
+        String cursorId = keys.get(3);
+        int rank = 0;
+        for (String id : kwIds) {
+            double score = scores.get(id);
+            if (score > key || (score == key && id.compareTo(cursorId) <= 0)) {
+                rank++;
+            } else {
+                break; // 후보는 (점수 내림차순, id 오름차순)
             }
-            menusByStore = tmpMenus;
         }
+        return rank;
+    }
 
-        // 5) DTO로 조립
-        var items = new ArrayList<StoreSummaryDto>();
-        for (var r : rows) {
-            String sid = (String) r.get("id");
-            var categories = catsByStore.getOrDefault(sid, List.of());
-            var tags = tagsByStore.getOrDefault(sid, List.of());
-            var menus = menusByStore.getOrDefault(sid, List.of()).stream()
-                    .limit(3)
-                    .toList();
+    /** 커서 구조: [정렬기준, 정렬키1, 정렬키2, 매장 id] */
+    private static final int CURSOR_KEYS = 4;
 
-            items.add(new StoreSummaryDto(
-                    sid,
-                    (String) r.get("name"),
-                    (String) r.get("address"),
-                    (String) r.get("rep_image_url"),
-                    (Double) r.get("distance_km"),
-                    new StoreSummaryDto.Rating(
-                            (Double) r.get("rating_avg"),
-                            (Integer) r.get("rating_count")
-                    ),
-                    null, // is_open_now (필요 시 Service에서 계산)
-                    null, // next_open_time
-                    (Boolean) r.get("is_favorite"),
-                    categories,
-                    tags,
-                    menus,
-                    new StoreSummaryDto.Earlybird(
-                            r.get("best_discount_pct") != null,
-                            (Integer) r.get("best_discount_pct"),
-                            null,
-                            null
-                    )
-            ));
+    private List<String> decodeCursor(String cursor, StoreSortMode sortMode) {
+        List<String> keys = CursorCodec.decode(cursor, CURSOR_KEYS);
+        if (!sortMode.name().equals(keys.get(0)) || keys.get(3) == null) {
+            throw new IllegalArgumentException("커서가 현재 정렬 기준과 일치하지 않습니다.");
+        }
+        return keys;
+    }
+
+    private String encodeCursor(StoreSortMode sortMode, StoreSearchRow last, Map<String, Double> kwScores) {
+        Object key = null;
+        Object subKey = null;
+        switch (sortMode) {
+            case DISTANCE -> key = last.distanceKm();
+            case RATING -> {
+                key = last.ratingAvg();
+                subKey = Objects.requireNonNullElse(last.ratingCount(), 0);
+            }
+            case DISCOUNT -> key = last.bestDiscountPct();
+            case POPULARITY -> key = last.popularityScore() == null ? null : last.popularityScore().toPlainString();
+            case NAME -> key = last.name();
+            case RELEVANCE -> key = kwScores.get(last.id());
         }
+        return CursorCodec.encode(Arrays.asList(
+                sortMode.name(),
+                key == null ? null : key.toString(),
+                subKey == null ? null : subKey.toString(),
+                last.id()));
+    }
+
+    /**
+     * 공간 인덱스로 반경 내 후보 매장 조회
+     * @return 거리순 후보 목록, 인덱스를 쓸 수 없으면 null (SQL 거리 계산으로 대체)
+     */
+    private List<GeoGridIndex.Hit> findGeoCandidates(StoreSearchRequest req) {
+        Double radius = req.radiusKm();
+        if (req.distanceMaxKm() != null) {
+            radius = radius == null ? req.distanceMaxKm() : Math.min(radius, req.distanceMaxKm());
+        }
+        // 반경이 없으면 전체 매장이 대상이므로 IN 목록이 의미 없음
+        if (radius == null || !geoIndex.isReady()) {
+            return null;
+        }
+        return geoIndex.within(req.lat(), req.lng(), radius, MAX_GEO_CANDIDATES);
+    }
 
-        // total 계산 (같은 where 사용)
-        String countSql = "SELECT COUNT(*) FROM stores s " + where;
-        long total = jdbc.queryForObject(countSql, params, Long.class);
-        boolean hasNext = (long) page * size < total;
+    /**
+     * 검색 단계별 소요시간 기록 (search.stage{stage=main|tags|menus|count})
+     */
+    private <T> T timed(String stage, Supplier<T> body) {
+        return Timer.builder("search.stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(body);
+    }
+
+    private void timed(String stage, Runnable body) {
+        Timer.builder("search.stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(body);
+    }
 
-        return new PageResult<>(items, page, size, total, hasNext);
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newListArray(int size) {
+        return (List<String>[]) new List[size];
+    }
+
+    private static void collect(List<String>[] byRow, Integer pos, String value) {
+        if (pos == null) {
+            return;
+        }
+        if (byRow[pos] == null) {
+            byRow[pos] = new ArrayList<>(4);
+        }
+        byRow[pos].add(value);
+    }
+
+    /**
+     * 키워드 역색인 후보 조회
+     * @return 후보 매장 ID → 점수 (점수 내림차순), 인덱스를 쓸 수 없으면 null (SQL LIKE로 대체)
+     */
+    private Map<String, Double> findKeywordCandidates(String kw) {
+        if (!keywordIndex.isReady()) {
+            return null;
+        }
+        var hits = keywordIndex.search(kw);
+        return hits.size() > MAX_KEYWORD_CANDIDATES ? null : hits;
+    }
+
+    /**
+     * 사용자가 찜한 매장 ID 조회 (검색 결과의 is_favorite 계산용)
+     */
+    public Set<String> findFavoriteStoreIds(String userId, Collection<String> storeIds) {
+        if (userId == null || storeIds.isEmpty()) {
+            return Set.of();
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("uid", userId)
+                .addValue("ids", storeIds);
+        return new HashSet<>(jdbc.queryForList("""
+            SELECT f.store_id FROM user_favorites f
+             WHERE (f.user_id COLLATE utf8mb4_0900_ai_ci
+                    = CAST(:uid AS CHAR CHARACTER SET utf8mb4) COLLATE utf8mb4_0900_ai_ci)
+               AND f.store_id IN (:ids)
+        """, params, String.class));
     }
 
     public Map<String, Object> getFilterMeta(Double lat, Double lng, Double radiusKm, String type) {
@@ -336,13 +556,52 @@ public class SearchRepository {
 
         // categories: 홈 화면용 기본 4개 카테고리(더보기 제외)
         var categories = new ArrayList<Map<String, Object>>();
-        categories.add(Map.of("id", "cafe", "name", "카페"));
-        categories.add(Map.of("id", "bakery", "name", "베이커리"));
-        categories.add(Map.of("id", "brunch", "name", "브런치"));
-        categories.add(Map.of("id", "salad", "name", "샐러드"));
+        categories.add(new HashMap<>(Map.of("id", "cafe", "name", "카페")));
+        categories.add(new HashMap<>(Map.of("id", "bakery", "name", "베이커리")));
+        categories.add(new HashMap<>(Map.of("id", "brunch", "name", "브런치")));
+        categories.add(new HashMap<>(Map.of("id", "salad", "name", "샐러드")));
         result.put("categories", categories);
+        result.put("sort_options", List.of("distance","popularity","discount","rating","recent"));
+        result.put("time_slots", StoreFacetIndex.TIME_SLOTS);
+
+        // 미리 계산된 격자 집계가 있으면 DB 조회 없이 응답
+        var snapshot = facetIndex.snapshot();
+        if (snapshot != null) {
+            var counts = (lat != null && lng != null && radiusKm != null)
+                    ? snapshot.grid().within(lat, lng, radiusKm)
+                    : snapshot.grid().all();
+            categories.forEach(c -> c.put("count", counts.category((String) c.get("id"))));
+
+            var tags = new ArrayList<Map<String, Object>>();
+            var tagDict = snapshot.tags();
+            for (int i = 0; i < tagDict.size(); i++) {
+                var tag = tagDict.get(i);
+                int cnt = counts.tag(i);
+                if (cnt == 0 || (type != null && !type.isBlank() && !type.equals(tag.type()))) {
+                    continue;
+                }
+                var m = new LinkedHashMap<String, Object>();
+                m.put("id", tag.id());
+                m.put("name", tag.name());
+                m.put("type", tag.type());
+                m.put("count", cnt);
+                tags.add(m);
+            }
+            tags.sort((a, b) -> Integer.compare((int) b.get("count"), (int) a.get("count")));
+            result.put("tags", tags.size() > 50 ? new ArrayList<>(tags.subList(0, 50)) : tags);
+
+            result.put("store_count", counts.stores());
+            result.put("deal_count", counts.deals());
+            int dow = LocalDateTime.now(ZoneId.of("Asia/Seoul")).getDayOfWeek().getValue() % 7; // 일=0
+            var slotCounts = new ArrayList<Map<String, Object>>();
+            for (int i = 0; i < StoreFacetIndex.TIME_SLOTS.size(); i++) {
+                slotCounts.add(Map.of("slot", StoreFacetIndex.TIME_SLOTS.get(i), "count", counts.open(dow, i)));
+            }
+            result.put("time_slot_counts", slotCounts);
+            return result;
+        }
 
-        // tags
+        // tags (집계 인덱스 준비 전: DB 직접 조회)
         var params = new MapSqlParameterSource();
         String tagSql = "SELECT t.id, t.name, t.type, 0 AS cnt FROM tags t";
         if (lat != null && lng != null && radiusKm != null) {
@@ -377,14 +636,6 @@ public class SearchRepository {
             return m;
         });
         result.put("tags", tags);
-
-        result.put("sort_options", List.of("distance","popularity","discount","rating","recent"));
-        result.put("time_slots", List.of(
-                "05:00-06:00",
-                "06:00-07:00",
-                "07:00-08:00",
-                "08:00-09:00"
-        ));
         return result;
     }
 }
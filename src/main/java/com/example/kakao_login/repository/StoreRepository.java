@@ -1,11 +1,13 @@
 package com.example.kakao_login.repository;
 
+import com.example.kakao_login.entity.BusinessStatus;
 import com.example.kakao_login.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,22 @@ public interface StoreRepository extends JpaRepository<Store, String> {
         """)
     Optional<Store> findActiveById(@Param("storeId") String storeId);
 
+    /** 활성 매장 단건 조회 (지연 로딩 컬럼까지 한 번에, 매장 상세용) */
+    @Query("""
+        SELECT s FROM Store s FETCH ALL PROPERTIES
+        WHERE s.id = :storeId 
+          AND s.isActive = true
+        """)
+    Optional<Store> findDetailById(@Param("storeId") String storeId);
+
+    /** 여러 활성 매장 조회 (지연 로딩 컬럼까지 한 번에, 매장 일괄 조회용) */
+    @Query("""
+        SELECT s FROM Store s FETCH ALL PROPERTIES
+        WHERE s.id IN :storeIds 
+          AND s.isActive = true
+        """)
+    List<Store> findDetailsByIdIn(@Param("storeIds") Collection<String> storeIds);
+
     /** 여러 매장 활성 상태 조회 (기존 메서드) */
     @Query("""
         SELECT s FROM Store s 
@@ -37,10 +55,75 @@ public interface StoreRepository extends JpaRepository<Store, String> {
         return findByIdInAndIsActiveTrue(storeIds);
     }
 
+    /**
+     * 여러 매장 목록 카드 조회 (찜 목록 / 모닝 세일용)
+     * - 필요한 컬럼만 읽고 엔티티를 영속성 컨텍스트에 올리지 않음
+     */
+    @Query("""
+        SELECT s.id AS id, s.name AS name, s.repImageUrl AS repImageUrl,
+               s.businessStatus AS businessStatus, s.openTime AS openTime, s.closeTime AS closeTime
+        FROM Store s 
+        WHERE s.id IN :storeIds 
+          AND s.isActive = true
+        ORDER BY s.name
+        """)
+    List<StoreCard> findCardsByIdIn(@Param("storeIds") Collection<String> storeIds);
+
+    /**
+     * 여러 매장 이름 조회 (비활성 매장 포함, 내 리뷰 목록용)
+     */
+    @Query("""
+        SELECT s.id AS id, s.name AS name
+        FROM Store s 
+        WHERE s.id IN :storeIds
+        """)
+    List<StoreName> findNamesByIdIn(@Param("storeIds") Collection<String> storeIds);
+
+    /**
+     * 전체 매장 기본 정보 조회 (테스트용 목록)
+     */
+    @Query("""
+        SELECT s.id AS id, s.name AS name, s.address AS address,
+               s.kakaoPlaceId AS kakaoPlaceId, s.naverPlaceId AS naverPlaceId,
+               s.businessStatus AS businessStatus, s.openTime AS openTime, s.closeTime AS closeTime
+        FROM Store s
+        """)
+    List<StoreListing> findAllListings();
+
     /**
      * 매장명으로 매장 조회
      * @param name 매장명
      * @return 매장 정보 Optional
      */
     Optional<Store> findByName(String name);
+
+    /**
+     * 매장 이름 프로젝션
+     */
+    interface StoreName {
+        String getId();
+        String getName();
+    }
+
+    /**
+     * 매장 목록 카드 프로젝션
+     */
+    interface StoreCard extends StoreName {
+        String getRepImageUrl();
+        BusinessStatus getBusinessStatus();
+        String getOpenTime();
+        String getCloseTime();
+    }
+
+    /**
+     * 매장 기본 정보 프로젝션
+     */
+    interface StoreListing extends StoreName {
+        String getAddress();
+        String getKakaoPlaceId();
+        String getNaverPlaceId();
+        BusinessStatus getBusinessStatus();
+        String getOpenTime();
+        String getCloseTime();
+    }
 }
@@ -1,11 +1,14 @@
 package com.example.kakao_login.repository;
 
 import com.example.kakao_login.entity.StoreReview;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 /**
  * 매장 리뷰 Repository
@@ -25,6 +28,56 @@ public interface StoreReviewRepository extends JpaRepository<StoreReview, String
     """)
     List<StoreReview> findByStoreIdOrderByCreatedAtDesc(@Param("storeId") String storeId);
 
+    /**
+     * 매장 리뷰 피드 첫 페이지 (최신순, 커서 키 (createdAt, id))
+     * - idx_review_store_feed (store_id, created_at, id) 범위 스캔
+     * @param limit 페이지 크기 + 1 (다음 페이지 존재 확인용)
+     */
+    @Query("""
+        SELECT sr.id AS id, sr.userNickname AS userNickname, sr.rating AS rating,
+               sr.content AS content, sr.repImageUrl AS repImageUrl, sr.imageCount AS imageCount,
+               sr.createdAt AS createdAt
+        FROM StoreReview sr
+        WHERE sr.storeId = :storeId
+        AND sr.isActive = true
+        ORDER BY sr.createdAt DESC, sr.id DESC
+    """)
+    List<ReviewFeedRow> findFeedFirstPage(@Param("storeId") String storeId, Limit limit);
+
+    /**
+     * 매장 리뷰 피드 다음 페이지 (커서 행 이후부터)
+     * @param cursorAt 이전 페이지 마지막 리뷰 작성 시각
+     * @param cursorId 이전 페이지 마지막 리뷰 ID
+     */
+    @Query("""
+        SELECT sr.id AS id, sr.userNickname AS userNickname, sr.rating AS rating,
+               sr.content AS content, sr.repImageUrl AS repImageUrl, sr.imageCount AS imageCount,
+               sr.createdAt AS createdAt
+        FROM StoreReview sr
+        WHERE sr.storeId = :storeId
+        AND sr.isActive = true
+        AND (sr.createdAt < :cursorAt OR (sr.createdAt = :cursorAt AND sr.id < :cursorId))
+        ORDER BY sr.createdAt DESC, sr.id DESC
+    """)
+    List<ReviewFeedRow> findFeedAfter(@Param("storeId") String storeId,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") String cursorId,
+                                      Limit limit);
+
+    /**
+     * 매장 사진 모아보기 스트립 (최근 포토 리뷰의 대표 이미지, 리뷰당 1장)
+     * - idx_review_store_feed (store_id, created_at, id) 범위 스캔, review_images 는 읽지 않음
+     */
+    @Query("""
+        SELECT sr.repImageUrl
+        FROM StoreReview sr
+        WHERE sr.storeId = :storeId
+        AND sr.isActive = true
+        AND sr.repImageUrl IS NOT NULL
+        ORDER BY sr.createdAt DESC, sr.id DESC
+    """)
+    List<String> findRecentRepImageUrls(@Param("storeId") String storeId, Limit limit);
+
     /**
      * 특정 매장의 리뷰 개수 조회
      */
@@ -52,4 +105,16 @@ public interface StoreReviewRepository extends JpaRepository<StoreReview, String
      */
     long countByUserId(String userId);
 
+    /**
+     * 리뷰 피드 행 (작성자ID 등 피드에 필요 없는 컬럼 제외)
+     */
+    interface ReviewFeedRow {
+        String getId();
+        String getUserNickname();
+        BigDecimal getRating();
+        String getContent();
+        String getRepImageUrl();
+        Integer getImageCount();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,212 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 매장 리뷰 집계(store_review_stats) 관리
+ * - 리뷰 수 / 평점 합 / 별점 분포를 증분으로 갱신하고 stores.rating_avg, rating_count 에 반영
+ * - 증분 갱신은 집계 행 UPDATE 잠금으로 같은 매장의 동시 쓰기를 직렬화 (리뷰 행은 다시 읽지 않음)
+ * - 별점 구간: 평점을 반올림한 1~5
+ */
+@Repository
+public class StoreReviewStatsRepository {
+
+    /** 활성 리뷰 기준 매장별 집계 (%s: 매장 조건) */
+    private static final String AGGREGATE_SQL = """
+        SELECT r.store_id,
+               COUNT(*)                                     AS review_count,
+               COALESCE(SUM(r.rating), 0)                   AS rating_sum,
+               SUM(LEAST(GREATEST(ROUND(r.rating), 1), 5) = 1) AS star_1,
+               SUM(LEAST(GREATEST(ROUND(r.rating), 1), 5) = 2) AS star_2,
+               SUM(LEAST(GREATEST(ROUND(r.rating), 1), 5) = 3) AS star_3,
+               SUM(LEAST(GREATEST(ROUND(r.rating), 1), 5) = 4) AS star_4,
+               SUM(LEAST(GREATEST(ROUND(r.rating), 1), 5) = 5) AS star_5
+          FROM store_reviews r
+         WHERE r.is_active = 1
+           %s
+         GROUP BY r.store_id
+        """;
+
+    private static final String STAR_COLUMNS = "star_1, star_2, star_3, star_4, star_5";
+
+    /** 집계 행이 없을 때만 현재 리뷰로 만들어 둠 (동시에 만들면 먼저 넣은 쪽 유지) */
+    private static final String SEED_SQL = """
+        INSERT IGNORE INTO store_review_stats
+              (store_id, review_count, rating_sum, %1$s, updated_at)
+        SELECT :storeId,
+               COALESCE(a.review_count, 0), COALESCE(a.rating_sum, 0),
+               COALESCE(a.star_1, 0), COALESCE(a.star_2, 0), COALESCE(a.star_3, 0),
+               COALESCE(a.star_4, 0), COALESCE(a.star_5, 0),
+               NOW(6)
+          FROM (SELECT 1) one
+          LEFT JOIN (%2$s) a ON 1 = 1
+        """.formatted(STAR_COLUMNS, AGGREGATE_SQL.formatted("AND r.store_id = :storeId"));
+
+    private static final String APPLY_SQL = """
+        UPDATE store_review_stats
+           SET review_count = GREATEST(review_count + :countDelta, 0),
+               rating_sum   = GREATEST(rating_sum + :sumDelta, 0),
+               star_1       = GREATEST(star_1 + :s1, 0),
+               star_2       = GREATEST(star_2 + :s2, 0),
+               star_3       = GREATEST(star_3 + :s3, 0),
+               star_4       = GREATEST(star_4 + :s4, 0),
+               star_5       = GREATEST(star_5 + :s5, 0),
+               updated_at   = NOW(6)
+         WHERE store_id = :storeId
+        """;
+
+    /** 집계 → stores 비정규화 컬럼 (%s: 매장 조건) */
+    private static final String SYNC_STORES_SQL = """
+        UPDATE stores s
+          JOIN store_review_stats rs ON rs.store_id = s.id
+           SET s.rating_count = rs.review_count,
+               s.rating_avg   = CASE WHEN rs.review_count = 0 THEN NULL
+                                     ELSE ROUND(rs.rating_sum / rs.review_count, 2) END
+         %s
+        """;
+
+    private static final String RECONCILE_SQL = """
+        INSERT INTO store_review_stats
+              (store_id, review_count, rating_sum, %1$s, updated_at)
+        SELECT s.id,
+               COALESCE(a.review_count, 0), COALESCE(a.rating_sum, 0),
+               COALESCE(a.star_1, 0), COALESCE(a.star_2, 0), COALESCE(a.star_3, 0),
+               COALESCE(a.star_4, 0), COALESCE(a.star_5, 0),
+               NOW(6)
+          FROM stores s
+          LEFT JOIN (%2$s) a ON a.store_id = s.id
+        ON DUPLICATE KEY UPDATE
+            review_count = VALUES(review_count),
+            rating_sum   = VALUES(rating_sum),
+            star_1       = VALUES(star_1),
+            star_2       = VALUES(star_2),
+            star_3       = VALUES(star_3),
+            star_4       = VALUES(star_4),
+            star_5       = VALUES(star_5),
+            updated_at   = NOW(6)
+        """.formatted(STAR_COLUMNS, AGGREGATE_SQL.formatted(""));
+
+    private static final String FIND_SQL = """
+        SELECT review_count, rating_sum
+          FROM store_review_stats
+         WHERE store_id = :storeId
+        """;
+
+    /** 집계와 실제 리뷰가 다른 매장 수 (보정 전 점검용) */
+    private static final String DRIFT_SQL = """
+        SELECT COUNT(*)
+          FROM stores s
+          LEFT JOIN store_review_stats rs ON rs.store_id = s.id
+          LEFT JOIN (%s) a ON a.store_id = s.id
+         WHERE rs.store_id IS NULL
+            OR rs.review_count <> COALESCE(a.review_count, 0)
+            OR rs.rating_sum   <> COALESCE(a.rating_sum, 0)
+        """.formatted(AGGREGATE_SQL.formatted(""));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreReviewStatsRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 매장 리뷰 수 / 평균 평점
+     * @param ratingAvg 리뷰가 없으면 null
+     */
+    public record Stats(int reviewCount, BigDecimal ratingAvg) {
+    }
+
+    /**
+     * 매장 리뷰 집계 조회 (집계 행이 아직 없으면 리뷰에서 직접 계산)
+     */
+    public Stats find(String storeId) {
+        var params = new MapSqlParameterSource("storeId", storeId);
+        RowMapper<Stats> mapper = (rs, i) -> toStats(rs.getInt("review_count"), rs.getBigDecimal("rating_sum"));
+        List<Stats> rows = jdbc.query(FIND_SQL, params, mapper);
+        if (rows.isEmpty()) {
+            rows = jdbc.query(AGGREGATE_SQL.formatted("AND r.store_id = :storeId"), params, mapper);
+        }
+        return rows.isEmpty() ? new Stats(0, null) : rows.get(0);
+    }
+
+    private static Stats toStats(int reviewCount, BigDecimal ratingSum) {
+        return new Stats(reviewCount, reviewCount == 0 ? null
+                : ratingSum.divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * 리뷰 추가 반영 (리뷰 저장 전에 호출)
+     */
+    public void addReview(String storeId, BigDecimal rating) {
+        apply(storeId, 1, rating, null, rating);
+    }
+
+    /**
+     * 리뷰 평점 변경 반영 (리뷰 저장 전에 호출)
+     */
+    public void changeRating(String storeId, BigDecimal oldRating, BigDecimal newRating) {
+        apply(storeId, 0, newRating.subtract(oldRating), oldRating, newRating);
+    }
+
+    /**
+     * 리뷰 삭제 반영 (리뷰 삭제 전에 호출)
+     */
+    public void removeReview(String storeId, BigDecimal rating) {
+        apply(storeId, -1, rating.negate(), rating, null);
+    }
+
+    /**
+     * 증분 적용 후 stores.rating_avg / rating_count 동기화
+     * - 집계 행이 있으면 UPDATE 한 번 (행 잠금만, 리뷰 재집계 없음)
+     * - 갱신된 행이 없을 때만 현재 리뷰로 집계 행을 만든 뒤 다시 적용
+     *   (리뷰 변경을 DB 에 쓰기 전에 호출해야 변경 전 상태 기준으로 만들어짐)
+     * @param removed 빠지는 평점 (없으면 null)
+     * @param added 더해지는 평점 (없으면 null)
+     */
+    private void apply(String storeId, int countDelta, BigDecimal sumDelta, BigDecimal removed, BigDecimal added) {
+        int[] stars = new int[6];
+        if (removed != null) {
+            stars[star(removed)]--;
+        }
+        if (added != null) {
+            stars[star(added)]++;
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("storeId", storeId)
+                .addValue("countDelta", countDelta)
+                .addValue("sumDelta", sumDelta);
+        for (int i = 1; i <= 5; i++) {
+            params.addValue("s" + i, stars[i]);
+        }
+        if (jdbc.update(APPLY_SQL, params) == 0) {
+            jdbc.update(SEED_SQL, params);
+            jdbc.update(APPLY_SQL, params);
+        }
+        jdbc.update(SYNC_STORES_SQL.formatted("WHERE s.id = :storeId"), params);
+    }
+
+    /**
+     * 전체 재계산 후 stores 동기화
+     * @return 재계산 전 불일치 매장 수
+     */
+    public int reconcileAll() {
+        var params = new MapSqlParameterSource();
+        Integer drift = jdbc.queryForObject(DRIFT_SQL, params, Integer.class);
+        jdbc.update(RECONCILE_SQL, params);
+        jdbc.update(SYNC_STORES_SQL.formatted(""), params);
+        return drift == null ? 0 : drift;
+    }
+
+    /** 평점 → 별점 구간 (반올림, 1~5) */
+    static int star(BigDecimal rating) {
+        int rounded = rating.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(5, rounded));
+    }
+}
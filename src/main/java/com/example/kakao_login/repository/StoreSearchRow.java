@@ -0,0 +1,100 @@
+package com.example.kakao_login.repository;
+
+import com.example.kakao_login.dto.search.StoreSummaryDto;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 검색 본 조회 한 행
+ * - ResultSet 에서 바로 읽어 만든 뒤 태그/메뉴와 함께 StoreSummaryDto 로 조립 (중간 Map 없음)
+ */
+public record StoreSearchRow(
+        String id,
+        String name,
+        String address,
+        String repImageUrl,
+        Double distanceKm,
+        Double ratingAvg,
+        Integer ratingCount,
+        Integer bestDiscountPct,
+        BigDecimal popularityScore,
+        String categoryName
+) {
+
+    /**
+     * 행 매퍼 (컬럼 위치는 첫 행에서 한 번만 찾음, 쿼리마다 새로 생성)
+     * @param geoDistances 공간 인덱스가 계산한 매장별 거리 (있으면 SQL 값 대신 사용)
+     */
+    public static RowMapper<StoreSearchRow> mapper(Map<String, Double> geoDistances) {
+        return new RowMapper<>() {
+            private int[] columns;
+
+            @Override
+            public StoreSearchRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+                if (columns == null) {
+                    columns = new int[]{
+                            rs.findColumn("id"),
+                            rs.findColumn("name"),
+                            rs.findColumn("address"),
+                            rs.findColumn("rep_image_url"),
+                            rs.findColumn("distance_km"),
+                            rs.findColumn("rating_avg"),
+                            rs.findColumn("rating_count"),
+                            rs.findColumn("best_discount_pct"),
+                            rs.findColumn("popularity_score"),
+                            rs.findColumn("category_name")
+                    };
+                }
+                String id = rs.getString(columns[0]);
+                return new StoreSearchRow(
+                        id,
+                        rs.getString(columns[1]),
+                        rs.getString(columns[2]),
+                        rs.getString(columns[3]),
+                        geoDistances != null ? geoDistances.get(id) : nullableDouble(rs, columns[4]),
+                        nullableDouble(rs, columns[5]),
+                        nullableInt(rs, columns[6]),
+                        nullableInt(rs, columns[7]),
+                        rs.getBigDecimal(columns[8]),
+                        rs.getString(columns[9]));
+            }
+        };
+    }
+
+    /**
+     * 응답 DTO 조립 (영업 상태/찜 여부는 Service에서 덧씌움)
+     * @param tags 태그명 (없으면 null)
+     * @param menus 대표 메뉴명 (없으면 null)
+     */
+    public StoreSummaryDto toDto(List<String> tags, List<String> menus) {
+        return new StoreSummaryDto(
+                id,
+                name,
+                address,
+                repImageUrl,
+                distanceKm,
+                new StoreSummaryDto.Rating(ratingAvg, ratingCount),
+                null, // is_open_now
+                null, // next_open_time
+                null, // is_favorite
+                categoryName == null ? List.of() : List.of(categoryName),
+                tags == null ? List.of() : tags,
+                menus == null ? List.of() : menus,
+                new StoreSummaryDto.Earlybird(bestDiscountPct != null, bestDiscountPct, null, null));
+    }
+
+    private static Double nullableDouble(ResultSet rs, int column) throws SQLException {
+        double v = rs.getDouble(column);
+        return rs.wasNull() ? null : v;
+    }
+
+    private static Integer nullableInt(ResultSet rs, int column) throws SQLException {
+        int v = rs.getInt(column);
+        return rs.wasNull() ? null : v;
+    }
+}
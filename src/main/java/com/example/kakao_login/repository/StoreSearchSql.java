@@ -0,0 +1,108 @@
+package com.example.kakao_login.repository;
+
+import com.example.kakao_login.search.StoreSortMode;
+
+/**
+ * 매장 검색 SQL 조립
+ * - 요청마다 바뀌지 않는 조각은 상수로 두고 StringBuilder 한 번으로 이어 붙임 (text block formatted() 파싱 없음)
+ * - 본 조회 컬럼 순서는 StoreSearchRow 매핑과 맞춰 둠
+ */
+public final class StoreSearchSql {
+
+    /**
+     * 카테고리 필터와 평점/할인/인기 정렬은 store_search_view 컬럼 기준 (뷰 인덱스로 필터·정렬)
+     * - 모든 매장에 뷰 행이 있다고 보고 내부 조인 (SchemaMigrator 초기 적재 + 기동 시 전체 재계산,
+     *   새 매장은 변경 감지 피드가 행을 만들 때부터 검색됨)
+     */
+    public static final String FROM_CLAUSE = """
+        FROM store_search_view v
+        JOIN stores s ON s.id = v.store_id
+        """;
+
+    /** 대표 카테고리명 (본 조회에만 사용) */
+    public static final String CATEGORY_JOIN = """
+        LEFT JOIN categories c ON c.id = s.category_id
+        """;
+
+    private static final String MAIN_HEAD = """
+          WITH base AS (
+            SELECT
+              v.store_id AS id, s.name, s.address, s.rep_image_url,
+              v.rating_avg, v.rating_count,
+              c.name AS category_name,
+        """;
+
+    private static final String MAIN_COLUMNS_TAIL = """
+         AS distance_km,
+              v.best_discount_pct,
+              v.popularity_score
+        """;
+
+    private static final String MAIN_FROM = FROM_CLAUSE + CATEGORY_JOIN;
+
+    private static final String MAIN_BASE_END = """
+          )
+          SELECT *
+          FROM base
+          """;
+
+    private static final String MAIN_LIMIT = " LIMIT :limit OFFSET :offset ";
+
+    private static final String COUNT_HEAD = "SELECT COUNT(*) " + FROM_CLAUSE;
+
+    private StoreSearchSql() {
+    }
+
+    /**
+     * 본 조회 SQL (size + 1 건 조회로 다음 페이지 판단)
+     * @param distanceExpr 거리 식 (위치 없으면 "NULL")
+     * @param where WHERE 절
+     * @param seek 커서 이후 조건 (없으면 "")
+     * @param orderBy ORDER BY 절
+     */
+    public static String mainQuery(String distanceExpr, CharSequence where, String seek, String orderBy) {
+        return new StringBuilder(MAIN_HEAD.length() + MAIN_FROM.length() + MAIN_BASE_END.length()
+                + distanceExpr.length() + where.length() + seek.length() + orderBy.length() + 128)
+                .append(MAIN_HEAD)
+                .append(distanceExpr)
+                .append(MAIN_COLUMNS_TAIL)
+                .append(MAIN_FROM)
+                .append(where)
+                .append(MAIN_BASE_END)
+                .append(seek)
+                .append(orderBy)
+                .append(MAIN_LIMIT)
+                .toString();
+    }
+
+    /**
+     * 전체 건수 SQL (본 조회와 같은 WHERE 사용)
+     */
+    public static String countQuery(CharSequence where) {
+        return new StringBuilder(COUNT_HEAD.length() + where.length())
+                .append(COUNT_HEAD)
+                .append(where)
+                .toString();
+    }
+
+    /**
+     * 정렬 기준별 ORDER BY 절 (모든 정렬에 id를 마지막 키로 붙여 커서 위치를 유일하게 만듦)
+     * - 평점/할인/인기는 뷰의 (값 DESC, store_id) 인덱스 순서와 같게 둠 (MySQL DESC 정렬은 NULL 이 마지막)
+     */
+    public static String orderBy(StoreSortMode sortMode) {
+        return switch (sortMode) {
+            case DISTANCE ->
+                    " ORDER BY (distance_km IS NULL) ASC, distance_km ASC, id ASC ";
+            case RATING ->
+                    " ORDER BY rating_avg DESC, rating_count DESC, id ASC ";
+            case DISCOUNT ->
+                    " ORDER BY best_discount_pct DESC, id ASC ";
+            case POPULARITY ->
+                    " ORDER BY popularity_score DESC, id ASC ";
+            case NAME ->
+                    " ORDER BY name COLLATE utf8mb4_0900_ai_ci ASC, id ASC ";
+            case RELEVANCE ->
+                    " ORDER BY FIELD(id, :kwIds) ASC, id ASC "; // 키워드 후보 목록이 점수순
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 매장 검색 비정규화 테이블(store_search_view) 관리
+ * - 매장별 최대 할인율(숫자), 찜 수, 인기 점수, 평점, 대표 카테고리를 한 행으로 유지
+ * - 딜/찜/리뷰 쓰기 경로에서 해당 매장 행만 갱신
+ */
+@Repository
+public class StoreSearchViewRepository {
+
+    /** 인기 점수 = 리뷰수 * 1.0 + 찜 수 * 2.0 */
+    private static final String REFRESH_SQL = """
+        INSERT INTO store_search_view
+              (store_id, category_id, best_discount_pct, favorite_count,
+               rating_avg, rating_count, popularity_score, updated_at)
+        SELECT x.store_id, x.category_id, x.best_discount_pct, x.favorite_count,
+               x.rating_avg, x.rating_count,
+               x.rating_count * 1.0 + x.favorite_count * 2.0, NOW(6)
+          FROM (
+            SELECT s.id AS store_id,
+                   s.category_id,
+                   (SELECT MAX(CASE WHEN d.discount_value REGEXP '^[0-9]+$'
+                                    THEN CAST(d.discount_value AS SIGNED) ELSE 0 END)
+                      FROM earlybird_deals d
+                     WHERE d.store_id = s.id
+                       AND (d.status COLLATE utf8mb4_0900_ai_ci = 'ACTIVE' COLLATE utf8mb4_0900_ai_ci)
+                   ) AS best_discount_pct,
+                   (SELECT COUNT(*) FROM user_favorites uf WHERE uf.store_id = s.id) AS favorite_count,
+                   s.rating_avg,
+                   COALESCE(s.rating_count, 0) AS rating_count
+              FROM stores s
+              %s
+          ) x
+        ON DUPLICATE KEY UPDATE
+            category_id       = x.category_id,
+            best_discount_pct = x.best_discount_pct,
+            favorite_count    = x.favorite_count,
+            rating_avg        = x.rating_avg,
+            rating_count      = x.rating_count,
+            popularity_score  = x.rating_count * 1.0 + x.favorite_count * 2.0,
+            updated_at        = NOW(6)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreSearchViewRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 지정한 매장 행을 원본 테이블 기준으로 다시 계산
+     * @return 반영된 행 수
+     */
+    public int refresh(Collection<String> storeIds) {
+        if (storeIds.isEmpty()) {
+            return 0;
+        }
+        return jdbc.update(REFRESH_SQL.formatted("WHERE s.id IN (:ids)"),
+                new MapSqlParameterSource("ids", storeIds));
+    }
+
+    /**
+     * 전체 매장 행을 다시 계산 (누락/불일치 보정용)
+     */
+    public int refreshAll() {
+        return jdbc.update(REFRESH_SQL.formatted(""), new MapSqlParameterSource());
+    }
+
+    /**
+     * 찜 수 증감 (행이 없으면 전체 계산으로 생성)
+     * @param delta +1(추가) 또는 -1(해제)
+     */
+    public void adjustFavoriteCount(String storeId, int delta) {
+        // MySQL UPDATE는 SET을 왼쪽부터 적용하므로 popularity_score에는 갱신된 favorite_count가 쓰임
+        int updated = jdbc.update("""
+            UPDATE store_search_view
+               SET favorite_count   = GREATEST(favorite_count + :delta, 0),
+                   popularity_score = rating_count * 1.0 + favorite_count * 2.0,
+                   updated_at       = NOW(6)
+             WHERE store_id = :storeId
+        """, new MapSqlParameterSource()
+                .addValue("storeId", storeId)
+                .addValue("delta", delta));
+        if (updated == 0) {
+            refresh(List.of(storeId));
+        }
+    }
+
+    /**
+     * 여러 매장의 찜 수 증감을 UPDATE 한 번으로 반영 (찜 일괄 동기화)
+     * - 갱신된 행이 매장 수보다 적으면 (행이 없는 매장) 해당 묶음을 전체 계산으로 다시 맞춤
+     * @param added 찜이 추가된 매장 (+1)
+     * @param removed 찜이 해제된 매장 (-1)
+     */
+    public void adjustFavoriteCounts(Collection<String> added, Collection<String> removed) {
+        List<String> ids = new ArrayList<>(added.size() + removed.size());
+        ids.addAll(added);
+        ids.addAll(removed);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // IN () 는 문법 오류이므로 추가가 없으면 존재하지 않는 ID 로 채움
+        int updated = jdbc.update("""
+            UPDATE store_search_view
+               SET favorite_count   = GREATEST(favorite_count + CASE WHEN store_id IN (:added) THEN 1 ELSE -1 END, 0),
+                   popularity_score = rating_count * 1.0 + favorite_count * 2.0,
+                   updated_at       = NOW(6)
+             WHERE store_id IN (:ids)
+        """, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("added", added.isEmpty() ? List.of("") : added));
+        if (updated < ids.size()) {
+            refresh(ids);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 매장 조회수(store_views) 누적 쓰기
+ * - 읽고-수정-저장 대신 (store_id, view_date) 유니크 키 기준 upsert 로 증가분만 더함
+ * - 여러 매장을 JDBC 배치 한 번으로 반영 (rewriteBatchedStatements 사용 시 다중 행 INSERT 한 문장)
+ */
+@Repository
+public class StoreViewCountRepository {
+
+    /** UPDATE 절에 파라미터가 없어야 드라이버가 다중 행 INSERT로 합칠 수 있음 */
+    private static final String UPSERT_SQL = """
+        INSERT INTO store_views (id, store_id, view_date, view_count, is_active, created_at, updated_at)
+        VALUES (UUID(), :storeId, :viewDate, :delta, 1, NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+            view_count = view_count + VALUES(view_count),
+            updated_at = NOW()
+        """;
+
+    private static final String TOP_COUNTS_SQL = """
+        SELECT store_id, view_count
+          FROM store_views
+         WHERE view_date = :viewDate AND is_active = 1
+         ORDER BY view_count DESC
+         LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreViewCountRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 매장별 조회수 증가분 반영
+     * @param viewDate 집계 일자
+     * @param deltas 매장 ID → 증가분
+     */
+    public void addViewCounts(LocalDate viewDate, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = deltas.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("storeId", e.getKey())
+                        .addValue("viewDate", viewDate)
+                        .addValue("delta", e.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    /**
+     * 일자별 조회수 상위 매장 (재시작 시 인메모리 순위 복원용)
+     * @return 매장 ID → 조회수 (조회수 내림차순)
+     */
+    public Map<String, Long> findTopCounts(LocalDate viewDate, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("viewDate", viewDate)
+                .addValue("limit", limit);
+        Map<String, Long> out = new LinkedHashMap<>();
+        jdbc.query(TOP_COUNTS_SQL, params, rs -> {
+            out.put(rs.getString("store_id"), rs.getLong("view_count"));
+        });
+        return out;
+    }
+}
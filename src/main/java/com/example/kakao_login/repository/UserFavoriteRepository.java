@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,20 @@ public interface UserFavoriteRepository extends JpaRepository<UserFavorite, Stri
      * @return 즐겨찾기 정보 (있으면 Optional에 포함, 없으면 empty)
      */
     Optional<UserFavorite> findByUserIdAndStoreId(String userId, String storeId);
+
+    /**
+     * 여러 매장 중 사용자가 즐겨찾기한 매장 ID 조회
+     * @param userId 사용자 ID
+     * @param storeIds 매장 ID 목록
+     * @return 즐겨찾기한 매장 ID 목록
+     */
+    @Query("""
+        SELECT f.storeId FROM UserFavorite f 
+        WHERE f.userId = :userId 
+        AND f.storeId IN :storeIds
+        """)
+    List<String> findFavoriteStoreIds(@Param("userId") String userId,
+                                      @Param("storeIds") Collection<String> storeIds);
     
     /**
      * 특정 사용자의 모든 즐겨찾기 목록 조회 (최신 등록순)
@@ -0,0 +1,63 @@
+package com.example.kakao_login.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 포인트 카운터(user_point_counters)
+ * - 리뷰 등록 횟수와 지급한 마일스톤 비트를 보관 (원장 LIKE 검색 대신 사용)
+ * - 증가/지급 표시는 단일 문장으로 처리하고, 호출 측 트랜잭션 안에서 행 잠금으로 같은 사용자끼리 직렬화
+ */
+@Repository
+public class UserPointCounterRepository {
+
+    private static final String INCREMENT_REVIEW_SQL = """
+        INSERT INTO user_point_counters (user_id, review_count, milestones_granted, updated_at)
+        VALUES (:userId, 1, 0, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            review_count = review_count + 1,
+            updated_at   = NOW(6)
+        """;
+
+    /** 같은 트랜잭션에서 방금 바꾼 행이므로 자신의 변경값이 읽힘 */
+    private static final String REVIEW_COUNT_SQL = """
+        SELECT review_count FROM user_point_counters WHERE user_id = :userId
+        """;
+
+    /** 아직 지급하지 않은 마일스톤만 표시 */
+    private static final String GRANT_MILESTONE_SQL = """
+        UPDATE user_point_counters
+           SET milestones_granted = milestones_granted | :mask,
+               updated_at         = NOW(6)
+         WHERE user_id = :userId
+           AND (milestones_granted & :mask) = 0
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public UserPointCounterRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 리뷰 등록 횟수 1 증가
+     * @return 증가 후 횟수
+     */
+    public long incrementReviewCount(String userId) {
+        var params = new MapSqlParameterSource("userId", userId);
+        jdbc.update(INCREMENT_REVIEW_SQL, params);
+        Long count = jdbc.queryForObject(REVIEW_COUNT_SQL, params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 마일스톤 지급 표시
+     * @return 이번에 처음 표시했으면 true (이미 지급했으면 false)
+     */
+    public boolean markMilestoneGranted(String userId, long mask) {
+        return jdbc.update(GRANT_MILESTONE_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("mask", mask)) == 1;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.kakao_login.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 격자 셀별 필터 집계 (불변 스냅샷)
+ * - 매장을 위경도 격자 셀로 나누고 셀마다 태그/카테고리/딜/시간대별 영업 매장 수를 미리 합산
+ * - 반경 조회 시 원 안에 완전히 들어가는 셀은 합계만 더하고, 경계에 걸친 셀만 매장 단위로 거리 확인
+ */
+public final class FacetGrid {
+
+    private final double cellDeg;
+    private final int tagCount;
+    private final int slotCount;
+    private final Map<Long, Cell> cells;
+    /** 좌표 없는 매장 포함 전체 합계 */
+    private final Counts all;
+
+    private FacetGrid(double cellDeg, int tagCount, int slotCount, Map<Long, Cell> cells, Counts all) {
+        this.cellDeg = cellDeg;
+        this.tagCount = tagCount;
+        this.slotCount = slotCount;
+        this.cells = cells;
+        this.all = all;
+    }
+
+    /**
+     * 집계 대상 매장
+     * @param tags 태그 번호 목록 (사전 순번)
+     * @param openMask 요일(0~6) x 시간대 순번 비트, bit = dow * slotCount + slot
+     */
+    public record Store(String id, Double lat, Double lng, String categoryId, boolean hasDeal,
+                        int[] tags, long openMask) {
+    }
+
+    /**
+     * 전체 매장 집계
+     */
+    public Counts all() {
+        return all;
+    }
+
+    /**
+     * 반경 내 매장 집계
+     */
+    public Counts within(double lat, double lng, double radiusKm) {
+        Counts out = new Counts(tagCount, slotCount);
+        if (radiusKm < 0) {
+            return out;
+        }
+        double kmPerDegLat = Math.PI * 6371.0 / 180.0;
+        double latSpan = radiusKm / kmPerDegLat;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double lngSpan = Math.min(radiusKm / (kmPerDegLat * cosLat), 180.0);
+
+        long minRow = cell(lat - latSpan);
+        long maxRow = cell(lat + latSpan);
+        long minCol = cell(lng - lngSpan);
+        long maxCol = cell(lng + lngSpan);
+        long covering = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        if (covering > cells.size()) {
+            for (var e : cells.entrySet()) {
+                long row = e.getKey() >> 32;
+                long col = (int) (long) e.getKey();
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    addCell(out, e.getValue(), row, col, lat, lng, radiusKm);
+                }
+            }
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Cell c = cells.get(key(row, col));
+                    if (c != null) {
+                        addCell(out, c, row, col, lat, lng, radiusKm);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private void addCell(Counts out, Cell c, long row, long col, double lat, double lng, double radiusKm) {
+        double south = row * cellDeg, north = (row + 1) * cellDeg;
+        double west = col * cellDeg, east = (col + 1) * cellDeg;
+        boolean inside = GeoGridIndex.distanceKm(lat, lng, south, west) <= radiusKm
+            && GeoGridIndex.distanceKm(lat, lng, south, east) <= radiusKm
+            && GeoGridIndex.distanceKm(lat, lng, north, west) <= radiusKm
+            && GeoGridIndex.distanceKm(lat, lng, north, east) <= radiusKm;
+        if (inside) {
+            out.addAll(c.totals);
+            return;
+        }
+        // 경계 셀: 매장별 정확한 거리로 판정 (검색과 같은 거리식)
+        for (Store s : c.stores) {
+            if (GeoGridIndex.distanceKm(lat, lng, s.lat(), s.lng()) <= radiusKm) {
+                out.add(s);
+            }
+        }
+    }
+
+    private long cell(double deg) {
+        return (long) Math.floor(deg / cellDeg);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Cell(List<Store> stores, Counts totals) {
+    }
+
+    /**
+     * 집계 결과 (누적용, 스레드 안전하지 않음)
+     */
+    public static final class Counts {
+        private int stores;
+        private int deals;
+        private final int[] tags;
+        private final int[] open;
+        private final Map<String, Integer> categories = new HashMap<>();
+        private final int slotCount;
+
+        Counts(int tagCount, int slotCount) {
+            this.tags = new int[tagCount];
+            this.open = new int[7 * slotCount];
+            this.slotCount = slotCount;
+        }
+
+        void add(Store s) {
+            stores++;
+            if (s.hasDeal()) {
+                deals++;
+            }
+            for (int t : s.tags()) {
+                tags[t]++;
+            }
+            for (long mask = s.openMask(); mask != 0; mask &= mask - 1) {
+                open[Long.numberOfTrailingZeros(mask)]++;
+            }
+            if (s.categoryId() != null) {
+                categories.merge(s.categoryId(), 1, Integer::sum);
+            }
+        }
+
+        void addAll(Counts o) {
+            stores += o.stores;
+            deals += o.deals;
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] += o.tags[i];
+            }
+            for (int i = 0; i < open.length; i++) {
+                open[i] += o.open[i];
+            }
+            o.categories.forEach((k, v) -> categories.merge(k, v, Integer::sum));
+        }
+
+        public int stores() { return stores; }
+        public int deals() { return deals; }
+        public int tag(int ordinal) { return tags[ordinal]; }
+        public int category(String categoryId) { return categories.getOrDefault(categoryId, 0); }
+
+        /**
+         * 요일·시간대별 영업 매장 수
+         * @param dayOfWeek 0(일) ~ 6(토)
+         */
+        public int open(int dayOfWeek, int slot) {
+            return open[dayOfWeek * slotCount + slot];
+        }
+    }
+
+    /**
+     * 스냅샷 생성
+     */
+    public static class Builder {
+        private final double cellDeg;
+        private final int tagCount;
+        private final int slotCount;
+        private final Map<Long, List<Store>> byCell = new HashMap<>();
+        private final List<Store> all = new ArrayList<>();
+
+        public Builder(double cellDeg, int tagCount, int slotCount) {
+            if (cellDeg <= 0) {
+                throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellDeg);
+            }
+            if (7 * slotCount > Long.SIZE) {
+                throw new IllegalArgumentException("시간대가 너무 많습니다: " + slotCount);
+            }
+            this.cellDeg = cellDeg;
+            this.tagCount = tagCount;
+            this.slotCount = slotCount;
+        }
+
+        public Builder add(Store store) {
+            all.add(store);
+            if (store.lat() != null && store.lng() != null) {
+                long row = (long) Math.floor(store.lat() / cellDeg);
+                long col = (long) Math.floor(store.lng() / cellDeg);
+                byCell.computeIfAbsent(key(row, col), k -> new ArrayList<>()).add(store);
+            }
+            return this;
+        }
+
+        public FacetGrid build() {
+            var cells = new HashMap<Long, Cell>(byCell.size() * 2);
+            byCell.forEach((k, stores) -> {
+                var totals = new Counts(tagCount, slotCount);
+                stores.forEach(totals::add);
+                cells.put(k, new Cell(List.copyOf(stores), totals));
+            });
+            var total = new Counts(tagCount, slotCount);
+            all.forEach(total::add);
+            return new FacetGrid(cellDeg, tagCount, slotCount, cells, total);
+        }
+    }
+}
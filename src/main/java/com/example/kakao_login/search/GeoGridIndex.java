@@ -0,0 +1,171 @@
+package com.example.kakao_login.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위경도 격자(grid) 기반 공간 인덱스
+ * - 좌표를 cellDeg 크기의 격자 셀로 나누어 셀 → ID 목록으로 관리
+ * - 반경 조회 시 원을 덮는 셀만 확인한 뒤 정확한 거리로 한 번 더 거름
+ * - 쓰기(put/remove)는 직렬화, 읽기는 락 없이 수행
+ */
+public class GeoGridIndex {
+
+    /** SQL의 거리 계산식(6371 * acos(...))과 동일한 지구 반지름 */
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEG_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDeg;
+    private final Map<Long, Set<String>> cells = new ConcurrentHashMap<>();
+    private final Map<String, double[]> points = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellDeg) {
+        if (cellDeg <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellDeg);
+        }
+        this.cellDeg = cellDeg;
+    }
+
+    /**
+     * 좌표 등록 (이미 있으면 위치 갱신)
+     */
+    public synchronized void put(String id, double lat, double lng) {
+        remove(id);
+        points.put(id, new double[]{lat, lng});
+        cells.computeIfAbsent(cellKey(lat, lng), k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * 좌표 제거
+     */
+    public synchronized void remove(String id) {
+        double[] old = points.remove(id);
+        if (old == null) {
+            return;
+        }
+        long key = cellKey(old[0], old[1]);
+        Set<String> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 반경 내 ID 조회
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 거리 오름차순(동일 거리는 ID 오름차순) 정렬된 결과
+     */
+    public List<Hit> within(double lat, double lng, double radiusKm) {
+        return within(lat, lng, radiusKm, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 반경 내 ID 조회 (결과 수 상한)
+     * - 상한을 넘으면 나머지 셀은 보지 않고 정렬도 하지 않음 (호출 측이 다른 경로로 대체)
+     * @param maxHits 최대 결과 수
+     * @return 거리 오름차순(동일 거리는 ID 오름차순) 정렬된 결과, maxHits 를 넘으면 null
+     */
+    public List<Hit> within(double lat, double lng, double radiusKm, int maxHits) {
+        List<Hit> hits = new ArrayList<>();
+        if (radiusKm < 0) {
+            return hits;
+        }
+
+        double latSpan = radiusKm / KM_PER_DEG_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double lngSpan = Math.min(radiusKm / (KM_PER_DEG_LAT * cosLat), 180.0);
+
+        long minRow = cell(lat - latSpan);
+        long maxRow = cell(lat + latSpan);
+        long minCol = cell(lng - lngSpan);
+        long maxCol = cell(lng + lngSpan);
+
+        long coveringCells = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (coveringCells > cells.size()) {
+            // 반경이 매우 큰 경우: 덮는 셀을 전부 도는 것보다 존재하는 셀만 도는 편이 저렴
+            for (Map.Entry<Long, Set<String>> entry : cells.entrySet()) {
+                long key = entry.getKey();
+                long row = key >> 32;
+                long col = (int) key;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    collect(entry.getValue(), lat, lng, radiusKm, hits);
+                    if (hits.size() > maxHits) {
+                        return null;
+                    }
+                }
+            }
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Set<String> ids = cells.get(key(row, col));
+                    if (ids != null) {
+                        collect(ids, lat, lng, radiusKm, hits);
+                        if (hits.size() > maxHits) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparing(Hit::id));
+        return hits;
+    }
+
+    private void collect(Set<String> ids, double lat, double lng, double radiusKm, List<Hit> out) {
+        for (String id : ids) {
+            double[] p = points.get(id);
+            if (p == null) {
+                continue; // 동시 삭제
+            }
+            double d = distanceKm(lat, lng, p[0], p[1]);
+            if (d <= radiusKm) {
+                out.add(new Hit(id, d));
+            }
+        }
+    }
+
+    /**
+     * 두 좌표 사이 거리 (km)
+     * - 검색 SQL과 동일한 구면 코사인 법칙 사용 (경계값 판정 일치)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double cos = Math.cos(phi1) * Math.cos(phi2) * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+            + Math.sin(phi1) * Math.sin(phi2);
+        return EARTH_RADIUS_KM * Math.acos(Math.max(-1.0, Math.min(1.0, cos)));
+    }
+
+    private long cell(double deg) {
+        return (long) Math.floor(deg / cellDeg);
+    }
+
+    private long cellKey(double lat, double lng) {
+        return key(cell(lat), cell(lng));
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 반경 조회 결과
+     * @param id 등록 ID
+     * @param distanceKm 중심으로부터 거리 (km)
+     */
+    public record Hit(String id, double distanceKm) {}
+}
@@ -0,0 +1,311 @@
+package com.example.kakao_login.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 문자 n-gram 역색인 (부분 문자열 검색용)
+ * - 문서(매장)의 각 필드를 정규화한 뒤 글자 단위 1-gram/2-gram을 키로 문서 번호 목록(int[])을 관리
+ * - 한글은 음절 하나가 한 글자이므로 2-gram만으로도 짧은 검색어를 충분히 좁힐 수 있음
+ *   (3-gram은 2글자 검색어를 못 찾고 키 수만 늘어남, 1-gram은 한 글자 검색어용)
+ * - 조회 시 검색어의 모든 2-gram 목록을 교집합한 뒤 원문 포함 여부로 최종 확인 (LIKE '%kw%'와 같은 결과)
+ * - 쓰기(put/remove)는 직렬화하고 목록은 새 배열로 교체, 읽기는 락 없이 수행
+ * - 전체 구축은 Builder 로 (문서마다 목록을 복사하면 흔한 n-gram에서 O(N²)이 되므로 목록을 모아 한 번에 생성)
+ */
+public class NgramIndex {
+
+    /** 검색 필드와 가중치 */
+    public enum Field {
+        NAME(3.0),           // 매장명
+        MENU(1.5),           // 메뉴명
+        RECOMMENDATION(1.0); // AI 추천 문구
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{Mn}+");
+    private static final int[] EMPTY = new int[0];
+
+    /** n-gram 키 → 문서 번호 오름차순 목록 */
+    private final Map<Integer, int[]> postings = new ConcurrentHashMap<>();
+    /** 문서 번호 → 문서 */
+    private final Map<Integer, Doc> docs = new ConcurrentHashMap<>();
+    /** 외부 ID → 문서 번호 */
+    private final Map<String, Integer> docIds = new ConcurrentHashMap<>();
+
+    /** 다음 문서 번호 (항상 증가하므로 목록 끝에 붙이기만 해도 정렬 유지) */
+    private int nextDocId;
+
+    public NgramIndex() {
+    }
+
+    private NgramIndex(Builder builder) {
+        builder.postings.forEach((gram, buffer) -> postings.put(gram, buffer.toArray()));
+        for (int docId = 0; docId < builder.docs.size(); docId++) {
+            Doc doc = builder.docs.get(docId);
+            docs.put(docId, doc);
+            docIds.put(doc.id(), docId);
+        }
+        nextDocId = builder.docs.size();
+    }
+
+    /**
+     * 문서 등록 (이미 있으면 교체)
+     * @param id 외부 ID (매장 ID)
+     * @param texts 필드별 원문 (없는 필드는 생략 가능)
+     */
+    public synchronized void put(String id, Map<Field, String> texts) {
+        remove(id);
+        int docId = nextDocId++;
+        Doc doc = Doc.of(id, texts);
+        docs.put(docId, doc);
+        docIds.put(id, docId);
+        for (int gram : doc.grams()) {
+            int[] list = postings.getOrDefault(gram, EMPTY);
+            int[] grown = Arrays.copyOf(list, list.length + 1);
+            grown[list.length] = docId;
+            postings.put(gram, grown);
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public synchronized void remove(String id) {
+        Integer docId = docIds.remove(id);
+        if (docId == null) {
+            return;
+        }
+        Doc doc = docs.remove(docId);
+        for (int gram : doc.grams()) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            int pos = Arrays.binarySearch(list, docId);
+            if (pos < 0) {
+                continue;
+            }
+            if (list.length == 1) {
+                postings.remove(gram);
+            } else {
+                int[] shrunk = new int[list.length - 1];
+                System.arraycopy(list, 0, shrunk, 0, pos);
+                System.arraycopy(list, pos + 1, shrunk, pos, list.length - pos - 1);
+                postings.put(gram, shrunk);
+            }
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * 전체 구축용 빌더 (단일 스레드 전용)
+     * - 문서 번호 순서대로 목록 끝에 추가하므로 별도 정렬 없이 오름차순 유지
+     */
+    public static class Builder {
+
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Integer, IntBuffer> postings = new HashMap<>();
+        private final Set<String> ids = new HashSet<>();
+
+        /**
+         * 문서 추가
+         * @throws IllegalArgumentException 같은 ID를 두 번 추가한 경우
+         */
+        public Builder add(String id, Map<Field, String> texts) {
+            if (!ids.add(id)) {
+                throw new IllegalArgumentException("중복 문서 ID: " + id);
+            }
+            int docId = docs.size();
+            Doc doc = Doc.of(id, texts);
+            docs.add(doc);
+            for (int gram : doc.grams()) {
+                postings.computeIfAbsent(gram, k -> new IntBuffer()).add(docId);
+            }
+            return this;
+        }
+
+        public NgramIndex build() {
+            return new NgramIndex(this);
+        }
+    }
+
+    /** 크기가 늘어나는 int 목록 (두 배씩 증가) */
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     * @param keyword 검색어
+     * @return 외부 ID → 점수 (점수 내림차순), 검색어가 비어 있으면 빈 결과
+     */
+    public Map<String, Double> search(String keyword) {
+        String kw = normalize(keyword);
+        if (kw.isEmpty()) {
+            return Map.of();
+        }
+
+        // 검색어의 n-gram 목록을 짧은 것부터 교집합
+        int[] keys = kw.length() == 1 ? new int[]{unigram(kw.charAt(0))} : bigrams(kw);
+        int[][] lists = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            int[] list = postings.get(keys[i]);
+            if (list == null) {
+                return Map.of();
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        // n-gram 포함은 필요조건일 뿐이므로 원문으로 확인하면서 점수 계산
+        var scored = new ArrayList<Map.Entry<String, Double>>();
+        for (int docId : candidates) {
+            Doc doc = docs.get(docId);
+            if (doc == null) {
+                continue; // 조회 중 제거된 문서
+            }
+            double score = doc.score(kw);
+            if (score > 0) {
+                scored.add(Map.entry(doc.id(), score));
+            }
+        }
+        scored.sort((a, b) -> {
+            int c = Double.compare(b.getValue(), a.getValue());
+            return c != 0 ? c : a.getKey().compareTo(b.getKey());
+        });
+        var result = new LinkedHashMap<String, Double>(scored.size() * 2);
+        scored.forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    /**
+     * 검색 정규화: 유니코드 정규화(NFC, 자모 조합) + 라틴 악센트 제거 + 소문자
+     * - DB collation(utf8mb4_0900_ai_ci)의 대소문자/악센트 무시 비교에 맞춤
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 1-gram 키 (2-gram 키와 겹치지 않도록 하위 16비트를 비문자 U+FFFF로 채움) */
+    private static int unigram(char c) {
+        return (c << 16) | 0xFFFF;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private static int[] bigrams(String s) {
+        int[] out = new int[s.length() - 1];
+        for (int i = 0; i + 1 < s.length(); i++) {
+            out[i] = bigram(s.charAt(i), s.charAt(i + 1));
+        }
+        return Arrays.stream(out).distinct().toArray();
+    }
+
+    /**
+     * 색인된 문서 (정규화된 필드 원문 보관)
+     */
+    private record Doc(String id, Map<Field, String> texts) {
+
+        /** 필드 원문을 정규화해 문서 생성 (빈 필드는 제외) */
+        static Doc of(String id, Map<Field, String> texts) {
+            var normalized = new EnumMap<Field, String>(Field.class);
+            texts.forEach((field, text) -> {
+                String n = normalize(text);
+                if (!n.isEmpty()) {
+                    normalized.put(field, n);
+                }
+            });
+            return new Doc(id, normalized);
+        }
+
+        int[] grams() {
+            var set = new HashSet<Integer>();
+            for (String text : texts.values()) {
+                for (int i = 0; i < text.length(); i++) {
+                    set.add(unigram(text.charAt(i)));
+                    if (i + 1 < text.length()) {
+                        set.add(bigram(text.charAt(i), text.charAt(i + 1)));
+                    }
+                }
+            }
+            return set.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * 필드 가중치 합 (매장명이 검색어로 시작하면 가산)
+         */
+        double score(String kw) {
+            double score = 0;
+            for (var e : texts.entrySet()) {
+                int at = e.getValue().indexOf(kw);
+                if (at < 0) {
+                    continue;
+                }
+                score += e.getKey().weight;
+                if (e.getKey() == Field.NAME && at == 0) {
+                    score += 1.0;
+                }
+            }
+            return score;
+        }
+    }
+}
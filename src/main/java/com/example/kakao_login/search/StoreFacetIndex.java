@@ -0,0 +1,145 @@
+package com.example.kakao_login.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 필터 시트(/api/v1/search/filters)용 집계 인덱스
+ * - 활성 매장의 태그/카테고리/딜 여부/시간대별 영업 여부를 격자 셀 단위로 미리 합산 (FacetGrid)
+ * - 요청 시에는 반경을 덮는 셀 합계만 더하므로 DB 조회가 없음
+ * - 주기적으로 전체 재계산하며, 집계 값은 재계산 주기만큼 늦을 수 있음
+ */
+@Slf4j
+@Component
+public class StoreFacetIndex {
+
+    /** 필터 시트 시간대 (얼리버드 시간대) */
+    public static final List<String> TIME_SLOTS = List.of(
+            "05:00-06:00",
+            "06:00-07:00",
+            "07:00-08:00",
+            "08:00-09:00"
+    );
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final StoreOpenHoursIndex openHours;
+    private final double cellSizeDeg;
+
+    private volatile Snapshot snapshot;
+
+    public StoreFacetIndex(NamedParameterJdbcTemplate jdbc,
+                           StoreOpenHoursIndex openHours,
+                           @Value("${app.search.facets.cell-size-deg:0.01}") double cellSizeDeg) {
+        this.jdbc = jdbc;
+        this.openHours = openHours;
+        this.cellSizeDeg = cellSizeDeg;
+    }
+
+    /**
+     * 태그 사전 항목
+     */
+    public record Tag(String id, String name, String type) {
+    }
+
+    /**
+     * 집계 스냅샷
+     * @param tags 태그 사전 (순번 = FacetGrid 태그 번호)
+     */
+    public record Snapshot(List<Tag> tags, FacetGrid grid) {
+    }
+
+    /**
+     * 현재 스냅샷 (최초 계산 전이면 null)
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 전체 재계산 (영업시간 인덱스 적재 이후 실행되도록 지연 시작)
+     */
+    @Scheduled(initialDelayString = "${app.search.facets.initial-delay-ms:10000}",
+               fixedDelayString = "${app.search.facets.refresh-interval-ms:60000}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+
+            var tags = new ArrayList<Tag>();
+            var tagOrdinals = new HashMap<String, Integer>();
+            jdbc.query("SELECT t.id, t.name, t.type FROM tags t ORDER BY t.name", new MapSqlParameterSource(), rs -> {
+                tagOrdinals.put(rs.getString("id"), tags.size());
+                tags.add(new Tag(rs.getString("id"), rs.getString("name"), rs.getString("type")));
+            });
+
+            Map<String, List<Integer>> tagsByStore = new HashMap<>();
+            jdbc.query("SELECT st.store_id, st.tag_id FROM store_tags st", new MapSqlParameterSource(), rs -> {
+                Integer ordinal = tagOrdinals.get(rs.getString("tag_id"));
+                if (ordinal != null) {
+                    tagsByStore.computeIfAbsent(rs.getString("store_id"), k -> new ArrayList<>()).add(ordinal);
+                }
+            });
+
+            Set<String> dealStores = new HashSet<>(jdbc.queryForList("""
+                SELECT DISTINCT d.store_id FROM earlybird_deals d
+                 WHERE (d.status COLLATE utf8mb4_0900_ai_ci = 'ACTIVE' COLLATE utf8mb4_0900_ai_ci)
+            """, new MapSqlParameterSource(), String.class));
+
+            int[][] slots = TIME_SLOTS.stream().map(StoreFacetIndex::parseSlot).toArray(int[][]::new);
+            var builder = new FacetGrid.Builder(cellSizeDeg, tags.size(), slots.length);
+            jdbc.query("""
+                SELECT s.id, s.lat, s.lng, s.category_id
+                  FROM stores s
+                 WHERE s.is_active = 1
+            """, new MapSqlParameterSource(), rs -> {
+                String id = rs.getString("id");
+                double lat = rs.getDouble("lat");
+                boolean hasLat = !rs.wasNull();
+                double lng = rs.getDouble("lng");
+                boolean hasLng = !rs.wasNull();
+                int[] storeTags = tagsByStore.getOrDefault(id, List.of()).stream()
+                        .mapToInt(Integer::intValue).distinct().toArray();
+                builder.add(new FacetGrid.Store(id,
+                        hasLat && hasLng ? lat : null,
+                        hasLat && hasLng ? lng : null,
+                        rs.getString("category_id"),
+                        dealStores.contains(id),
+                        storeTags,
+                        openMask(id, slots)));
+            });
+
+            snapshot = new Snapshot(List.copyOf(tags), builder.build());
+            log.debug("필터 집계 인덱스 재계산 완료 - 소요: {}ms", System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("필터 집계 인덱스 재계산 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private long openMask(String storeId, int[][] slots) {
+        long mask = 0;
+        for (int dow = 0; dow < 7; dow++) {
+            for (int i = 0; i < slots.length; i++) {
+                if (openHours.isOpenDuring(storeId, dow, slots[i][0], slots[i][1])) {
+                    mask |= 1L << (dow * slots.length + i);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /** "HH:mm-HH:mm" → {시작 분, 끝 분} */
+    private static int[] parseSlot(String slot) {
+        String[] parts = slot.split("-");
+        return new int[]{WeeklySchedule.parseMinuteOfDay(parts[0]), WeeklySchedule.parseMinuteOfDay(parts[1])};
+    }
+}
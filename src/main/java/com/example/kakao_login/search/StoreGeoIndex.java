@@ -0,0 +1,151 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 매장 좌표 인메모리 공간 인덱스
+ * - 검색 시 위치/반경 조건을 후보 매장 ID + 정확한 거리로 변환 (SQL 삼각함수 계산 제거)
+ * - 기동 시/주기적으로 전체 재구축, 매장 변경 이벤트로 부분 갱신
+ * - 재구축 중 들어온 변경은 매장 ID를 모아 두었다가 교체 직전에 새 인덱스에 다시 반영 (이전 인덱스에만 반영되고 사라지지 않도록)
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+
+    private static final String LOAD_SQL = """
+        SELECT s.id, s.lat, s.lng, s.is_active
+          FROM stores s
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final double cellSizeDeg;
+
+    private volatile GeoGridIndex index;
+    private volatile boolean ready;
+
+    // 아래 두 필드는 this 로 동기화
+    private boolean rebuilding;
+    private final Set<String> changedDuringRebuild = new HashSet<>();
+
+    public StoreGeoIndex(NamedParameterJdbcTemplate jdbc,
+                         @Value("${app.search.geo.cell-size-deg:0.01}") double cellSizeDeg) {
+        this.jdbc = jdbc;
+        this.cellSizeDeg = cellSizeDeg;
+        this.index = new GeoGridIndex(cellSizeDeg);
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (최초 적재 전에는 SQL 경로로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 반경 내 활성 매장 조회
+     * @param maxHits 최대 후보 수
+     * @return 거리 오름차순 후보 목록, maxHits 를 넘으면 null
+     */
+    public List<GeoGridIndex.Hit> within(double lat, double lng, double radiusKm, int maxHits) {
+        return index.within(lat, lng, radiusKm, maxHits);
+    }
+
+    /**
+     * 전체 재구축 (하드 삭제 반영용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.geo.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            synchronized (this) {
+                rebuilding = true;
+                changedDuringRebuild.clear();
+            }
+            GeoGridIndex fresh = new GeoGridIndex(cellSizeDeg);
+            jdbc.query(LOAD_SQL + " WHERE s.is_active = 1 AND s.lat IS NOT NULL AND s.lng IS NOT NULL",
+                new MapSqlParameterSource(),
+                rs -> {
+                    fresh.put(rs.getString("id"), rs.getDouble("lat"), rs.getDouble("lng"));
+                });
+            int replayed;
+            synchronized (this) {
+                // 교체 전까지 들어온 변경을 새 인덱스에 반영 (반영 중 들어오는 이벤트는 잠금을 기다렸다가 새 인덱스에 적용)
+                replayed = changedDuringRebuild.size();
+                if (replayed > 0) {
+                    apply(fresh, List.copyOf(changedDuringRebuild));
+                }
+                index = fresh;
+            }
+            ready = true;
+            log.info("매장 공간 인덱스 재구축 완료 - 매장수: {}, 재반영: {}, 소요: {}ms",
+                fresh.size(), replayed, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("매장 공간 인덱스 재구축 실패", e);
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            }
+        }
+    }
+
+    /**
+     * 변경된 매장만 부분 갱신
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.type() != StoreChangedEvent.Type.STORE || event.storeIds().isEmpty()) {
+            return;
+        }
+        try {
+            GeoGridIndex current;
+            synchronized (this) {
+                if (rebuilding) {
+                    changedDuringRebuild.addAll(event.storeIds());
+                }
+                current = index;
+            }
+            apply(current, event.storeIds());
+            log.debug("매장 공간 인덱스 부분 갱신 - 매장수: {}", event.storeIds().size());
+        } catch (Exception e) {
+            log.warn("매장 공간 인덱스 부분 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 좌표를 다시 읽어 인덱스에 반영 (비활성/좌표 없음/삭제된 매장은 제거)
+     */
+    private void apply(GeoGridIndex target, Collection<String> storeIds) {
+        Set<String> missing = new HashSet<>(storeIds);
+        jdbc.query(LOAD_SQL + " WHERE s.id IN (:ids)",
+            new MapSqlParameterSource("ids", storeIds),
+            rs -> {
+                String id = rs.getString("id");
+                missing.remove(id);
+                double lat = rs.getDouble("lat");
+                boolean hasLat = !rs.wasNull();
+                double lng = rs.getDouble("lng");
+                boolean hasLng = !rs.wasNull();
+                if (rs.getBoolean("is_active") && hasLat && hasLng) {
+                    target.put(id, lat, lng);
+                } else {
+                    target.remove(id);
+                }
+            });
+        missing.forEach(target::remove);
+    }
+}
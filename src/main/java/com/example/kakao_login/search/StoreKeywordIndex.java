@@ -0,0 +1,169 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 키워드 인메모리 역색인
+ * - 매장명 / AI 추천 문구 / 메뉴명을 n-gram으로 색인해 키워드 검색을 후보 매장 ID + 점수로 변환
+ * - 입력할 때마다 stores, menu_items 를 LIKE '%kw%'로 전체 스캔하지 않도록 함
+ * - 기동 시/주기적으로 전체 재구축, 매장/메뉴 변경 이벤트로 부분 갱신
+ * - 재구축 중 들어온 변경은 매장 ID를 모아 두었다가 교체 직전에 새 인덱스에 다시 반영 (StoreGeoIndex 와 같은 방식)
+ */
+@Slf4j
+@Component
+public class StoreKeywordIndex {
+
+    private static final String STORE_SQL = """
+        SELECT s.id, s.name, s.ai_recommendation
+          FROM stores s
+         WHERE s.is_active = 1
+        """;
+
+    private static final String MENU_SQL = """
+        SELECT mi.store_id, mi.name
+          FROM menu_items mi
+         WHERE mi.is_active = 1
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    private volatile NgramIndex index = new NgramIndex();
+    private volatile boolean ready;
+
+    // 아래 두 필드는 this 로 동기화
+    private boolean rebuilding;
+    private final Set<String> changedDuringRebuild = new HashSet<>();
+
+    public StoreKeywordIndex(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (최초 적재 전에는 SQL 경로로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드 검색
+     * @return 매장 ID → 점수 (점수 내림차순)
+     */
+    public Map<String, Double> search(String keyword) {
+        return index.search(keyword);
+    }
+
+    /**
+     * 전체 재구축 (하드 삭제 반영용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.keyword.rebuild-cron:0 5 * * * *}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            synchronized (this) {
+                rebuilding = true;
+                changedDuringRebuild.clear();
+            }
+            var builder = new NgramIndex.Builder();
+            load("", new MapSqlParameterSource()).forEach(builder::add);
+            NgramIndex fresh = builder.build();
+            int replayed;
+            synchronized (this) {
+                // 교체 전까지 들어온 변경을 새 인덱스에 반영 (반영 중 들어오는 이벤트는 잠금을 기다렸다가 새 인덱스에 적용)
+                replayed = changedDuringRebuild.size();
+                if (replayed > 0) {
+                    apply(fresh, List.copyOf(changedDuringRebuild));
+                }
+                index = fresh;
+            }
+            ready = true;
+            log.info("매장 키워드 인덱스 재구축 완료 - 매장수: {}, 재반영: {}, 소요: {}ms",
+                fresh.size(), replayed, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("매장 키워드 인덱스 재구축 실패", e);
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            }
+        }
+    }
+
+    /**
+     * 변경된 매장만 부분 갱신 (매장 정보 또는 메뉴 변경)
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if ((event.type() != StoreChangedEvent.Type.STORE && event.type() != StoreChangedEvent.Type.MENU)
+                || event.storeIds().isEmpty()) {
+            return;
+        }
+        try {
+            NgramIndex current;
+            synchronized (this) {
+                if (rebuilding) {
+                    changedDuringRebuild.addAll(event.storeIds());
+                }
+                current = index;
+            }
+            apply(current, event.storeIds());
+            log.debug("매장 키워드 인덱스 부분 갱신 - 매장수: {}", event.storeIds().size());
+        } catch (Exception e) {
+            log.warn("매장 키워드 인덱스 부분 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매장을 다시 읽어 인덱스에 반영 (비활성/삭제된 매장은 제거)
+     */
+    private void apply(NgramIndex target, Collection<String> storeIds) {
+        var loaded = load(" AND %s IN (:ids) ", new MapSqlParameterSource("ids", storeIds));
+        loaded.forEach(target::put);
+        storeIds.stream()
+            .filter(id -> !loaded.containsKey(id))
+            .forEach(target::remove);
+    }
+
+    /**
+     * 매장과 메뉴를 읽어 색인할 필드 구성
+     * @param filter 추가 조건 (%s 자리에 매장 ID 컬럼명이 들어감)
+     * @return 매장 ID → 필드별 원문
+     */
+    private Map<String, Map<NgramIndex.Field, String>> load(String filter, MapSqlParameterSource params) {
+        Map<String, Map<NgramIndex.Field, String>> texts = new HashMap<>();
+        jdbc.query(STORE_SQL + filter.formatted("s.id"), params, rs -> {
+            var fields = new EnumMap<NgramIndex.Field, String>(NgramIndex.Field.class);
+            fields.put(NgramIndex.Field.NAME, rs.getString("name"));
+            fields.put(NgramIndex.Field.RECOMMENDATION, rs.getString("ai_recommendation"));
+            texts.put(rs.getString("id"), fields);
+        });
+
+        Map<String, StringBuilder> menus = new HashMap<>();
+        jdbc.query(MENU_SQL + filter.formatted("mi.store_id"), params, rs -> {
+            String storeId = rs.getString("store_id");
+            if (texts.containsKey(storeId)) {
+                // 메뉴명 사이에 줄바꿈을 넣어 서로 다른 메뉴에 걸친 검색어가 맞지 않도록 함
+                menus.computeIfAbsent(storeId, k -> new StringBuilder()).append(rs.getString("name")).append('\n');
+            }
+        });
+
+        menus.forEach((storeId, menu) -> texts.get(storeId).put(NgramIndex.Field.MENU, menu.toString()));
+        return texts;
+    }
+}
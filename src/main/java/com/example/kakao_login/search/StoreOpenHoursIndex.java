@@ -0,0 +1,212 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매장 영업시간 인메모리 인덱스
+ * - store_open_hour 를 매장별 주간 분 구간(WeeklySchedule)으로 컴파일
+ * - 검색의 영업중 필터와 결과의 is_open_now / next_open_time 계산에 공통 사용
+ * - 영업시간 테이블은 작으므로 주기적으로 전체 재적재, 매장/영업시간 변경 이벤트로 부분 갱신
+ * - 전체 매장 중 영업중인 매장 목록은 분 단위로 한 번만 계산해 재사용 (요청마다 전체 매장을 훑지 않음)
+ */
+@Slf4j
+@Component
+public class StoreOpenHoursIndex {
+
+    private static final String LOAD_SQL = """
+        SELECT h.store_id, h.day_of_week, h.is_24h,
+               h.open_time, h.close_time, h.break_start, h.break_end
+          FROM store_open_hour h
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    private volatile Map<String, WeeklySchedule> schedules = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    /** 재적재/부분 갱신마다 증가 (영업중 목록 재사용 판단) */
+    private final AtomicLong version = new AtomicLong();
+    private volatile OpenIds lastOpenIds;
+
+    public StoreOpenHoursIndex(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (최초 적재 전에는 SQL 경로로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 해당 시각에 영업중인 매장 ID
+     * - 같은 분에 대한 결과는 인덱스가 바뀌기 전까지 재사용
+     * @param dayOfWeek 0(일) ~ 6(토)
+     * @param minuteOfDay 0 ~ 1439
+     * @param limit 최대 개수
+     * @return 영업중인 매장 ID, limit 보다 많으면 null (호출 측에서 SQL 조건으로 대체)
+     */
+    public List<String> openStoreIds(int dayOfWeek, int minuteOfDay, int limit) {
+        int at = WeeklySchedule.minuteOfWeek(dayOfWeek, minuteOfDay);
+        long v = version.get();
+        OpenIds last = lastOpenIds;
+        if (last == null || last.version() != v || last.minuteOfWeek() != at || last.limit() != limit) {
+            last = new OpenIds(v, at, limit, collectOpen(at, limit));
+            lastOpenIds = last;
+        }
+        return last.ids();
+    }
+
+    /**
+     * 매장이 해당 시각에 영업중인지 (영업시간 정보가 없으면 false, 후보 목록 필터용)
+     * @param dayOfWeek 0(일) ~ 6(토)
+     * @param minuteOfDay 0 ~ 1439
+     */
+    public boolean isOpenAt(String storeId, int dayOfWeek, int minuteOfDay) {
+        WeeklySchedule schedule = schedules.get(storeId);
+        return schedule != null && schedule.isOpen(WeeklySchedule.minuteOfWeek(dayOfWeek, minuteOfDay));
+    }
+
+    private List<String> collectOpen(int at, int limit) {
+        var ids = new ArrayList<String>();
+        for (Map.Entry<String, WeeklySchedule> e : schedules.entrySet()) {
+            if (e.getValue().isOpen(at)) {
+                if (ids.size() >= limit) {
+                    return null;
+                }
+                ids.add(e.getKey());
+            }
+        }
+        return List.copyOf(ids);
+    }
+
+    /**
+     * 해당 요일 시간대 [from, to) 중 한 번이라도 영업하는지 여부
+     * @param dayOfWeek 0(일) ~ 6(토)
+     * @param fromMinute 시작 (하루 중 분)
+     * @param toMinute 끝 (하루 중 분, 제외)
+     */
+    public boolean isOpenDuring(String storeId, int dayOfWeek, int fromMinute, int toMinute) {
+        WeeklySchedule schedule = schedules.get(storeId);
+        if (schedule == null || schedule.isEmpty() || fromMinute >= toMinute) {
+            return false;
+        }
+        int at = WeeklySchedule.minuteOfWeek(dayOfWeek, fromMinute);
+        return schedule.isOpen(at) || schedule.minutesUntilNextOpening(at) < toMinute - fromMinute;
+    }
+
+    /**
+     * 매장 영업 상태
+     * @return 영업시간 정보가 없으면 null
+     */
+    public OpenState stateAt(String storeId, ZonedDateTime now) {
+        WeeklySchedule schedule = schedules.get(storeId);
+        if (schedule == null || schedule.isEmpty()) {
+            return null;
+        }
+        int at = WeeklySchedule.minuteOfWeek(now.getDayOfWeek().getValue() % 7,
+                now.getHour() * 60 + now.getMinute());
+        if (schedule.isOpen(at)) {
+            return new OpenState(true, null);
+        }
+        ZonedDateTime next = now.withSecond(0).withNano(0)
+                .plusMinutes(schedule.minutesUntilNextOpening(at));
+        return new OpenState(false, next);
+    }
+
+    /**
+     * 전체 재적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search.open-hours.refresh-interval-ms:60000}",
+               fixedDelayString = "${app.search.open-hours.refresh-interval-ms:60000}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            var fresh = new ConcurrentHashMap<String, WeeklySchedule>();
+            load("", new MapSqlParameterSource()).forEach((id, b) -> fresh.put(id, b.build()));
+            schedules = fresh;
+            version.incrementAndGet();
+            if (!ready) {
+                log.info("매장 영업시간 인덱스 적재 완료 - 매장수: {}, 소요: {}ms",
+                    fresh.size(), System.currentTimeMillis() - started);
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.error("매장 영업시간 인덱스 적재 실패", e);
+        }
+    }
+
+    /**
+     * 변경된 매장만 부분 갱신 (매장 기본정보 또는 영업시간 변경)
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if ((event.type() != StoreChangedEvent.Type.STORE && event.type() != StoreChangedEvent.Type.OPEN_HOURS)
+                || event.storeIds().isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, WeeklySchedule> current = schedules;
+            var loaded = load(" WHERE h.store_id IN (:ids)", new MapSqlParameterSource("ids", event.storeIds()));
+            for (String storeId : event.storeIds()) {
+                var builder = loaded.get(storeId);
+                if (builder == null) {
+                    current.remove(storeId);
+                } else {
+                    current.put(storeId, builder.build());
+                }
+            }
+            version.incrementAndGet();
+            log.debug("매장 영업시간 인덱스 부분 갱신 - 매장수: {}", event.storeIds().size());
+        } catch (Exception e) {
+            log.warn("매장 영업시간 인덱스 부분 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, WeeklySchedule.Builder> load(String filter, MapSqlParameterSource params) {
+        var builders = new HashMap<String, WeeklySchedule.Builder>();
+        jdbc.query(LOAD_SQL + filter, params, rs -> {
+            builders.computeIfAbsent(rs.getString("store_id"), k -> new WeeklySchedule.Builder())
+                .add(rs.getInt("day_of_week"),
+                     rs.getBoolean("is_24h"),
+                     minuteOfDay(rs, "open_time"),
+                     minuteOfDay(rs, "close_time"),
+                     minuteOfDay(rs, "break_start"),
+                     minuteOfDay(rs, "break_end"));
+        });
+        return builders;
+    }
+
+    private static int minuteOfDay(ResultSet rs, String column) throws SQLException {
+        return WeeklySchedule.parseMinuteOfDay(rs.getString(column));
+    }
+
+    /**
+     * @param openNow 현재 영업중 여부
+     * @param nextOpenAt 영업 전/종료 시 다음 오픈 시각 (영업중이면 null)
+     */
+    public record OpenState(boolean openNow, ZonedDateTime nextOpenAt) {
+    }
+
+    /** 마지막으로 계산한 영업중 목록 (ids 가 null 이면 limit 초과) */
+    private record OpenIds(long version, int minuteOfWeek, int limit, List<String> ids) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.common.PageResult;
+import com.example.kakao_login.dto.search.StoreSearchRequest;
+import com.example.kakao_login.dto.search.StoreSummaryDto;
+import com.example.kakao_login.event.StoreChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 검색 결과 캐시
+ * - 검색 요청을 정규화(좌표 격자 스냅, 현재 시각 분 단위 확정, 사용자 제거)한 값을 키로 사용
+ * - 홈 화면처럼 몇 미터 차이의 좌표로 같은 조건을 반복 조회하는 요청이 같은 결과를 공유
+ * - 크기 초과 시 가장 오래 사용하지 않은 항목부터, TTL 경과 시 조회 시점에 제거
+ * - 매장/메뉴/딜/태그/영업시간 변경 이벤트 수신 시 전체 무효화 (어떤 결과에 포함됐는지 추적하지 않음)
+ */
+@Slf4j
+@Component
+public class StoreSearchCache {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter HH_MM = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final double cellSizeDeg;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /** 접근 순서 LinkedHashMap (LRU), 모든 접근은 this로 동기화 */
+    private final LinkedHashMap<StoreSearchRequest, Entry> entries;
+    /** 무효화 횟수 (무효화 전에 시작한 조회 결과가 저장되지 않도록 비교) */
+    private long generation;
+
+    public StoreSearchCache(MeterRegistry registry,
+                            @Value("${app.search.cache.enabled:true}") boolean enabled,
+                            @Value("${app.search.cache.max-entries:1000}") int maxEntries,
+                            @Value("${app.search.cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${app.search.cache.cell-size-deg:0.0005}") double cellSizeDeg) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cellSizeDeg = cellSizeDeg;
+        this.hits = registry.counter("search.cache.requests", "result", "hit");
+        this.misses = registry.counter("search.cache.requests", "result", "miss");
+        this.evictions = registry.counter("search.cache.evictions");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StoreSearchRequest, Entry> eldest) {
+                boolean evict = size() > StoreSearchCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        registry.gauge("search.cache.size", this, StoreSearchCache::size);
+    }
+
+    /**
+     * 캐시 키로 쓸 정규화된 요청
+     * - 좌표: 격자 셀 중심으로 스냅 (거리/반경도 셀 중심 기준으로 계산됨)
+     * - 시간 필터: 미지정 시각/요일을 현재 분 단위로 확정, 시간 필터가 없으면 제거
+     * - 사용자: 제거 (is_favorite는 조회 후 덧씌움)
+     */
+    public StoreSearchRequest normalize(StoreSearchRequest req) {
+        Double lat = req.lat();
+        Double lng = req.lng();
+        if (enabled && lat != null && lng != null) {
+            lat = snap(lat);
+            lng = snap(lng);
+        }
+
+        String time = req.time();
+        Integer dow = req.dayOfWeek();
+        if (Boolean.TRUE.equals(req.openNow()) || StringUtils.hasText(time)) {
+            LocalDateTime now = LocalDateTime.now(SEOUL);
+            if (!StringUtils.hasText(time)) {
+                time = now.format(HH_MM);
+            }
+            if (dow == null) {
+                dow = now.getDayOfWeek().getValue() % 7; // 일=0
+            }
+        } else {
+            time = null;
+            dow = null;
+        }
+
+        String tagIds = req.tagIds() == null ? null : Arrays.stream(req.tagIds().split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(","));
+
+        return new StoreSearchRequest(
+                StringUtils.hasText(req.q()) ? req.q().trim() : null,
+                StringUtils.hasText(req.categoryId()) ? req.categoryId() : null,
+                StringUtils.hasText(tagIds) ? tagIds : null,
+                lat, lng, req.radiusKm(), time, dow,
+                req.openNow(), req.hasDeal(), req.distanceMaxKm(), req.sort(),
+                req.hasCursor() ? null : req.pageOrDefault(), req.sizeOrDefault(),
+                req.hasCursor() ? req.cursor() : null, req.includeTotalOrDefault(),
+                null);
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료됐으면 loader 결과를 저장 후 반환
+     * @param key normalize()로 만든 요청
+     */
+    public PageResult<StoreSummaryDto> get(StoreSearchRequest key, Supplier<PageResult<StoreSummaryDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        long startedAt;
+        synchronized (this) {
+            startedAt = generation;
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        PageResult<StoreSummaryDto> value = loader.get();
+        synchronized (this) {
+            if (startedAt == generation) {
+                entries.put(key, new Entry(value, now + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 매장 검색 결과에 영향을 주는 변경이 감지되면 전체 무효화
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        switch (event.type()) {
+            case STORE, MENU, DEAL, TAG, OPEN_HOURS -> clear();
+            default -> { }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        if (!entries.isEmpty()) {
+            log.debug("매장 검색 캐시 무효화 - 항목수: {}", entries.size());
+            entries.clear();
+        }
+    }
+
+    private double snap(double deg) {
+        return Math.round(deg / cellSizeDeg) * cellSizeDeg;
+    }
+
+    private record Entry(PageResult<StoreSummaryDto> value, long expiresAt) {
+    }
+}
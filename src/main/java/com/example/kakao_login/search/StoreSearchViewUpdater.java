@@ -0,0 +1,56 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import com.example.kakao_login.repository.StoreSearchViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * store_search_view 갱신
+ * - 기동 시/주기적으로 전체 재계산 (누락된 매장 행 보정)
+ * - 변경 감지 피드의 매장/딜 변경은 해당 매장 행만 재계산
+ * - 찜/리뷰는 각 Service 쓰기 경로에서 직접 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchViewUpdater {
+
+    private final StoreSearchViewRepository viewRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.view.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            int rows = viewRepository.refreshAll();
+            log.info("매장 검색 뷰 재계산 완료 - 행수: {}, 소요: {}ms", rows, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("매장 검색 뷰 재계산 실패", e);
+        }
+    }
+
+    /**
+     * 매장/딜 변경 반영 (검색 캐시 무효화보다 먼저 실행되도록 우선순위 지정)
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if ((event.type() != StoreChangedEvent.Type.STORE && event.type() != StoreChangedEvent.Type.DEAL)
+                || event.storeIds().isEmpty()) {
+            return;
+        }
+        try {
+            viewRepository.refresh(event.storeIds());
+            log.debug("매장 검색 뷰 부분 갱신 - type: {}, 매장수: {}", event.type(), event.storeIds().size());
+        } catch (Exception e) {
+            log.warn("매장 검색 뷰 부분 갱신 실패 - type: {}, error: {}", event.type(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.kakao_login.search;
+
+/**
+ * 매장 검색 정렬 기준
+ */
+public enum StoreSortMode {
+    DISTANCE,   // 거리 가까운 순
+    RATING,     // 평점 높은 순
+    DISCOUNT,   // 할인율 높은 순
+    POPULARITY, // 인기순
+    NAME,       // 이름순 (recent 포함)
+    RELEVANCE;  // 키워드 관련도순 (역색인 점수)
+
+    /**
+     * 요청 파라미터를 정렬 기준으로 변환
+     * - 미지정: 키워드 역색인 점수가 있으면 관련도순, 아니면 이름순 (recent 와 같음)
+     * - 알 수 없는 값: 좌표가 있으면 거리순, 없으면 이름순
+     * - 좌표 없이 거리순을 요청하면 이름순으로 대체
+     * @param sort 요청 정렬값 (distance|popularity|discount|rating|recent)
+     * @param hasLocation 좌표 포함 여부
+     * @param hasRelevance 키워드 역색인 후보(점수)가 있는지
+     */
+    public static StoreSortMode resolve(String sort, boolean hasLocation, boolean hasRelevance) {
+        StoreSortMode fallback = hasLocation ? DISTANCE : NAME;
+        if (sort == null || sort.isBlank()) {
+            return hasRelevance ? RELEVANCE : NAME;
+        }
+        return switch (sort) {
+            case "distance" -> fallback;
+            case "rating" -> RATING;
+            case "discount" -> DISCOUNT;
+            case "popularity" -> POPULARITY;
+            case "recent" -> NAME;
+            default -> fallback;
+        };
+    }
+}
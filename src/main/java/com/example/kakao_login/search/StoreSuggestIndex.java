@@ -0,0 +1,126 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 검색창 자동완성 인덱스
+ * - 매장명 / 메뉴명 / 태그명을 SuggestTrie 스냅샷으로 만들어 키 입력마다 DB 조회 없이 응답
+ * - 가중치: 매장은 인기 점수(store_search_view), 메뉴는 해당 메뉴를 가진 매장들의 인기 합, 태그는 매장 수
+ * - 트라이는 부분 갱신 대신 통째로 교체: 매장/메뉴 변경 이벤트는 표시만 해두고 주기적으로 재구축
+ */
+@Slf4j
+@Component
+public class StoreSuggestIndex {
+
+    public static final String TYPE_STORE = "STORE";
+    public static final String TYPE_MENU = "MENU";
+    public static final String TYPE_TAG = "TAG";
+
+    private static final String STORE_SQL = """
+        SELECT s.id, s.name,
+               COALESCE(v.popularity_score, COALESCE(s.rating_count,0) * 1.0) AS weight
+          FROM stores s
+          LEFT JOIN store_search_view v ON v.store_id = s.id
+         WHERE s.is_active = 1
+        """;
+
+    private static final String MENU_SQL = """
+        SELECT mi.name,
+               SUM(COALESCE(v.popularity_score, COALESCE(s.rating_count,0) * 1.0) + 1) AS weight
+          FROM menu_items mi
+          JOIN stores s ON s.id = mi.store_id AND s.is_active = 1
+          LEFT JOIN store_search_view v ON v.store_id = s.id
+         WHERE mi.is_active = 1
+         GROUP BY mi.name
+        """;
+
+    private static final String TAG_SQL = """
+        SELECT t.id, t.name, COUNT(s.id) AS weight
+          FROM tags t
+          JOIN store_tags st ON st.tag_id = t.id
+          JOIN stores s ON s.id = st.store_id AND s.is_active = 1
+         GROUP BY t.id, t.name
+        """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    private volatile SuggestTrie trie = new SuggestTrie.Builder().build();
+    private volatile boolean dirty;
+
+    public StoreSuggestIndex(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 자동완성 후보 조회
+     * @param query 입력 중인 문구 (초성 가능)
+     * @param limit 최대 개수
+     */
+    public List<SuggestTrie.Suggestion> suggest(String query, int limit) {
+        return trie.suggest(query, limit);
+    }
+
+    /**
+     * 전체 재구축 (인기 가중치 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.suggest.rebuild-cron:0 10 * * * *}")
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            dirty = false;
+            var builder = new SuggestTrie.Builder();
+            var params = new MapSqlParameterSource();
+            jdbc.query(STORE_SQL, params, rs -> {
+                builder.add(new SuggestTrie.Suggestion(rs.getString("name"), TYPE_STORE,
+                        rs.getString("id"), rs.getDouble("weight")));
+            });
+            jdbc.query(MENU_SQL, params, rs -> {
+                builder.add(new SuggestTrie.Suggestion(rs.getString("name"), TYPE_MENU,
+                        null, rs.getDouble("weight")));
+            });
+            jdbc.query(TAG_SQL, params, rs -> {
+                builder.add(new SuggestTrie.Suggestion(rs.getString("name"), TYPE_TAG,
+                        rs.getString("id"), rs.getDouble("weight")));
+            });
+            SuggestTrie fresh = builder.build();
+            trie = fresh;
+            log.info("자동완성 인덱스 재구축 완료 - 후보수: {}, 소요: {}ms",
+                fresh.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            dirty = true;
+            log.error("자동완성 인덱스 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 변경 표시가 있으면 재구축 (이벤트가 몰려도 주기당 한 번만)
+     */
+    @Scheduled(initialDelayString = "${app.search.suggest.refresh-interval-ms:30000}",
+               fixedDelayString = "${app.search.suggest.refresh-interval-ms:30000}")
+    public void rebuildIfDirty() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 매장/메뉴/태그 변경 표시
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.type() == StoreChangedEvent.Type.STORE || event.type() == StoreChangedEvent.Type.MENU
+                || event.type() == StoreChangedEvent.Type.TAG) {
+            dirty = true;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.kakao_login.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 접두어 트라이 (불변 스냅샷)
+ * - 후보 문구를 정규화한 뒤 문구 시작과 각 단어 시작부터의 접미어를 키로 등록 ("스타벅스 강남점" → "강남점"으로도 검색)
+ * - 노드마다 가중치 상위 후보 목록을 미리 보관해 조회는 접두어 길이만큼만 따라 내려감
+ * - 초성 트라이를 별도로 두어 "ㅅㅌㅂ" 같은 초성 입력을, "스타ㅂ" 같은 혼합 입력은 일반 트라이를 초성별로 펼쳐 지원
+ */
+public final class SuggestTrie {
+
+    /** 노드별 보관 후보 수 (요청 최대 개수 이상이어야 함) */
+    private static final int NODE_TOP_K = 32;
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_JONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 자동완성 후보
+     * @param text 표시 문구
+     * @param type STORE | MENU | TAG
+     * @param id 매장/태그 ID (메뉴는 null)
+     * @param weight 인기 가중치 (클수록 먼저)
+     */
+    public record Suggestion(String text, String type, String id, double weight) {
+    }
+
+    private record Entry(Suggestion suggestion, String key) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry[] top = new Entry[0];
+
+        void offer(Entry entry) {
+            for (Entry e : top) {
+                if (e == entry) {
+                    return; // 같은 후보의 다른 접미어가 같은 노드를 지나는 경우
+                }
+            }
+            if (top.length == NODE_TOP_K && top[top.length - 1].suggestion().weight() >= entry.suggestion().weight()) {
+                return;
+            }
+            int n = Math.min(top.length + 1, NODE_TOP_K);
+            Entry[] next = Arrays.copyOf(top, n);
+            int i = Math.min(top.length, n - 1);
+            while (i > 0 && next[i - 1].suggestion().weight() < entry.suggestion().weight()) {
+                next[i] = next[i - 1];
+                i--;
+            }
+            next[i] = entry;
+            top = next;
+        }
+    }
+
+    private final Node root;
+    private final Node choseongRoot;
+    private final int size;
+
+    private SuggestTrie(Node root, Node choseongRoot, int size) {
+        this.root = root;
+        this.choseongRoot = choseongRoot;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 접두어 자동완성
+     * @param query 입력 중인 문구 (초성만 또는 초성 혼합 가능)
+     * @param limit 최대 개수
+     * @return 가중치 내림차순 후보
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String q = NgramIndex.normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean hasChoseong = q.chars().anyMatch(c -> isChoseong((char) c));
+        boolean allChoseong = q.chars().allMatch(c -> isChoseong((char) c) || Character.isWhitespace(c));
+        if (hasChoseong && !allChoseong) {
+            return suggestMixed(q, limit);
+        }
+        Node node = walk(hasChoseong ? choseongRoot : root, hasChoseong ? toChoseong(q) : q);
+        if (node == null) {
+            return List.of();
+        }
+        var out = new ArrayList<Suggestion>(Math.min(limit, node.top.length));
+        for (Entry e : node.top) {
+            if (out.size() >= limit) {
+                break;
+            }
+            out.add(e.suggestion());
+        }
+        return out;
+    }
+
+    /**
+     * 초성 혼합 입력("스타ㅂ", "ㅅ타벅")
+     * - 일반 트라이를 완성된 글자는 그대로, 초성은 그 초성으로 시작하는 자식 전부로 따라 내려감
+     * - 도착한 노드는 모두 입력과 정확히 맞는 접두어이므로 노드별 상위 후보를 합쳐 다시 정렬하면
+     *   (요청 수 ≤ NODE_TOP_K) 빠지는 후보 없이 상위 limit 개가 됨
+     */
+    private List<Suggestion> suggestMixed(String q, int limit) {
+        List<Node> frontier = List.of(root);
+        for (int i = 0; i < q.length() && !frontier.isEmpty(); i++) {
+            char qc = q.charAt(i);
+            var next = new ArrayList<Node>();
+            for (Node node : frontier) {
+                if (!isChoseong(qc)) {
+                    Node child = node.children.get(qc);
+                    if (child != null) {
+                        next.add(child);
+                    }
+                    continue;
+                }
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    if (choseongOf(child.getKey()) == qc) {
+                        next.add(child.getValue());
+                    }
+                }
+            }
+            frontier = next;
+        }
+        var merged = new LinkedHashSet<Entry>();
+        for (Node node : frontier) {
+            merged.addAll(Arrays.asList(node.top));
+        }
+        return merged.stream()
+                .sorted(Comparator.comparingDouble((Entry e) -> e.suggestion().weight()).reversed())
+                .limit(limit)
+                .map(Entry::suggestion)
+                .toList();
+    }
+
+    private static Node walk(Node from, String key) {
+        Node node = from;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /** 완성형 한글은 초성으로, 나머지는 그대로 */
+    static char choseongOf(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST ? CHOSEONG[(c - HANGUL_BASE) / JUNG_JONG] : c;
+    }
+
+    static String toChoseong(String s) {
+        char[] out = new char[s.length()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = choseongOf(s.charAt(i));
+        }
+        return new String(out);
+    }
+
+    /**
+     * 스냅샷 생성
+     */
+    public static class Builder {
+        private final Node root = new Node();
+        private final Node choseongRoot = new Node();
+        private int size;
+
+        public Builder add(Suggestion suggestion) {
+            String key = NgramIndex.normalize(suggestion.text());
+            if (key.isEmpty()) {
+                return this;
+            }
+            Entry entry = new Entry(suggestion, key);
+            String choseongKey = toChoseong(key);
+            for (int start = 0; start < key.length(); start++) {
+                boolean wordStart = start == 0
+                        || (Character.isWhitespace(key.charAt(start - 1)) && !Character.isWhitespace(key.charAt(start)));
+                if (wordStart) {
+                    insert(root, key, start, entry);
+                    insert(choseongRoot, choseongKey, start, entry);
+                }
+            }
+            size++;
+            return this;
+        }
+
+        private static void insert(Node from, String key, int start, Entry entry) {
+            Node node = from;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), k -> new Node());
+                node.offer(entry);
+            }
+        }
+
+        public SuggestTrie build() {
+            return new SuggestTrie(root, choseongRoot, size);
+        }
+    }
+}
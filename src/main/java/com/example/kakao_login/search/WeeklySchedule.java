@@ -0,0 +1,161 @@
+package com.example.kakao_login.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 매장 주간 영업시간 (주 단위 분 구간)
+ * - 일요일 00:00 = 0 ~ 토요일 24:00 = 10080 분으로 표현한 영업 구간을 정렬·병합해 보관
+ * - 영업 여부 / 다음 오픈 시각을 이분 탐색으로 계산
+ */
+public final class WeeklySchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    /** 구간 시작(포함) / 끝(제외), 시작 오름차순이며 서로 겹치거나 맞닿지 않음 */
+    private final int[] starts;
+    private final int[] ends;
+
+    private WeeklySchedule(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * 해당 시각 영업 여부
+     * @param minuteOfWeek 0 ~ 10079
+     */
+    public boolean isOpen(int minuteOfWeek) {
+        int i = floor(minuteOfWeek);
+        return i >= 0 && minuteOfWeek < ends[i];
+    }
+
+    /**
+     * 해당 시각 이후 처음 영업을 시작하는 시각까지 남은 분
+     * @param minuteOfWeek 0 ~ 10079
+     * @return 남은 분 (1 ~ 10080), 영업 구간이 없으면 -1
+     */
+    public int minutesUntilNextOpening(int minuteOfWeek) {
+        if (starts.length == 0) {
+            return -1;
+        }
+        int i = floor(minuteOfWeek) + 1;
+        if (i < starts.length) {
+            return starts[i] - minuteOfWeek;
+        }
+        // 이번 주 남은 구간이 없으면 다음 주 첫 구간
+        return starts[0] + MINUTES_PER_WEEK - minuteOfWeek;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /** 시작 시각이 minuteOfWeek 이하인 마지막 구간 위치 */
+    private int floor(int minuteOfWeek) {
+        int pos = Arrays.binarySearch(starts, minuteOfWeek);
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    /**
+     * 요일·시각 표현 → 주 단위 분
+     * @param dayOfWeek 0(일) ~ 6(토)
+     * @param minuteOfDay 0 ~ 1439
+     */
+    public static int minuteOfWeek(int dayOfWeek, int minuteOfDay) {
+        return dayOfWeek * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    /**
+     * "HH:mm" 또는 "HH:mm:ss" → 하루 중 분 (형식이 다르면 -1)
+     */
+    public static int parseMinuteOfDay(String time) {
+        if (time == null || time.length() < 5 || time.charAt(2) != ':') {
+            return -1;
+        }
+        try {
+            int h = Integer.parseInt(time.substring(0, 2));
+            int m = Integer.parseInt(time.substring(3, 5));
+            return h >= 0 && h <= 24 && m >= 0 && m < 60 ? Math.min(h * 60 + m, MINUTES_PER_DAY) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * store_open_hour 행들로 주간 일정 구성
+     */
+    public static class Builder {
+
+        private final List<int[]> segments = new ArrayList<>();
+
+        /**
+         * 요일별 영업시간 한 행 추가 (검색 SQL의 영업 판정과 같은 규칙)
+         * - 24시간: 해당 요일 하루 전체
+         * - 오픈 < 마감: 해당 요일 [오픈, 마감)
+         * - 오픈 > 마감(자정 넘김): 해당 요일 [오픈, 24:00) + 다음 요일 [00:00, 마감)
+         *   (기존 SQL처럼 해당 요일 [00:00, 마감)도 영업으로 봄)
+         * - 휴게시간 [시작, 끝)은 위 구간이 걸친 각 요일에서 제외 (시작 < 끝일 때만)
+         * @param dayOfWeek 0(일) ~ 6(토)
+         * @param open 오픈 (분), 24시간이면 무시
+         * @param close 마감 (분), 24시간이면 무시
+         * @param breakStart 휴게 시작 (분, 없으면 -1)
+         * @param breakEnd 휴게 끝 (분, 없으면 -1)
+         */
+        public Builder add(int dayOfWeek, boolean is24h, int open, int close, int breakStart, int breakEnd) {
+            if (dayOfWeek < 0 || dayOfWeek > 6) {
+                return this;
+            }
+            int nextDay = (dayOfWeek + 1) % 7;
+            var daily = new ArrayList<int[]>(3); // {요일, 시작, 끝}
+            if (is24h) {
+                daily.add(new int[]{dayOfWeek, 0, MINUTES_PER_DAY});
+            } else if (open < 0 || close < 0) {
+                return this;
+            } else if (open < close) {
+                daily.add(new int[]{dayOfWeek, open, close});
+            } else if (open > close) {
+                daily.add(new int[]{dayOfWeek, open, MINUTES_PER_DAY});
+                daily.add(new int[]{dayOfWeek, 0, close});
+                daily.add(new int[]{nextDay, 0, close});
+            }
+
+            boolean hasBreak = breakStart >= 0 && breakEnd >= 0 && breakStart < breakEnd;
+            for (int[] d : daily) {
+                int base = d[0] * MINUTES_PER_DAY;
+                if (hasBreak) {
+                    addClipped(base, d[1], Math.min(d[2], breakStart));
+                    addClipped(base, Math.max(d[1], breakEnd), d[2]);
+                } else {
+                    addClipped(base, d[1], d[2]);
+                }
+            }
+            return this;
+        }
+
+        private void addClipped(int base, int from, int to) {
+            if (from < to) {
+                segments.add(new int[]{base + from, base + to});
+            }
+        }
+
+        public WeeklySchedule build() {
+            segments.sort((a, b) -> Integer.compare(a[0], b[0]));
+            var starts = new int[segments.size()];
+            var ends = new int[segments.size()];
+            int n = 0;
+            for (int[] seg : segments) {
+                if (n > 0 && seg[0] <= ends[n - 1]) {
+                    ends[n - 1] = Math.max(ends[n - 1], seg[1]);
+                } else {
+                    starts[n] = seg[0];
+                    ends[n] = seg[1];
+                    n++;
+                }
+            }
+            return new WeeklySchedule(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n));
+        }
+    }
+}
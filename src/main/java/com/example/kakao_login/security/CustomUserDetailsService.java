@@ -2,15 +2,30 @@ package com.example.kakao_login.security;
 
 import com.example.kakao_login.entity.User;
 import com.example.kakao_login.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    /** 관리자 권한(ADMIN)을 줄 이메일 (포인트 일괄 적립 등 운영 API) */
+    private final Set<String> adminEmails;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.security.admin-emails:}") List<String> adminEmails) {
+        this.userRepository = userRepository;
+        this.adminEmails = adminEmails.stream()
+                .map(String::trim)
+                .filter(e -> !e.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
 
     // 로그인 시 username 파라미터를 email로 사용
     @Override
@@ -21,7 +36,11 @@ public class CustomUserDetailsService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(u.getEmail())
                 .password(u.getPassword()) // BCrypt 해시
-                .roles("USER")
+                .roles(isAdmin(u.getEmail()) ? new String[]{"USER", "ADMIN"} : new String[]{"USER"})
                 .build();
     }
+
+    private boolean isAdmin(String email) {
+        return email != null && adminEmails.contains(email.toLowerCase());
+    }
 }
@@ -0,0 +1,280 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.entity.EarlybirdDeal;
+import com.example.kakao_login.event.StoreChangedEvent;
+import com.example.kakao_login.repository.DealStatusRepository;
+import com.example.kakao_login.repository.EarlybirdDealRepository;
+import com.example.kakao_login.util.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 얼리버드 딜 활성화 스케줄러
+ * - 시작 전/진행 중인 딜의 시작·종료 시각을 타이밍 휠에 등록하고, 경계가 지날 때마다 진행 중 딜 스냅샷을 통째로 교체
+ * - 조회(매장 상세 현재 딜, 찜 목록 딜, HOT 모닝 세일)는 스냅샷만 읽고 DB를 조회하지 않음
+ * - 종료된 딜은 모아서 EXPIRED 로 일괄 반영, 경계가 지난 매장은 DEAL 변경 이벤트로 알림 (상세 캐시/검색 뷰 갱신)
+ * - 딜 변경(변경 감지 피드)은 해당 매장만 다시 적재, 누락 보정을 위해 주기적으로 전체 재적재
+ * - 스냅샷의 딜 엔티티는 준영속 상태의 읽기 전용으로만 사용
+ * - 휠 진행은 전용 스레드에서 실행 (공용 @Scheduled 스레드의 색인 재구축 등이 길어져도 경계가 밀리지 않도록)
+ */
+@Slf4j
+@Service
+public class DealScheduler {
+
+    /**
+     * 진행 중 딜 스냅샷 (불변)
+     * @param currentByStore 매장별 현재 딜 (가장 최근 생성된 딜)
+     * @param morningSale HOT 모닝 세일 대상 (매장별 최신 EARLYBIRD 딜, 생성 최신순)
+     */
+    public record Snapshot(Map<String, EarlybirdDeal> currentByStore, List<EarlybirdDeal> morningSale) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+    }
+
+    private enum Boundary { START, END }
+
+    /** 휠 항목 (등록 당시 버전과 다르면 이미 재적재된 딜이므로 무시) */
+    private record Transition(String dealId, long version, Boundary boundary) {
+    }
+
+    private record Tracked(EarlybirdDeal deal, long version) {
+    }
+
+    private final EarlybirdDealRepository dealRepository;
+    private final DealStatusRepository dealStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId zone = ZoneId.systemDefault(); // LocalDateTime.now() 기준과 동일
+    private final long tickMs;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "deal-tick");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    // 아래 상태는 this 로 동기화
+    private final TimingWheel<Transition> wheel;
+    private final Map<String, Tracked> tracked = new HashMap<>();
+    private final Map<String, EarlybirdDeal> active = new HashMap<>();
+    private final Set<String> pendingExpire = new LinkedHashSet<>();
+    private long versionSeq;
+
+    public DealScheduler(EarlybirdDealRepository dealRepository,
+                         DealStatusRepository dealStatusRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${app.deal-schedule.tick-ms:1000}") long tickMs,
+                         @Value("${app.deal-schedule.wheel-size:3600}") int wheelSize) {
+        this.dealRepository = dealRepository;
+        this.dealStatusRepository = dealStatusRepository;
+        this.eventPublisher = eventPublisher;
+        this.tickMs = tickMs;
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 휠 진행 시작 (전용 스레드, tick-ms 간격)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTicker() {
+        ticker.scheduleWithFixedDelay(this::tickSafely, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("딜 경계 틱 시작 - tickMs: {}", tickMs);
+    }
+
+    @PreDestroy
+    public void stopTicker() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 현재 스냅샷
+     */
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 매장의 현재 딜 (없으면 null)
+     */
+    public EarlybirdDeal currentDeal(String storeId) {
+        return snapshot.get().currentByStore().get(storeId);
+    }
+
+    /**
+     * 전체 재적재 (기동 시 / 주기적 보정)
+     * - 종료 시각이 지났는데 ACTIVE 로 남은 딜을 먼저 만료 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.deal-schedule.resync-cron:0 */10 * * * *}")
+    public void reloadAll() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = dealStatusRepository.expireOverdue(now);
+            List<EarlybirdDeal> deals = dealRepository.findSchedulable(now);
+            int activeCount;
+            synchronized (this) {
+                wheel.clear();
+                tracked.clear();
+                active.clear();
+                long nowMs = System.currentTimeMillis();
+                deals.forEach(deal -> register(deal, nowMs));
+                publishSnapshot();
+                activeCount = active.size();
+            }
+            log.info("딜 스케줄 전체 적재 - 딜수: {}, 진행중: {}, 만료 보정: {}", deals.size(), activeCount, expired);
+        } catch (Exception e) {
+            log.error("딜 스케줄 전체 적재 실패", e);
+        }
+    }
+
+    /**
+     * 딜 변경 매장만 재적재 (상세 캐시 등 다른 리스너보다 먼저 스냅샷을 갱신)
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.type() != StoreChangedEvent.Type.DEAL || event.storeIds().isEmpty()) {
+            return;
+        }
+        try {
+            List<EarlybirdDeal> deals = dealRepository.findSchedulableForStores(event.storeIds(), LocalDateTime.now());
+            synchronized (this) {
+                tracked.values().removeIf(t -> event.storeIds().contains(t.deal().getStoreId()));
+                active.values().removeIf(deal -> event.storeIds().contains(deal.getStoreId()));
+                long nowMs = System.currentTimeMillis();
+                deals.forEach(deal -> register(deal, nowMs));
+                publishSnapshot();
+            }
+            log.debug("딜 스케줄 부분 적재 - 매장수: {}, 딜수: {}", event.storeIds().size(), deals.size());
+        } catch (Exception e) {
+            log.warn("딜 스케줄 부분 적재 실패 - 매장수: {}, error: {}", event.storeIds().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 예외가 나도 다음 틱이 계속 돌도록 (ScheduledExecutorService 는 예외 시 반복을 멈춤)
+     */
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Throwable e) {
+            log.error("딜 경계 틱 실패", e);
+        }
+    }
+
+    /**
+     * 타이밍 휠 진행: 지난 경계 반영 → 스냅샷 교체 → 만료 일괄 반영 → 변경 매장 알림
+     */
+    public void tick() {
+        Set<String> changedStores = new HashSet<>();
+        List<String> toExpire;
+        synchronized (this) {
+            for (Transition transition : wheel.advance(System.currentTimeMillis())) {
+                Tracked t = tracked.get(transition.dealId());
+                if (t == null || t.version() != transition.version()) {
+                    continue; // 재적재로 대체된 항목
+                }
+                EarlybirdDeal deal = t.deal();
+                if (transition.boundary() == Boundary.START) {
+                    active.put(deal.getId(), deal);
+                } else {
+                    active.remove(deal.getId());
+                    tracked.remove(deal.getId());
+                    pendingExpire.add(deal.getId());
+                }
+                changedStores.add(deal.getStoreId());
+            }
+            if (!changedStores.isEmpty()) {
+                publishSnapshot();
+            }
+            toExpire = List.copyOf(pendingExpire);
+        }
+
+        if (!toExpire.isEmpty()) {
+            try {
+                int updated = dealStatusRepository.expire(toExpire);
+                synchronized (this) {
+                    toExpire.forEach(pendingExpire::remove);
+                }
+                log.info("딜 만료 반영 - 대상: {}, 변경: {}", toExpire.size(), updated);
+            } catch (Exception e) {
+                log.warn("딜 만료 반영 실패 (다음 틱에 재시도) - 대상: {}, error: {}", toExpire.size(), e.getMessage());
+            }
+        }
+        if (!changedStores.isEmpty()) {
+            eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.Type.DEAL, changedStores));
+        }
+    }
+
+    /**
+     * 딜 하나를 등록 (시작 전이면 시작 경계, 종료 시각이 있으면 종료 경계를 휠에 등록)
+     */
+    private void register(EarlybirdDeal deal, long nowMs) {
+        long until = deal.getValidUntil() != null ? toEpochMs(deal.getValidUntil()) : Long.MAX_VALUE;
+        if (until < nowMs) {
+            return; // 조회 후 등록 전에 끝난 딜
+        }
+        long version = ++versionSeq;
+        tracked.put(deal.getId(), new Tracked(deal, version));
+        long from = deal.getValidFrom() != null ? toEpochMs(deal.getValidFrom()) : Long.MIN_VALUE;
+        if (from > nowMs) {
+            wheel.schedule(from, new Transition(deal.getId(), version, Boundary.START));
+        } else {
+            active.put(deal.getId(), deal);
+        }
+        if (until != Long.MAX_VALUE) {
+            // validUntil 까지 유효 (조회 조건 validUntil >= now 와 동일하게 그 다음 순간 종료)
+            wheel.schedule(until + 1, new Transition(deal.getId(), version, Boundary.END));
+        }
+    }
+
+    /**
+     * 진행 중 딜로 새 스냅샷을 만들어 교체
+     */
+    private void publishSnapshot() {
+        Comparator<EarlybirdDeal> newestFirst = Comparator.comparing(EarlybirdDeal::getCreatedAt,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        Map<String, EarlybirdDeal> currentByStore = newestPerStore(active.values(), newestFirst);
+        List<EarlybirdDeal> morningSale = newestPerStore(active.values().stream()
+                .filter(deal -> deal.getDealType() == EarlybirdDeal.DealType.EARLYBIRD)
+                .toList(), newestFirst)
+            .values().stream()
+            .sorted(newestFirst)
+            .toList();
+        snapshot.set(new Snapshot(Map.copyOf(currentByStore), morningSale));
+    }
+
+    private static Map<String, EarlybirdDeal> newestPerStore(Collection<EarlybirdDeal> deals,
+                                                            Comparator<EarlybirdDeal> newestFirst) {
+        return deals.stream().collect(Collectors.toMap(EarlybirdDeal::getStoreId, Function.identity(),
+                (a, b) -> newestFirst.compare(a, b) <= 0 ? a : b));
+    }
+
+    private long toEpochMs(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+}
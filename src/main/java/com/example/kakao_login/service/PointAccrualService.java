@@ -0,0 +1,249 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.dto.point.PointAccrualResponse;
+import com.example.kakao_login.dto.point.PointGrantRequest;
+import com.example.kakao_login.repository.PointAccrualRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 일괄 적립 작업
+ * - 요청 스트림을 chunk-size 건씩 끊어 청크마다 트랜잭션 하나로 적립 (PointAccrualRepository)
+ * - 청크가 커밋되면 지급 키도 함께 남으므로 중간에 실패해도 같은 요청 전체를 다시 보내면 이어서 처리
+ * - 최근 작업 진행 상태를 메모리에 보관 (노드별, 재시작 시 사라짐)
+ * - 작업 하나가 적립할 수 있는 포인트 합계는 max-points-per-job 까지, 넘치는 청크부터는 적립하지 않고 FAILED 로 종료
+ */
+@Slf4j
+@Service
+public class PointAccrualService {
+
+    public static final String DEFAULT_REASON = "이벤트 적립";
+
+    private final PointAccrualRepository accrualRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxJobs;
+    private final long maxPointsPerJob;
+
+    private final Counter applied;
+    private final Counter duplicates;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter pointsApplied;
+    private final Timer chunkTimer;
+
+    /** 접근 순서 LinkedHashMap, 모든 접근은 this로 동기화 */
+    private final LinkedHashMap<String, Job> jobs;
+
+    public PointAccrualService(PointAccrualRepository accrualRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry registry,
+                               @Value("${app.point-accrual.chunk-size:500}") int chunkSize,
+                               @Value("${app.point-accrual.max-jobs:100}") int maxJobs,
+                               @Value("${app.point-accrual.max-points-per-job:50000000}") long maxPointsPerJob) {
+        this.accrualRepository = accrualRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxJobs = maxJobs;
+        this.maxPointsPerJob = maxPointsPerJob;
+        this.applied = registry.counter("point.accrual.grants", "result", "applied");
+        this.duplicates = registry.counter("point.accrual.grants", "result", "duplicate");
+        this.rejected = registry.counter("point.accrual.grants", "result", "rejected");
+        this.failed = registry.counter("point.accrual.grants", "result", "failed");
+        this.pointsApplied = registry.counter("point.accrual.points");
+        this.chunkTimer = Timer.builder("point.accrual.chunk").register(registry);
+        this.jobs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+                return size() > PointAccrualService.this.maxJobs;
+            }
+        };
+        registry.gauge("point.accrual.jobs.running", this, PointAccrualService::runningJobs);
+    }
+
+    /**
+     * 일괄 적립 실행 (호출 스레드에서 끝까지 처리)
+     * - 유효하지 않은 항목은 건너뛰고 rejected 로 집계
+     * - 청크 처리 중 오류가 나면 그 청크만 failed 로 집계하고 다음 청크 계속 (같은 요청 재전송 시 재시도)
+     * - 요청 스트림 자체를 읽지 못하거나 작업 포인트 상한을 넘으면 작업을 FAILED 로 종료
+     * @param jobId 작업 ID (없으면 생성)
+     * @param grants 적립 요청 스트림
+     * @return 종료 시점 진행 상태
+     */
+    public PointAccrualResponse accrue(String jobId, Iterator<PointGrantRequest> grants) {
+        Job job = register(jobId != null && !jobId.isBlank() ? jobId : UUID.randomUUID().toString());
+        log.info("포인트 일괄 적립 시작 - jobId: {}, chunkSize: {}", job.id, chunkSize);
+
+        List<PointAccrualRepository.Grant> chunk = new ArrayList<>(chunkSize);
+        try {
+            while (grants.hasNext()) {
+                PointGrantRequest request = grants.next();
+                job.received.incrementAndGet();
+                PointAccrualRepository.Grant grant = toGrant(request);
+                if (grant == null) {
+                    job.rejected.incrementAndGet();
+                    rejected.increment();
+                    continue;
+                }
+                chunk.add(grant);
+                if (chunk.size() >= chunkSize) {
+                    applyChunk(job, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            applyChunk(job, chunk);
+            job.finish("COMPLETED", null);
+        } catch (RuntimeException e) {
+            log.error("포인트 일괄 적립 중단 - jobId: {}", job.id, e);
+            job.finish("FAILED", e.getMessage());
+        }
+
+        PointAccrualResponse response = job.toResponse();
+        log.info("포인트 일괄 적립 종료 - jobId: {}, status: {}, 적립: {}, 중복: {}, 거부: {}, 실패: {}, 처리량: {}/s",
+                job.id, response.status(), response.applied(), response.duplicates(),
+                response.rejected(), response.failed(), response.grantsPerSecond());
+        return response;
+    }
+
+    /**
+     * 작업 진행 상태
+     * @throws IllegalArgumentException 작업이 없는 경우 (만료 포함)
+     */
+    public PointAccrualResponse getJob(String jobId) {
+        Job job;
+        synchronized (this) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new IllegalArgumentException("포인트 적립 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    public synchronized int runningJobs() {
+        return (int) jobs.values().stream().filter(j -> j.finishedAt == null).count();
+    }
+
+    private synchronized Job register(String jobId) {
+        Job current = jobs.get(jobId);
+        if (current != null && current.finishedAt == null) {
+            throw new IllegalArgumentException("이미 진행 중인 포인트 적립 작업입니다: " + jobId);
+        }
+        Job job = new Job(jobId);
+        jobs.put(jobId, job);
+        return job;
+    }
+
+    /**
+     * 청크 적립, 지급 키 경합(다른 작업이 같은 키를 먼저 기록)으로 롤백되면 한 번 더 시도
+     */
+    private void applyChunk(Job job, List<PointAccrualRepository.Grant> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        long budget = maxPointsPerJob - job.pointsApplied.get();
+        long started = System.nanoTime();
+        try {
+            PointAccrualRepository.ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> accrualRepository.applyChunk(chunk, budget));
+            } catch (DuplicateKeyException e) {
+                log.warn("포인트 일괄 적립 지급 키 경합, 청크 재시도 - jobId: {}", job.id);
+                result = transactionTemplate.execute(status -> accrualRepository.applyChunk(chunk, budget));
+            }
+            job.applied.addAndGet(result.applied());
+            job.duplicates.addAndGet(result.duplicates());
+            job.pointsApplied.addAndGet(result.points());
+            applied.increment(result.applied());
+            duplicates.increment(result.duplicates());
+            pointsApplied.increment(result.points());
+        } catch (PointAccrualRepository.BudgetExceededException e) {
+            throw new IllegalStateException("작업당 적립 한도(" + maxPointsPerJob + "P)를 넘어 중단했습니다.", e);
+        } catch (RuntimeException e) {
+            job.failed.addAndGet(chunk.size());
+            failed.increment(chunk.size());
+            log.error("포인트 일괄 적립 청크 실패 - jobId: {}, 건수: {}", job.id, chunk.size(), e);
+        } finally {
+            chunkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PointAccrualRepository.Grant toGrant(PointGrantRequest request) {
+        if (request == null) {
+            return null;
+        }
+        String reason = request.reason() == null || request.reason().isBlank() ? DEFAULT_REASON : request.reason();
+        PointGrantRequest normalized = new PointGrantRequest(request.grantKey(), request.userId(), request.points(), reason);
+        try {
+            normalized.validate();
+        } catch (IllegalArgumentException e) {
+            log.debug("포인트 일괄 적립 항목 거부 - grantKey: {}, reason: {}", request.grantKey(), e.getMessage());
+            return null;
+        }
+        return new PointAccrualRepository.Grant(normalized.grantKey(), normalized.userId(), normalized.points(), reason);
+    }
+
+    private static final class Job {
+        private final String id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong applied = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong pointsApplied = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private void finish(String status, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.status = status;
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private PointAccrualResponse toResponse() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            double seconds = Math.max(end - startedNanos, 1) / 1_000_000_000.0;
+            long processed = applied.get() + duplicates.get() + rejected.get() + failed.get();
+            return PointAccrualResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .received(received.get())
+                    .applied(applied.get())
+                    .duplicates(duplicates.get())
+                    .rejected(rejected.get())
+                    .failed(failed.get())
+                    .pointsApplied(pointsApplied.get())
+                    .grantsPerSecond(Math.round(processed / seconds * 10) / 10.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.repository.PointLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 원장 스냅샷 / 검증
+ * - 주기적으로 원장 스냅샷을 전진시켜 검증 시 전체 원장을 다시 합산하지 않음
+ * - 스냅샷은 lag 만큼 과거까지만 전진 (그 전에 시작한 트랜잭션의 원장 행이 늦게 커밋돼도 빠지지 않도록)
+ * - 매일 user_points 누계를 원장과 비교, repair 설정 시 원장 기준으로 보정
+ */
+@Slf4j
+@Component
+public class PointLedgerVerifier {
+
+    private static final int DRIFT_SAMPLE_SIZE = 100;
+
+    private final PointLedgerRepository ledgerRepository;
+    private final long snapshotLagMinutes;
+    private final boolean repair;
+
+    public PointLedgerVerifier(PointLedgerRepository ledgerRepository,
+                               @Value("${app.point-ledger.snapshot-lag-minutes:10}") long snapshotLagMinutes,
+                               @Value("${app.point-ledger.repair:false}") boolean repair) {
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotLagMinutes = snapshotLagMinutes;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${app.point-ledger.snapshot-cron:0 */10 * * * *}")
+    public void snapshot() {
+        try {
+            int users = ledgerRepository.advanceSnapshots(LocalDateTime.now().minusMinutes(snapshotLagMinutes));
+            log.debug("포인트 원장 스냅샷 전진 - 사용자수: {}", users);
+        } catch (Exception e) {
+            log.error("포인트 원장 스냅샷 전진 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.point-ledger.verify-cron:0 40 4 * * *}")
+    public void verify() {
+        try {
+            long started = System.currentTimeMillis();
+            List<PointLedgerRepository.Drift> drift = ledgerRepository.findDrift(DRIFT_SAMPLE_SIZE);
+            if (!drift.isEmpty()) {
+                drift.stream().limit(10).forEach(d -> log.warn(
+                    "포인트 원장 불일치 - userId: {}, 잔액: {}, 적립: {}/{}, 사용: {}/{}",
+                    d.userId(), d.pointBalance(), d.totalEarned(), d.ledgerEarned(), d.totalSpent(), d.ledgerSpent()));
+                if (repair) {
+                    int repaired = ledgerRepository.repairFromLedger();
+                    log.warn("포인트 원장 기준 보정 - 사용자수: {}", repaired);
+                } else {
+                    log.warn("포인트 원장 불일치 사용자 - {}명 이상 (보정 비활성)", drift.size());
+                }
+            }
+            log.info("포인트 원장 검증 완료 - 불일치: {}, 소요: {}ms", drift.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("포인트 원장 검증 실패", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.entity.StoreView;
+import com.example.kakao_login.repository.StoreViewCountRepository;
+import com.example.kakao_login.util.SpaceSavingTopK;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 인기 매장 실시간 순위 (조회 이벤트 스트림 기반)
+ * - 서울 기준 현재 시간대 / 오늘 창마다 SpaceSavingTopK 를 두고 상세 조회마다 1씩 더함
+ * - 창이 바뀌면 직전 창의 상위 목록만 고정해 남기고 새 창을 시작 (직전 시간대 / 어제 조회용)
+ * - 정확한 일자별 조회수는 StoreViewCounter 가 store_views 에 반영, 재시작 시 오늘 창은 그 값으로 다시 채움
+ */
+@Slf4j
+@Service
+public class PopularStoreTracker {
+
+    public enum Window {
+        CURRENT_HOUR,
+        PREVIOUS_HOUR,
+        TODAY,
+        YESTERDAY
+    }
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final long HOUR_MS = 3_600_000L;
+    private static final long DAY_MS = 24 * HOUR_MS;
+
+    private final StoreViewCountRepository viewCountRepository;
+    private final int capacity;
+    private final int snapshotSize;
+    /** 서울 표준시 오프셋 (일광절약시간 없음) */
+    private final long offsetMs;
+
+    private long currentHour;
+    private long currentDay;
+    private SpaceSavingTopK hour;
+    private SpaceSavingTopK day;
+    private volatile List<SpaceSavingTopK.Ranked> previousHour = List.of();
+    private volatile List<SpaceSavingTopK.Ranked> previousDay = List.of();
+
+    public PopularStoreTracker(StoreViewCountRepository viewCountRepository,
+                               @Value("${app.store-view.top-k.capacity:1000}") int capacity,
+                               @Value("${app.store-view.top-k.snapshot-size:100}") int snapshotSize) {
+        this.viewCountRepository = viewCountRepository;
+        this.capacity = capacity;
+        this.snapshotSize = snapshotSize;
+        this.offsetMs = SEOUL.getRules().getOffset(Instant.now()).getTotalSeconds() * 1000L;
+        long now = System.currentTimeMillis();
+        this.currentHour = hourOf(now);
+        this.currentDay = dayOf(now);
+        this.hour = new SpaceSavingTopK(capacity);
+        this.day = new SpaceSavingTopK(capacity);
+    }
+
+    /**
+     * 조회 1건 반영
+     */
+    public synchronized void record(String storeId) {
+        roll(System.currentTimeMillis());
+        hour.increment(storeId);
+        day.increment(storeId);
+    }
+
+    /**
+     * 창별 상위 매장 (조회수 추정 내림차순)
+     * @param limit 최대 개수 (직전 창은 스냅샷 크기까지)
+     */
+    public synchronized List<SpaceSavingTopK.Ranked> top(Window window, int limit) {
+        roll(System.currentTimeMillis());
+        return switch (window) {
+            case CURRENT_HOUR -> hour.top(limit);
+            case TODAY -> day.top(limit);
+            case PREVIOUS_HOUR -> previousHour.subList(0, Math.min(limit, previousHour.size()));
+            case YESTERDAY -> previousDay.subList(0, Math.min(limit, previousDay.size()));
+        };
+    }
+
+    /**
+     * 재시작 시 오늘 창을 store_views 의 오늘 조회수로 채움 (현재 시간대 창은 빈 상태로 시작)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreToday() {
+        try {
+            LocalDate today = StoreView.today();
+            var counts = viewCountRepository.findTopCounts(today, capacity);
+            synchronized (this) {
+                counts.forEach(day::add);
+            }
+            log.info("인기 매장 오늘 순위 복원 - date: {}, 매장수: {}", today, counts.size());
+        } catch (Exception e) {
+            log.warn("인기 매장 오늘 순위 복원 실패 (빈 상태로 시작) - error: {}", e.getMessage());
+        }
+    }
+
+    private void roll(long now) {
+        long h = hourOf(now);
+        if (h != currentHour) {
+            previousHour = h == currentHour + 1 ? List.copyOf(hour.top(snapshotSize)) : List.of();
+            hour = new SpaceSavingTopK(capacity);
+            currentHour = h;
+        }
+        long d = dayOf(now);
+        if (d != currentDay) {
+            previousDay = d == currentDay + 1 ? List.copyOf(day.top(snapshotSize)) : List.of();
+            day = new SpaceSavingTopK(capacity);
+            currentDay = d;
+            log.info("인기 매장 일간 창 교체 - 어제 상위 매장수: {}", previousDay.size());
+        }
+    }
+
+    private long hourOf(long epochMs) {
+        return Math.floorDiv(epochMs + offsetMs, HOUR_MS);
+    }
+
+    private long dayOf(long epochMs) {
+        return Math.floorDiv(epochMs + offsetMs, DAY_MS);
+    }
+}
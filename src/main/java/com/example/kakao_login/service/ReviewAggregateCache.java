@@ -0,0 +1,114 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.dto.review.StoreReviewsResponse;
+import com.example.kakao_login.event.StoreChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 매장 리뷰 화면 공통 집계 캐시 (AI 리뷰 요약 + 사진 모아보기)
+ * - 리뷰 목록 페이지와 따로 보관해 페이지를 넘길 때마다 다시 계산하지 않음
+ * - 매장별 버전: 리뷰 변경 시 올리고, 항목은 저장 당시 버전과 같을 때만 유효 (StoreDetailCache 와 같은 방식)
+ * - 리뷰 쓰기는 커밋 후에 무효화
+ */
+@Slf4j
+@Component
+public class ReviewAggregateCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    /** 접근 순서 LinkedHashMap (LRU), 모든 접근은 this로 동기화 */
+    private final LinkedHashMap<String, Slot> entries;
+
+    public ReviewAggregateCache(MeterRegistry registry,
+                                @Value("${app.review-feed.cache.enabled:true}") boolean enabled,
+                                @Value("${app.review-feed.cache.max-entries:2000}") int maxEntries,
+                                @Value("${app.review-feed.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.hits = registry.counter("review.aggregate.cache.requests", "result", "hit");
+        this.misses = registry.counter("review.aggregate.cache.requests", "result", "miss");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+                return size() > ReviewAggregateCache.this.maxEntries;
+            }
+        };
+        registry.gauge("review.aggregate.cache.size", this, ReviewAggregateCache::size);
+    }
+
+    /**
+     * 매장 리뷰 집계
+     * @param aiSummary AI 리뷰 요약
+     * @param photos 사진 모아보기 URL (최근 리뷰 순)
+     */
+    public record Aggregates(StoreReviewsResponse.AiSummary aiSummary, List<String> photos) {
+    }
+
+    /**
+     * 캐시 조회, 없거나 무효/만료됐으면 loader 결과를 저장 후 반환
+     */
+    public Aggregates get(String storeId, Supplier<Aggregates> loader) {
+        long version = versions.getOrDefault(storeId, 0L);
+        long now = System.currentTimeMillis();
+        if (enabled) {
+            synchronized (this) {
+                Slot slot = entries.get(storeId);
+                if (slot != null && slot.version() == version && slot.expiresAt() > now) {
+                    hits.increment();
+                    return slot.aggregates();
+                }
+            }
+            misses.increment();
+        }
+        Aggregates aggregates = loader.get();
+        if (enabled) {
+            synchronized (this) {
+                entries.put(storeId, new Slot(aggregates, version, now + ttlMillis));
+            }
+        }
+        return aggregates;
+    }
+
+    /**
+     * 리뷰 변경 시 해당 매장 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.type() == StoreChangedEvent.Type.REVIEW) {
+            event.storeIds().forEach(this::invalidate);
+        }
+    }
+
+    public void invalidate(String storeId) {
+        versions.merge(storeId, 1L, Long::sum);
+        synchronized (this) {
+            entries.remove(storeId);
+        }
+        log.debug("리뷰 집계 캐시 무효화 - storeId: {}", storeId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Slot(Aggregates aggregates, long version, long expiresAt) {
+    }
+}
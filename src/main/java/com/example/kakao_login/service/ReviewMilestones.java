@@ -0,0 +1,61 @@
+package com.example.kakao_login.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 등록 마일스톤 보너스 규칙표
+ * - N번째 리뷰 등록 시 기본 포인트에 보너스를 더해 적립
+ * - 규칙은 리뷰 수 → 마일스톤 맵으로 조회 (O(1)), 마일스톤마다 지급 여부 비트를 하나씩 사용
+ */
+public final class ReviewMilestones {
+
+    /** 리뷰 등록 기본 포인트 */
+    public static final int BASE_POINTS = 10;
+
+    /**
+     * 마일스톤
+     * @param reviewCount 달성 리뷰 수
+     * @param bit 지급 여부 비트 위치 (user_point_counters.milestones_granted, 0~62, 중복 불가)
+     * @param bonus 보너스 포인트
+     */
+    public record Milestone(long reviewCount, int bit, int bonus) {
+
+        public long mask() {
+            return 1L << bit;
+        }
+
+        public int totalPoints() {
+            return BASE_POINTS + bonus;
+        }
+
+        public String reason() {
+            return reviewCount + "번째 리뷰 등록 (기본 " + BASE_POINTS + "포인트 + 보너스 " + bonus + "포인트)";
+        }
+    }
+
+    private static final List<Milestone> TABLE = List.of(
+        new Milestone(10, 0, 50),
+        new Milestone(20, 1, 100),
+        new Milestone(30, 2, 50),
+        new Milestone(40, 3, 50)
+    );
+
+    private static final Map<Long, Milestone> BY_COUNT = TABLE.stream()
+        .collect(Collectors.toUnmodifiableMap(Milestone::reviewCount, Function.identity()));
+
+    private ReviewMilestones() {}
+
+    /**
+     * 해당 리뷰 수에 걸린 마일스톤 (없으면 null)
+     */
+    public static Milestone at(long reviewCount) {
+        return BY_COUNT.get(reviewCount);
+    }
+
+    public static List<Milestone> all() {
+        return TABLE;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.repository.StoreReviewStatsRepository;
+import com.example.kakao_login.repository.StoreSearchViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 집계 보정
+ * - 기동 시(최초 적재 포함)와 매일 새벽 store_review_stats 를 리뷰 원본으로 다시 계산
+ * - 불일치가 있었으면 평점이 바뀐 매장이 검색 뷰에도 반영되도록 store_search_view 도 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewStatsReconciler {
+
+    private final StoreReviewStatsRepository statsRepository;
+    private final StoreSearchViewRepository viewRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.review-stats.reconcile-cron:0 20 4 * * *}")
+    public void reconcile() {
+        try {
+            long started = System.currentTimeMillis();
+            int drift = statsRepository.reconcileAll();
+            if (drift > 0) {
+                log.warn("리뷰 집계 불일치 보정 - 매장수: {}", drift);
+                viewRepository.refreshAll();
+            }
+            log.info("리뷰 집계 보정 완료 - 소요: {}ms", System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("리뷰 집계 보정 실패", e);
+        }
+    }
+}
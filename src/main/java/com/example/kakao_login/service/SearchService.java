@@ -4,21 +4,74 @@ import com.example.kakao_login.common.PageResult;
 import com.example.kakao_login.dto.search.FilterMetaResponse;
 import com.example.kakao_login.dto.search.StoreSearchRequest;
 import com.example.kakao_login.dto.search.StoreSummaryDto;
+import com.example.kakao_login.dto.search.SuggestionDto;
 import com.example.kakao_login.repository.SearchRepository;
+import com.example.kakao_login.search.StoreOpenHoursIndex;
+import com.example.kakao_login.search.StoreSearchCache;
+import com.example.kakao_login.search.StoreSuggestIndex;
 import org.springframework.stereotype.Service;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class SearchService {
 
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final SearchRepository repo;
-    public SearchService(SearchRepository repo) { this.repo = repo; }
+    private final StoreSearchCache cache;
+    private final StoreOpenHoursIndex openHours;
+    private final StoreSuggestIndex suggestIndex;
+
+    public SearchService(SearchRepository repo, StoreSearchCache cache, StoreOpenHoursIndex openHours,
+                         StoreSuggestIndex suggestIndex) {
+        this.repo = repo;
+        this.cache = cache;
+        this.openHours = openHours;
+        this.suggestIndex = suggestIndex;
+    }
 
     public PageResult<StoreSummaryDto> searchStores(StoreSearchRequest req) {
-        // TODO: is_open_now / next_open_time 보강 로직(원하면 추가)
-        return repo.searchStores(req);
+        // 사용자/현재 시각과 무관한 결과는 정규화된 요청 단위로 캐시하고,
+        // 찜 여부와 영업 상태(is_open_now / next_open_time)는 응답 직전에 덧씌움
+        var key = cache.normalize(req);
+        var result = cache.get(key, () -> repo.searchStores(key));
+
+        var storeIds = result.items().stream().map(StoreSummaryDto::id).toList();
+        Set<String> favorites = repo.findFavoriteStoreIds(req.userId(), storeIds);
+        var now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        var items = result.items().stream()
+                .map(item -> item.withFavorite(favorites.contains(item.id())))
+                .map(item -> {
+                    var state = openHours.stateAt(item.id(), now);
+                    if (state == null) {
+                        return item.withOpenState(null, null);
+                    }
+                    String nextOpen = state.nextOpenAt() == null ? null
+                            : state.nextOpenAt().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+                    return item.withOpenState(state.openNow(), nextOpen);
+                })
+                .toList();
+        return new PageResult<>(items, result.page(), result.size(), result.total(),
+                result.hasNext(), result.nextCursor());
+    }
+
+    /**
+     * 검색창 자동완성 (인메모리 인덱스만 조회, DB 접근 없음)
+     */
+    public List<SuggestionDto> suggest(String q, int limit) {
+        if (q == null || q.isBlank()) {
+            return List.of();
+        }
+        int bounded = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return suggestIndex.suggest(q, bounded).stream()
+                .map(s -> new SuggestionDto(s.text(), s.type(), s.id()))
+                .toList();
     }
 
     public FilterMetaResponse getFilterMeta(Double lat, Double lng, Double radiusKm, String type) {
@@ -31,7 +84,8 @@ public class SearchService {
                 .map(m -> new FilterMetaResponse.Category(
                         (String) m.get("id"),
                         (String) m.get("name"),
-                        (String) m.get("parent_id")))
+                        (String) m.get("parent_id"),
+                        (Integer) m.get("count")))
                 .toList();
 
         List<Map<String, Object>> tagList =
@@ -46,6 +100,15 @@ public class SearchService {
 
         var sortOptions = (List<String>) raw.getOrDefault("sort_options", List.of());
         var timeSlots = (List<String>) raw.getOrDefault("time_slots", List.of());
-        return new FilterMetaResponse(categories, tags, sortOptions, timeSlots);
+
+        List<Map<String, Object>> slotCountList =
+                (List<Map<String, Object>>) raw.getOrDefault("time_slot_counts", List.of());
+        var timeSlotCounts = slotCountList.stream()
+                .map(m -> new FilterMetaResponse.TimeSlotCount(
+                        (String) m.get("slot"),
+                        ((Number) m.get("count")).intValue()))
+                .toList();
+        return new FilterMetaResponse(categories, tags, sortOptions, timeSlots,
+                (Integer) raw.get("store_count"), (Integer) raw.get("deal_count"), timeSlotCounts);
     }
 }
@@ -0,0 +1,204 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.dto.store.StoreDetailResponse;
+import com.example.kakao_login.event.StoreChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 매장 상세 응답 캐시 (사용자 무관 부분)
+ * - 매장 ID별로 사용자 컨텍스트를 뺀 응답과 그 내용 해시(ETag 기반값)를 보관
+ * - 매장별 버전: 매장/메뉴/딜/리뷰 변경 시 올리고, 항목은 저장 당시 버전과 같을 때만 유효
+ *   (변경 전에 시작한 조회 결과가 변경 후에 저장돼도 사용되지 않음)
+ * - 앱 내부 쓰기(리뷰)는 커밋 후에 무효화, 변경 감지 피드 이벤트는 트랜잭션 밖이므로 즉시 무효화
+ * - 현재 딜은 시각에 따라 바뀌므로 TTL 로 주기적으로 다시 계산
+ */
+@Slf4j
+@Component
+public class StoreDetailCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /** 매장별 버전 (매장 수만큼만 유지) */
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    /** 접근 순서 LinkedHashMap (LRU), 모든 접근은 this로 동기화 */
+    private final LinkedHashMap<String, Slot> entries;
+
+    public StoreDetailCache(ObjectMapper objectMapper,
+                            MeterRegistry registry,
+                            @Value("${app.store-detail.cache.enabled:true}") boolean enabled,
+                            @Value("${app.store-detail.cache.max-entries:2000}") int maxEntries,
+                            @Value("${app.store-detail.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.hits = registry.counter("store.detail.cache.requests", "result", "hit");
+        this.misses = registry.counter("store.detail.cache.requests", "result", "miss");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+                return size() > StoreDetailCache.this.maxEntries;
+            }
+        };
+        registry.gauge("store.detail.cache.size", this, StoreDetailCache::size);
+    }
+
+    /**
+     * 조회 결과
+     * @param body 사용자 컨텍스트가 빠진 응답
+     * @param contentHash 응답 내용 해시 (사용자 컨텍스트와 합쳐 ETag 생성)
+     */
+    public record Entry(StoreDetailResponse body, String contentHash) {
+    }
+
+    /**
+     * 원본 조회 결과
+     * @param cacheable 하위 조회가 모두 성공했는지 (대체값이 섞인 응답은 저장하지 않음)
+     */
+    public record Loaded(StoreDetailResponse body, boolean cacheable) {
+    }
+
+    /**
+     * 캐시 조회, 없거나 무효/만료됐으면 loader 결과를 저장 후 반환
+     */
+    public Entry get(String storeId, Supplier<Loaded> loader) {
+        long version = versions.getOrDefault(storeId, 0L);
+        long now = System.currentTimeMillis();
+        if (enabled) {
+            synchronized (this) {
+                Slot slot = entries.get(storeId);
+                if (slot != null && slot.version() == version && slot.expiresAt() > now) {
+                    hits.increment();
+                    return slot.entry();
+                }
+            }
+            misses.increment();
+        }
+        Loaded loaded = loader.get();
+        Entry entry = new Entry(loaded.body(), hash(loaded.body()));
+        if (enabled && loaded.cacheable()) {
+            synchronized (this) {
+                entries.put(storeId, new Slot(entry, version, now + ttlMillis));
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 여러 매장 일괄 조회, 캐시에 없는 매장만 모아 loader 한 번으로 조회
+     * @param loader 미스 매장 ID 목록 → 매장 ID별 원본 조회 결과 (없는 매장은 빠짐)
+     * @return 매장 ID → 조회 결과 (요청 순서, 찾지 못한 매장은 빠짐)
+     */
+    public Map<String, Entry> getAll(Collection<String> storeIds, Function<List<String>, Map<String, Loaded>> loader) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> readVersions = new HashMap<>();
+        Map<String, Entry> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String storeId : storeIds) {
+            readVersions.put(storeId, versions.getOrDefault(storeId, 0L));
+        }
+        if (enabled) {
+            synchronized (this) {
+                for (String storeId : storeIds) {
+                    Slot slot = entries.get(storeId);
+                    if (slot != null && slot.version() == readVersions.get(storeId) && slot.expiresAt() > now) {
+                        found.put(storeId, slot.entry());
+                    }
+                }
+            }
+            hits.increment(found.size());
+            misses.increment(storeIds.size() - found.size());
+        }
+        for (String storeId : storeIds) {
+            if (!found.containsKey(storeId)) {
+                missing.add(storeId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach((storeId, loaded) -> {
+                Entry entry = new Entry(loaded.body(), hash(loaded.body()));
+                found.put(storeId, entry);
+                if (enabled && loaded.cacheable()) {
+                    synchronized (this) {
+                        entries.put(storeId, new Slot(entry, readVersions.get(storeId), now + ttlMillis));
+                    }
+                }
+            });
+        }
+        Map<String, Entry> out = new LinkedHashMap<>();
+        for (String storeId : storeIds) {
+            Entry entry = found.get(storeId);
+            if (entry != null) {
+                out.put(storeId, entry);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 매장 상세에 영향을 주는 변경 시 해당 매장 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        switch (event.type()) {
+            case STORE, MENU, DEAL, REVIEW -> event.storeIds().forEach(this::invalidate);
+            default -> { }
+        }
+    }
+
+    public void invalidate(String storeId) {
+        versions.merge(storeId, 1L, Long::sum);
+        synchronized (this) {
+            entries.remove(storeId);
+        }
+        log.debug("매장 상세 캐시 무효화 - storeId: {}", storeId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 응답 JSON 의 SHA-256 (앞 16바이트, base64url)
+     */
+    private String hash(StoreDetailResponse body) {
+        try {
+            byte[] json = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("매장 상세 응답 해시 계산 실패", e);
+        }
+    }
+
+    private record Slot(Entry entry, long version, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.kakao_login.service;
 
+import com.example.kakao_login.dto.store.StoreBatchResponse;
 import com.example.kakao_login.dto.store.StoreDetailResponse;
 import com.example.kakao_login.dto.store.TodaysPopularStoreResponse;
 import com.example.kakao_login.dto.store.HotMorningSaleResponse;
@@ -7,25 +8,35 @@ import com.example.kakao_login.entity.BusinessStatus;
 import com.example.kakao_login.entity.EarlybirdDeal;
 import com.example.kakao_login.entity.MenuItem;
 import com.example.kakao_login.entity.Store;
-import com.example.kakao_login.entity.StoreView;
 import com.example.kakao_login.exception.StoreDetailServiceException;
 import com.example.kakao_login.exception.StoreNotFoundException;
 import com.example.kakao_login.mapper.StoreDetailMapper;
-import com.example.kakao_login.repository.EarlybirdDealRepository;
 import com.example.kakao_login.repository.MenuItemRepository;
 import com.example.kakao_login.repository.StoreRepository;
-import com.example.kakao_login.repository.StoreReviewRepository;
-import com.example.kakao_login.repository.StoreViewRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.kakao_login.util.SpaceSavingTopK;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -33,63 +44,115 @@ import java.util.stream.Collectors;
  * - 카카오 15년차 기준 실무 구현
  * - 단일 책임: 비즈니스 로직만 담당
  * - 매핑 로직은 Mapper에 위임
+ * - 매장 확인 후 메뉴/사용자 컨텍스트를 병렬 조회 (하위 조회별 타임아웃 + 대체값)
+ * - 현재 딜 / HOT 모닝 세일은 DealScheduler 스냅샷 사용
+ * - 리뷰 수/평균 평점은 매장의 비정규화 집계(stores.rating_count / rating_avg) 사용
+ * - 사용자 무관 부분은 StoreDetailCache 로 캐시하고 ETag 를 함께 반환 (Controller 에서 304 처리)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StoreDetailService {
 
+    /** 매장 일괄 조회 최대 개수 */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    /** 오늘의 인기 매장 후보 수 (상위 매장이 비활성일 때 다음 순위로) */
+    private static final int POPULAR_CANDIDATES = 5;
+
     private final StoreRepository storeRepository;
     private final MenuItemRepository menuItemRepository;
-    private final EarlybirdDealRepository dealRepository;
-    private final StoreReviewRepository storeReviewRepository;
-    private final StoreViewRepository storeViewRepository;
+    private final DealScheduler dealScheduler;
     private final UserFavoriteService userFavoriteService;
     private final StoreDetailMapper mapper;
+    private final StoreViewCounter storeViewCounter;
+    private final PopularStoreTracker popularStoreTracker;
+    private final StoreDetailCache detailCache;
+    private final Executor detailExecutor;
+    private final MeterRegistry meterRegistry;
+    private final boolean fanOutEnabled;
+    private final long branchTimeoutMs;
+    /** 병렬 하위 조회용 읽기 트랜잭션 (타임아웃이 쿼리 타임아웃으로 적용돼 늦은 쿼리는 DB 에서 취소됨) */
+    private final TransactionTemplate branchTransaction;
+    /** 상세 조회 호출 스레드의 매장 조회용 짧은 읽기 트랜잭션 (하위 조회를 기다리는 동안 커넥션을 잡지 않음) */
+    private final TransactionTemplate storeTransaction;
+
+    public StoreDetailService(StoreRepository storeRepository,
+                              MenuItemRepository menuItemRepository,
+                              DealScheduler dealScheduler,
+                              UserFavoriteService userFavoriteService,
+                              StoreDetailMapper mapper,
+                              StoreViewCounter storeViewCounter,
+                              PopularStoreTracker popularStoreTracker,
+                              StoreDetailCache detailCache,
+                              @Qualifier("storeDetailExecutor") Executor detailExecutor,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.store-detail.fan-out.enabled:true}") boolean fanOutEnabled,
+                              @Value("${app.store-detail.fan-out.timeout-ms:500}") long branchTimeoutMs) {
+        this.storeRepository = storeRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.dealScheduler = dealScheduler;
+        this.userFavoriteService = userFavoriteService;
+        this.mapper = mapper;
+        this.storeViewCounter = storeViewCounter;
+        this.popularStoreTracker = popularStoreTracker;
+        this.detailCache = detailCache;
+        this.detailExecutor = detailExecutor;
+        this.meterRegistry = meterRegistry;
+        this.fanOutEnabled = fanOutEnabled;
+        this.branchTimeoutMs = branchTimeoutMs;
+        // JDBC 쿼리 타임아웃은 초 단위라 올림 (500ms → 1초 뒤 취소)
+        this.branchTransaction = new TransactionTemplate(transactionManager);
+        this.branchTransaction.setReadOnly(true);
+        this.branchTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(branchTimeoutMs + 999)));
+        this.storeTransaction = new TransactionTemplate(transactionManager);
+        this.storeTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 매장 상세 응답과 ETag
+     * @param response 사용자 컨텍스트까지 채운 응답
+     * @param etag 강한 ETag (공통 응답 내용 해시 + 사용자 컨텍스트)
+     */
+    public record TaggedStoreDetail(StoreDetailResponse response, String etag) {
+    }
 
     /**
      * 매장 상세 정보 조회
+     * - 사용자와 무관한 부분(매장/메뉴/딜/리뷰 집계)은 StoreDetailCache 에서, 사용자 컨텍스트는 매 요청 조회 후 덧씌움
+     * - 트랜잭션 없이 실행: 호출 스레드는 매장 조회 동안만 커넥션을 쓰고, 하위 조회를 기다리는 동안은 잡지 않음
+     *   (하위 조회가 커넥션을 기다리는 사이 호출 스레드가 풀을 점유하지 않도록)
+     * - 사용자 컨텍스트는 매장이 확인된 뒤에만 조회 (없는 매장 요청에 커넥션을 쓰지 않음)
      * @param storeId 매장 ID
      * @param userId 사용자 ID (옵셔널, 향후 개인화용)
-     * @return 매장 상세 응답
+     * @return 매장 상세 응답과 ETag
      * @throws StoreNotFoundException 매장을 찾을 수 없는 경우
      * @throws StoreDetailServiceException 서비스 로직 오류 발생 시
      */
-    public StoreDetailResponse getStoreDetail(String storeId, String userId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaggedStoreDetail getStoreDetail(String storeId, String userId) {
         log.debug("매장 상세 조회 시작 - storeId: {}, userId: {}", storeId, userId);
 
         try {
-            // 1. 매장 기본 정보 조회
-            Store store = findStoreById(storeId);
-
-            // 2. 관련 데이터 조회 (병렬 처리 가능)
-            List<MenuItem> menuItems = findMenuItems(storeId);
-            EarlybirdDeal currentDeal = findCurrentDeal(storeId);
-
-            // 3. 리뷰 통계 조회
-            List<com.example.kakao_login.entity.StoreReview> reviews = storeReviewRepository.findByStoreIdOrderByCreatedAtDesc(storeId);
-            Integer totalReviews = reviews.size();
-            Double averageRating = reviews.isEmpty() ? 0.0 : reviews.stream()
-                .mapToDouble(review -> review.getRating().doubleValue())
-                .average()
-                .orElse(0.0);
-            averageRating = Math.round(averageRating * 10.0) / 10.0; // 소수점 1자리
-
-            // 4. 사용자별 컨텍스트 생성
-            StoreDetailResponse.UserContext userContext = createUserContext(userId, storeId);
-
-            // 5. DTO 변환 (Mapper에 위임)
-            StoreDetailResponse response = mapper.toStoreDetailResponse(
-                store, menuItems, currentDeal, userContext, totalReviews, averageRating
-            );
-
-            log.debug("매장 상세 조회 완료 - storeId: {}, 메뉴수: {}", storeId, menuItems.size());
-            
-            // 6. 조회수 증가 (비동기 처리 가능)
+            // 1. 사용자 무관 공통 응답 (캐시, 없으면 매장/메뉴/딜 조회, 없는 매장이면 여기서 404)
+            StoreDetailCache.Entry base = detailCache.get(storeId, () -> loadStoreDetail(storeId));
+
+            // 2. 사용자 컨텍스트 (비로그인은 조회 없음)
+            StoreDetailResponse.UserContext userContext = userId == null
+                ? mapper.createDefaultUserContext(null)
+                : join(fork("user_context", storeId, () -> createUserContext(userId, storeId),
+                    mapper.createUserContext(userId, false, false), null));
+
+            // 3. 사용자 컨텍스트 덧씌우기
+            StoreDetailResponse response = base.body().withUserContext(userContext);
+            String etag = "\"" + base.contentHash() + "-"
+                + (userContext.isFavorite() ? 1 : 0) + (userContext.hasCoupon() ? 1 : 0) + "\"";
+
+            // 4. 조회수 증가 (메모리 카운터, DB 반영은 주기적으로 일괄 처리)
             incrementStoreView(storeId);
-            
-            return response;
+
+            return new TaggedStoreDetail(response, etag);
 
         } catch (StoreNotFoundException e) {
             throw e; // 재던짐 (Controller에서 404 처리)
@@ -99,6 +162,117 @@ public class StoreDetailService {
         }
     }
 
+    /**
+     * 매장 일괄 조회 (찜 목록 / 모닝 세일 카드 / 지도 핀)
+     * - 캐시에 없는 매장만 모아 매장 / 메뉴 / 즐겨찾기를 테이블당 IN 조회 한 번으로 처리
+     * - 매장별로 실패해도 나머지는 응답 (없는 매장 / 변환 실패는 errors 에 사유 기록)
+     * - 목록 노출이므로 조회수는 올리지 않음
+     * @param storeIds 매장 ID 목록 (중복 제거, 최대 MAX_BATCH_SIZE 개)
+     * @param userId 사용자 ID (옵셔널, 즐겨찾기 여부용)
+     * @throws IllegalArgumentException 매장 ID가 없거나 최대 개수를 넘는 경우
+     * @throws StoreDetailServiceException 서비스 로직 오류 발생 시
+     */
+    public StoreBatchResponse getStoreDetails(List<String> storeIds, String userId) {
+        List<String> ids = storeIds == null ? List.of() : storeIds.stream()
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .distinct()
+            .toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("매장 ID는 필수입니다");
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 매장은 최대 " + MAX_BATCH_SIZE + "개입니다");
+        }
+        log.debug("매장 일괄 조회 시작 - 매장수: {}, userId: {}", ids.size(), userId);
+
+        try {
+            Set<String> favorites = userFavoriteService.favoriteStoreIds(userId, ids);
+            Map<String, StoreBatchResponse.ItemError> errors = new LinkedHashMap<>();
+            Map<String, StoreDetailCache.Entry> bases = detailCache.getAll(ids, misses -> loadStoreDetails(misses, errors));
+
+            Map<String, StoreDetailResponse> stores = new LinkedHashMap<>();
+            for (String storeId : ids) {
+                StoreDetailCache.Entry base = bases.get(storeId);
+                if (base != null) {
+                    stores.put(storeId, base.body().withUserContext(
+                        mapper.createUserContext(userId, favorites.contains(storeId), false)));
+                } else {
+                    errors.putIfAbsent(storeId, StoreBatchResponse.ItemError.notFound());
+                }
+            }
+
+            log.debug("매장 일괄 조회 완료 - 성공: {}, 실패: {}", stores.size(), errors.size());
+            return new StoreBatchResponse(stores, errors);
+
+        } catch (Exception e) {
+            log.error("매장 일괄 조회 중 예상치 못한 오류 - 매장수: {}", ids.size(), e);
+            throw new StoreDetailServiceException("매장 일괄 조회 실패", e);
+        }
+    }
+
+    /**
+     * 여러 매장의 사용자 무관 공통 응답 조회 (캐시 미스 매장만)
+     * @param errors 변환에 실패한 매장의 사유를 기록할 맵
+     * @return 매장 ID → 조회 결과 (없거나 실패한 매장은 빠짐)
+     */
+    private Map<String, StoreDetailCache.Loaded> loadStoreDetails(List<String> storeIds,
+                                                                  Map<String, StoreBatchResponse.ItemError> errors) {
+        List<Store> stores = storeRepository.findDetailsByIdIn(storeIds);
+        if (stores.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<MenuItem>> menusByStore = menuItemRepository.findActiveByStoreIdInOrderBySortOrder(
+                stores.stream().map(Store::getId).toList()).stream()
+            .collect(Collectors.groupingBy(MenuItem::getStoreId));
+
+        Map<String, StoreDetailCache.Loaded> out = new HashMap<>();
+        for (Store store : stores) {
+            try {
+                ReviewStats stats = reviewStatsOf(store);
+                StoreDetailResponse response = mapper.toStoreDetailResponse(
+                    store, menusByStore.getOrDefault(store.getId(), List.of()), findCurrentDeal(store.getId()),
+                    null, stats.totalReviews(), stats.averageRating()
+                );
+                out.put(store.getId(), new StoreDetailCache.Loaded(response, true));
+            } catch (Exception e) {
+                log.warn("매장 일괄 조회 변환 실패 - storeId: {}, error: {}", store.getId(), e.toString());
+                errors.put(store.getId(), StoreBatchResponse.ItemError.failed());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 사용자 무관 공통 응답 조회 (캐시 미스 시)
+     * - 하위 조회 중 하나라도 대체값을 쓰면 응답은 내보내되 캐시에는 저장하지 않음
+     */
+    private StoreDetailCache.Loaded loadStoreDetail(String storeId) {
+        // 1. 매장 기본 정보 조회 (짧은 트랜잭션, 지연 로딩 컬럼인 AI 추천 문구도 여기서 읽어 둠)
+        Store store = storeTransaction.execute(status -> {
+            Store found = findStoreById(storeId);
+            found.getAiRecommendation();
+            return found;
+        });
+
+        // 2. 메뉴 조회 (현재 딜은 DealScheduler 스냅샷에서 바로 읽음)
+        var degraded = new AtomicBoolean();
+        var menusF = fork("menus", storeId, () -> findMenuItems(storeId), List.<MenuItem>of(), degraded);
+        EarlybirdDeal currentDeal = findCurrentDeal(storeId);
+
+        List<MenuItem> menuItems = join(menusF);
+        ReviewStats stats = reviewStatsOf(store);
+
+        // 4. DTO 변환 (Mapper에 위임, 사용자 컨텍스트는 요청마다 덧씌움)
+        StoreDetailResponse response = mapper.toStoreDetailResponse(
+            store, menuItems, currentDeal, null, stats.totalReviews(), stats.averageRating()
+        );
+
+        log.debug("매장 상세 공통 응답 조회 완료 - storeId: {}, 메뉴수: {}", storeId, menuItems.size());
+        return new StoreDetailCache.Loaded(response, !degraded.get());
+    }
+
     /**
      * 활성 매장 조회
      * @param storeId 매장 ID
@@ -106,13 +280,78 @@ public class StoreDetailService {
      * @throws StoreNotFoundException 매장을 찾을 수 없는 경우
      */
     private Store findStoreById(String storeId) {
-        return storeRepository.findActiveById(storeId)
+        return storeRepository.findDetailById(storeId)
             .orElseThrow(() -> {
                 log.warn("매장을 찾을 수 없음 - storeId: {}", storeId);
                 return new StoreNotFoundException(storeId);
             });
     }
 
+    /**
+     * 하위 조회 실행
+     * - 병렬 모드: 전용 풀에서 실행, 실패/타임아웃 시 대체값으로 응답 (store.detail.fallback{branch} 기록)
+     *   타임아웃은 트랜잭션 타임아웃으로 쿼리에도 걸어 대체값 응답 후에도 쿼리가 커넥션을 붙잡고 있지 않게 함
+     *   (큐에서 기다리다 이미 타임아웃된 조회는 DB 에 보내지 않음)
+     * - 순차 모드: 호출 스레드에서 바로 실행 (예외는 그대로 전파)
+     * @param branch 하위 조회 이름 (로그/메트릭 태그)
+     * @param fallback 실패/타임아웃 시 사용할 값
+     * @param degraded 대체값을 썼을 때 표시할 플래그 (null 가능)
+     */
+    private <T> CompletableFuture<T> fork(String branch, String storeId, Supplier<T> query, T fallback,
+                                          AtomicBoolean degraded) {
+        if (!fanOutEnabled) {
+            // 호출 스레드는 트랜잭션 밖이므로 병렬 조회와 같은 읽기 트랜잭션으로 감쌈
+            return CompletableFuture.completedFuture(branchTransaction.execute(status -> query.get()));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(branchTimeoutMs);
+        Supplier<T> bounded = () -> {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new CompletionException(new TimeoutException("queued past timeout"));
+            }
+            return branchTransaction.execute(status -> query.get());
+        };
+        return CompletableFuture.supplyAsync(bounded, detailExecutor)
+            .orTimeout(branchTimeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.warn("매장 상세 하위 조회 대체값 사용 - branch: {}, storeId: {}, error: {}",
+                    branch, storeId, cause.toString());
+                meterRegistry.counter("store.detail.fallback", "branch", branch).increment();
+                if (degraded != null) {
+                    degraded.set(true);
+                }
+                return fallback;
+            });
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    /**
+     * 리뷰 통계 (총 개수, 소수점 1자리 평균 평점)
+     */
+    private record ReviewStats(Integer totalReviews, Double averageRating) {
+        static final ReviewStats EMPTY = new ReviewStats(0, 0.0);
+    }
+
+    /**
+     * 매장 리뷰 집계 (리뷰 작성/수정/삭제 시 갱신되는 stores.rating_count / rating_avg)
+     * @return 리뷰 수와 평균 평점 (리뷰가 없으면 0, 0.0)
+     */
+    private static ReviewStats reviewStatsOf(Store store) {
+        Integer count = store.getRatingCount();
+        if (count == null || count == 0 || store.getRatingAvg() == null) {
+            return ReviewStats.EMPTY;
+        }
+        double averageRating = Math.round(store.getRatingAvg().doubleValue() * 10.0) / 10.0; // 소수점 1자리
+        return new ReviewStats(count, averageRating);
+    }
+
     /**
      * 매장의 메뉴 목록 조회
      * @param storeId 매장 ID
@@ -125,14 +364,12 @@ public class StoreDetailService {
     }
 
     /**
-     * 현재 유효한 할인 정보 조회
+     * 현재 유효한 할인 정보 조회 (딜 스케줄러의 진행 중 딜 스냅샷)
      * @param storeId 매장 ID
      * @return 할인 정보 (없으면 null)
      */
     private EarlybirdDeal findCurrentDeal(String storeId) {
-        LocalDateTime now = LocalDateTime.now();
-        EarlybirdDeal deal = dealRepository.findTopCurrentByStoreId(storeId, now)
-            .orElse(null);
+        EarlybirdDeal deal = dealScheduler.currentDeal(storeId);
         
         if (deal != null) {
             log.debug("할인 정보 발견 - 매장: {}, 할인: {}", storeId, deal.getDisplayText());
@@ -157,38 +394,13 @@ public class StoreDetailService {
 
     /**
      * 매장 조회수 증가
+     * - 요청 경로에서는 DB를 건드리지 않고 StoreViewCounter 에 누적 (store_views 반영은 주기적 배치)
+     * - 인기 매장 순위(PopularStoreTracker)에도 함께 반영
      * @param storeId 매장 ID
      */
-    @Transactional
     public void incrementStoreView(String storeId) {
-        try {
-            LocalDate defaultDate = StoreView.DEFAULT_VIEW_DATE;
-            
-            // 기존 조회수 레코드 조회
-            StoreView existingView = storeViewRepository.findByStoreIdAndViewDateAndIsActiveTrue(storeId, defaultDate)
-                .orElse(null);
-
-            if (existingView != null) {
-                // 기존 레코드가 있으면 조회수 증가
-                existingView.setViewCount(existingView.getViewCount() + 1);
-                storeViewRepository.save(existingView);
-            } else {
-                // 새 레코드 생성
-                StoreView newView = StoreView.builder()
-                    .storeId(storeId)
-                        .viewDate(defaultDate)
-                    .viewCount(1)
-                    .isActive(true)
-                    .build();
-                storeViewRepository.save(newView);
-            }
-
-            log.debug("매장 조회수 증가 완료 - storeId: {}, date: {}", storeId, defaultDate);
-            
-        } catch (Exception e) {
-            log.error("매장 조회수 증가 중 오류 - storeId: {}", storeId, e);
-            // 조회수 증가 실패는 전체 요청에 영향을 주지 않도록 예외를 던지지 않음
-        }
+        storeViewCounter.increment(storeId);
+        popularStoreTracker.record(storeId);
     }
 
     /**
@@ -199,30 +411,33 @@ public class StoreDetailService {
         log.debug("오늘의 인기 매장 조회 시작");
 
         try {
-            LocalDate defaultDate = StoreView.DEFAULT_VIEW_DATE;
-
-            // 최고 조회수 매장 조회
-            StoreView topStoreView = storeViewRepository.findTopByViewDateOrderByViewCountDesc(defaultDate)
-                .orElse(null);
-
-            if (topStoreView == null) {
+            // 오늘(서울 기준) 조회수 상위 후보 중 활성 매장 하나 (인메모리 순위, 정렬 쿼리 없음)
+            List<SpaceSavingTopK.Ranked> candidates =
+                popularStoreTracker.top(PopularStoreTracker.Window.TODAY, POPULAR_CANDIDATES);
+            if (candidates.isEmpty()) {
                 log.warn("오늘의 조회수 데이터가 없음");
                 return null; // 데이터가 없으면 null 반환
             }
 
             // 매장 정보 조회
-            Store store = findStoreById(topStoreView.getStoreId());
+            Map<String, Store> activeStores = storeRepository.findByIdInAndIsActiveTrue(
+                    candidates.stream().map(SpaceSavingTopK.Ranked::key).toList()).stream()
+                .collect(Collectors.toMap(Store::getId, store -> store));
+            SpaceSavingTopK.Ranked top = candidates.stream()
+                .filter(candidate -> activeStores.containsKey(candidate.key()))
+                .findFirst()
+                .orElse(null);
+            if (top == null) {
+                log.warn("오늘의 조회수 상위 매장이 모두 비활성 - 후보수: {}", candidates.size());
+                return null;
+            }
+            Store store = activeStores.get(top.key());
             
             // 현재 할인 정보 조회
             EarlybirdDeal currentDeal = findCurrentDeal(store.getId());
 
-            // 리뷰 평점 계산
-            List<com.example.kakao_login.entity.StoreReview> reviews = storeReviewRepository.findByStoreIdOrderByCreatedAtDesc(store.getId());
-            Double averageRating = reviews.isEmpty() ? 0.0 : reviews.stream()
-                .mapToDouble(review -> review.getRating().doubleValue())
-                .average()
-                .orElse(0.0);
-            averageRating = Math.round(averageRating * 10.0) / 10.0; // 소수점 1자리
+            // 리뷰 평점 (매장 리뷰 집계)
+            Double averageRating = reviewStatsOf(store).averageRating();
 
             // DTO 변환
             TodaysPopularStoreResponse response = TodaysPopularStoreResponse.builder()
@@ -241,7 +456,7 @@ public class StoreDetailService {
                 .build();
 
             log.debug("오늘의 인기 매장 조회 완료 - storeId: {}, viewCount: {}", 
-                store.getId(), topStoreView.getViewCount());
+                store.getId(), top.count());
             return response;
 
         } catch (Exception e) {
@@ -281,10 +496,8 @@ public class StoreDetailService {
     public HotMorningSaleResponse getHotMorningSales() {
         log.info("오늘의 HOT 모닝 세일 조회 시작");
         
-        LocalDateTime currentTime = LocalDateTime.now();
-        
-        // 현재 유효한 얼리버드 딜 조회
-        List<EarlybirdDeal> activeDeals = dealRepository.findActiveEarlybirdDeals(currentTime);
+        // 현재 유효한 얼리버드 딜 (딜 스케줄러가 경계마다 미리 계산한 매장당 최신 딜, 생성 최신순)
+        List<EarlybirdDeal> activeDeals = dealScheduler.snapshot().morningSale();
         
         if (activeDeals.isEmpty()) {
             log.info("현재 유효한 얼리버드 딜이 없습니다.");
@@ -294,28 +507,16 @@ public class StoreDetailService {
                     .build();
         }
         
-        // 매장 ID 목록 추출
-        Set<String> storeIds = activeDeals.stream()
-                .map(EarlybirdDeal::getStoreId)
-                .collect(Collectors.toSet());
-        
         // 매장 정보 조회
-        List<Store> stores = storeRepository.findByIdInAndIsActiveTrue(List.copyOf(storeIds));
-        
-        // 매장별 딜 정보 매핑 (매장당 최신 딜 하나만)
-        Map<String, EarlybirdDeal> storeDealMap = activeDeals.stream()
-                .collect(Collectors.toMap(
-                    EarlybirdDeal::getStoreId,
-                    deal -> deal,
-                    (existing, replacement) -> existing.getCreatedAt().isAfter(replacement.getCreatedAt()) 
-                            ? existing : replacement
-                ));
+        Map<String, StoreRepository.StoreCard> stores = storeRepository.findCardsByIdIn(
+                activeDeals.stream().map(EarlybirdDeal::getStoreId).toList()).stream()
+                .collect(Collectors.toMap(StoreRepository.StoreCard::getId, store -> store));
         
         // 응답 DTO 생성
-        List<HotMorningSaleResponse.HotMorningSaleStoreDto> storeDtos = stores.stream()
-                .filter(store -> storeDealMap.containsKey(store.getId()))
-                .map(store -> {
-                    EarlybirdDeal deal = storeDealMap.get(store.getId());
+        List<HotMorningSaleResponse.HotMorningSaleStoreDto> storeDtos = activeDeals.stream()
+                .filter(deal -> stores.containsKey(deal.getStoreId()))
+                .map(deal -> {
+                    StoreRepository.StoreCard store = stores.get(deal.getStoreId());
                     return HotMorningSaleResponse.HotMorningSaleStoreDto.builder()
                             .storeId(store.getId())
                             .storeName(store.getName())
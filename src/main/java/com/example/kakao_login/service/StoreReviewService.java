@@ -1,11 +1,14 @@
 package com.example.kakao_login.service;
 
+import com.example.kakao_login.common.CreatedAtCursor;
+import com.example.kakao_login.dto.review.StorePhotosResponse;
 import com.example.kakao_login.dto.review.StoreReviewsResponse;
 import com.example.kakao_login.dto.review.ReviewUpdateRequest;
 import com.example.kakao_login.dto.review.ReviewCreateRequest;
 import com.example.kakao_login.dto.review.UserReviewResponse;
 import com.example.kakao_login.entity.ReviewImage;
 import com.example.kakao_login.entity.StoreReview;
+import com.example.kakao_login.event.StoreChangedEvent;
 import com.example.kakao_login.exception.StoreNotFoundException;
 import com.example.kakao_login.exception.StoreReviewServiceException;
 import com.example.kakao_login.exception.ReviewNotFoundException;
@@ -13,9 +16,13 @@ import com.example.kakao_login.exception.ReviewAccessDeniedException;
 import com.example.kakao_login.repository.ReviewImageRepository;
 import com.example.kakao_login.repository.StoreRepository;
 import com.example.kakao_login.repository.StoreReviewRepository;
+import com.example.kakao_login.repository.StoreReviewStatsRepository;
+import com.example.kakao_login.repository.StoreSearchViewRepository;
 import com.example.kakao_login.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,46 +44,73 @@ public class StoreReviewService {
     private final ReviewImageRepository reviewImageRepository;
     private final UserRepository userRepository;
     private final UserPointService userPointService;
+    private final StoreSearchViewRepository storeSearchViewRepository;
+    private final StoreReviewStatsRepository storeReviewStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewAggregateCache reviewAggregateCache;
 
 
 
+    /** 리뷰 피드 기본 / 최대 페이지 크기 */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    /** 사진 모아보기 최대 개수 */
+    private static final int PHOTO_STRIP_SIZE = 20;
+
     /**
-     * 매장 리뷰 조회
+     * 매장 리뷰 조회 (커서 페이지네이션, 최신순)
+     * - 리뷰는 (createdAt, id) 키셋으로 한 페이지만 조회하고, 사진도 그 페이지 리뷰 것만 조회
+     * - AI 요약/사진 모아보기는 첫 페이지(cursor 없음)에서만 캐시된 집계로 채움
      * @param storeId 매장 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
      * @return 매장 리뷰 응답
+     * @throws IllegalArgumentException 커서/페이지 크기가 올바르지 않은 경우
      * @throws StoreNotFoundException 매장을 찾을 수 없는 경우
      * @throws StoreReviewServiceException 서비스 로직 오류 발생 시
      */
-    public StoreReviewsResponse getStoreReviews(String storeId) {
-        log.debug("매장 리뷰 조회 시작 - storeId: {}", storeId);
+    public StoreReviewsResponse getStoreReviews(String storeId, String cursor, int size) {
+        log.debug("매장 리뷰 조회 시작 - storeId: {}, cursor: {}, size: {}", storeId, cursor, size);
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        CreatedAtCursor after = CreatedAtCursor.decodeOrNull(cursor);
 
         try {
             // 1. 매장 존재 여부 확인
             validateStoreExists(storeId);
 
-            // 2. 매장의 모든 리뷰 조회 (단일 쿼리)
-            List<StoreReview> allReviews = storeReviewRepository.findByStoreIdOrderByCreatedAtDesc(storeId);
-            
-            if (allReviews.isEmpty()) {
-                return createEmptyResponse();
-            }
+            // 2. 리뷰 한 페이지 조회 (다음 페이지 확인용으로 1건 더)
+            Limit limit = Limit.of(size + 1);
+            List<StoreReviewRepository.ReviewFeedRow> rows = after == null
+                ? storeReviewRepository.findFeedFirstPage(storeId, limit)
+                : storeReviewRepository.findFeedAfter(storeId, after.createdAt(), after.id(), limit);
+            boolean hasNext = rows.size() > size;
+            List<StoreReviewRepository.ReviewFeedRow> page = hasNext ? rows.subList(0, size) : rows;
 
-            // 3. 리뷰 데이터 분석
-            StoreReviewsResponse.AiSummary aiSummary = createAiSummary(allReviews);
+            // 3. 페이지 리뷰의 사진만 조회
+            List<StoreReviewsResponse.Review> reviews = createReviews(page);
+            StoreReviewRepository.ReviewFeedRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+            String nextCursor = hasNext ? new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode() : null;
 
-            // 4. 포토 리뷰와 일반 리뷰 분리
-            List<String> photoUrls = findPhotoUrls(allReviews);
-            List<StoreReviewsResponse.Review> reviews = createReviews(allReviews);
+            // 4. 첫 페이지면 공통 집계 (캐시)
+            ReviewAggregateCache.Aggregates aggregates = after == null
+                ? reviewAggregateCache.get(storeId, () -> loadAggregates(storeId))
+                : null;
 
             StoreReviewsResponse response = StoreReviewsResponse.builder()
-                .aiSummary(aiSummary)
-                .photos(photoUrls)
+                .aiSummary(aggregates != null ? aggregates.aiSummary() : null)
+                .photos(aggregates != null ? aggregates.photos() : null)
                 .reviews(reviews)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
 
-            log.debug("매장 리뷰 조회 완료 - storeId: {}, 총 리뷰: {}, 사진: {}", 
-                storeId, allReviews.size(), photoUrls.size());
-            
+            log.debug("매장 리뷰 조회 완료 - storeId: {}, 페이지 리뷰: {}, hasNext: {}",
+                storeId, reviews.size(), hasNext);
+
             return response;
 
         } catch (StoreNotFoundException e) {
@@ -87,6 +121,58 @@ public class StoreReviewService {
         }
     }
 
+    /**
+     * 매장 사진 모아보기 (커서 페이지네이션, 최신순)
+     * - review_images.store_id 인덱스 범위 스캔 한 번으로 조회
+     * @param storeId 매장 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @throws IllegalArgumentException 커서/페이지 크기가 올바르지 않은 경우
+     * @throws StoreNotFoundException 매장을 찾을 수 없는 경우
+     * @throws StoreReviewServiceException 서비스 로직 오류 발생 시
+     */
+    public StorePhotosResponse getStorePhotos(String storeId, String cursor, int size) {
+        log.debug("매장 사진 조회 시작 - storeId: {}, cursor: {}, size: {}", storeId, cursor, size);
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        CreatedAtCursor after = CreatedAtCursor.decodeOrNull(cursor);
+
+        try {
+            validateStoreExists(storeId);
+
+            Limit limit = Limit.of(size + 1);
+            List<ReviewImageRepository.StorePhoto> rows = after == null
+                ? reviewImageRepository.findGalleryFirstPage(storeId, limit)
+                : reviewImageRepository.findGalleryAfter(storeId, after.createdAt(), after.id(), limit);
+            boolean hasNext = rows.size() > size;
+            List<ReviewImageRepository.StorePhoto> page = hasNext ? rows.subList(0, size) : rows;
+
+            List<StorePhotosResponse.Photo> photos = page.stream()
+                .map(photo -> StorePhotosResponse.Photo.builder()
+                    .id(photo.getId())
+                    .reviewId(photo.getReviewId())
+                    .imageUrl(photo.getImageUrl())
+                    .build())
+                .collect(Collectors.toList());
+            ReviewImageRepository.StorePhoto last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+            log.debug("매장 사진 조회 완료 - storeId: {}, 사진: {}, hasNext: {}", storeId, photos.size(), hasNext);
+            return StorePhotosResponse.builder()
+                .photos(photos)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+
+        } catch (StoreNotFoundException e) {
+            throw e; // 재던짐 (Controller에서 404 처리)
+        } catch (Exception e) {
+            log.error("매장 사진 조회 중 예상치 못한 오류 - storeId: {}", storeId, e);
+            throw new StoreReviewServiceException("매장 사진 조회 실패", e);
+        }
+    }
+
     /**
      * 사용자 리뷰 목록 조회
      * @param userId 사용자 ID
@@ -114,11 +200,11 @@ public class StoreReviewService {
                 .distinct()
                 .collect(Collectors.toList());
 
-            Map<String, String> storeNameMap = storeRepository.findAllById(storeIds)
+            Map<String, String> storeNameMap = storeRepository.findNamesByIdIn(storeIds)
                 .stream()
                 .collect(Collectors.toMap(
-                    store -> store.getId(),
-                    store -> store.getName()
+                    StoreRepository.StoreName::getId,
+                    StoreRepository.StoreName::getName
                 ));
 
             // 3. DTO 변환
@@ -166,15 +252,21 @@ public class StoreReviewService {
             // 1. 리뷰 존재 여부 및 권한 확인
             StoreReview review = findReviewByIdAndValidateAccess(reviewId, userId);
 
-            // 2. 리뷰 수정
+            // 2. 리뷰 수정 (평점이 바뀌면 매장 리뷰 집계도 증분 반영)
+            BigDecimal oldRating = review.getRating();
             if (request.rating() != null) {
                 review.setRating(BigDecimal.valueOf(request.rating()));
             }
             if (request.content() != null) {
                 review.setContent(request.content());
             }
+            if (review.isActive() && oldRating.compareTo(review.getRating()) != 0) {
+                storeReviewStatsRepository.changeRating(review.getStoreId(), oldRating, review.getRating());
+            }
 
             StoreReview updatedReview = storeReviewRepository.save(review);
+            storeSearchViewRepository.refresh(List.of(updatedReview.getStoreId()));
+            eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.Type.REVIEW, updatedReview.getStoreId()));
 
             // 3. DTO 변환
             StoreReviewsResponse.Review response = StoreReviewsResponse.Review.builder()
@@ -217,8 +309,13 @@ public class StoreReviewService {
             // 3. 리뷰 이미지 삭제 (CASCADE 대신 명시적 삭제)
             reviewImageRepository.deleteByReviewId(reviewId);
 
-            // 4. 리뷰 삭제
+            // 4. 리뷰 삭제 (매장 리뷰 집계에서 제외)
+            if (review.isActive()) {
+                storeReviewStatsRepository.removeReview(review.getStoreId(), review.getRating());
+            }
             storeReviewRepository.delete(review);
+            storeSearchViewRepository.refresh(List.of(review.getStoreId()));
+            eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.Type.REVIEW, review.getStoreId()));
 
             log.debug("리뷰 삭제 완료 - reviewId: {}, 포인트 차감: 10", reviewId);
 
@@ -279,26 +376,34 @@ public class StoreReviewService {
                 .map(user -> user.getNickname())
                 .orElse("익명사용자"); // 사용자를 찾을 수 없는 경우 기본값
 
-            // 4. 리뷰 엔티티 생성
+            // 4. 리뷰 엔티티 생성 (대표 이미지 / 이미지 수는 작성 시점에 기록)
+            List<String> imageUrls = request.imageUrls() != null ? request.imageUrls() : Collections.emptyList();
             StoreReview review = StoreReview.builder()
                 .storeId(request.storeId())
                 .userId(userId)
                 .userNickname(userNickname)
                 .rating(BigDecimal.valueOf(request.rating()))
                 .content(request.content())
+                .repImageUrl(imageUrls.isEmpty() ? null : imageUrls.get(0))
+                .imageCount(imageUrls.size())
                 .build();
 
+            storeReviewStatsRepository.addReview(review.getStoreId(), review.getRating());
             StoreReview savedReview = storeReviewRepository.save(review);
-
-            // 3. 이미지가 있는 경우 ReviewImage 엔티티 생성
-            if (request.imageUrls() != null && !request.imageUrls().isEmpty()) {
-                List<ReviewImage> reviewImages = request.imageUrls().stream()
-                    .map(imageUrl -> ReviewImage.builder()
+            storeSearchViewRepository.refresh(List.of(savedReview.getStoreId()));
+            eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.Type.REVIEW, savedReview.getStoreId()));
+
+            // 3. 이미지가 있는 경우 ReviewImage 엔티티 생성 (요청 순서대로 1부터, 사진 모아보기용 매장ID 포함)
+            if (!imageUrls.isEmpty()) {
+                List<ReviewImage> reviewImages = new ArrayList<>(imageUrls.size());
+                for (int i = 0; i < imageUrls.size(); i++) {
+                    reviewImages.add(ReviewImage.builder()
                         .reviewId(savedReview.getId())
-                        .imageUrl(imageUrl)
-                        .sortOrder(1) // 기본 정렬 순서
-                        .build())
-                    .collect(Collectors.toList());
+                        .storeId(savedReview.getStoreId())
+                        .imageUrl(imageUrls.get(i))
+                        .sortOrder(i + 1)
+                        .build());
+                }
 
                 reviewImageRepository.saveAll(reviewImages);
             }
@@ -338,32 +443,26 @@ public class StoreReviewService {
     }
 
     /**
-     * 빈 응답 생성 (리뷰가 없는 경우)
+     * 매장 공통 집계 계산 (AI 요약 + 사진 모아보기: 최근 포토 리뷰의 대표 이미지 리뷰당 1장)
      */
-    private StoreReviewsResponse createEmptyResponse() {
-        return StoreReviewsResponse.builder()
-            .aiSummary(StoreReviewsResponse.AiSummary.builder()
-                .content("아직 리뷰가 없습니다.")
-                .build())
-            .photos(Collections.emptyList())
-            .reviews(Collections.emptyList())
-            .build();
+    private ReviewAggregateCache.Aggregates loadAggregates(String storeId) {
+        StoreReviewStatsRepository.Stats stats = storeReviewStatsRepository.find(storeId);
+        List<String> photos = stats.reviewCount() == 0
+            ? Collections.emptyList()
+            : storeReviewRepository.findRecentRepImageUrls(storeId, Limit.of(PHOTO_STRIP_SIZE))
+                .stream()
+                .distinct()
+                .toList();
+        return new ReviewAggregateCache.Aggregates(createAiSummary(stats), photos);
     }
 
-
-
     /**
      * AI 리뷰 요약 생성
      * TODO: 실제로는 OpenAI API 활용
      */
-    private StoreReviewsResponse.AiSummary createAiSummary(List<StoreReview> reviews) {
-        double averageRating = reviews.stream()
-            .mapToDouble(review -> review.getRating().doubleValue())
-            .average()
-            .orElse(0.0);
-
+    private StoreReviewsResponse.AiSummary createAiSummary(StoreReviewStatsRepository.Stats stats) {
         // 간단한 요약 생성 (실제로는 AI 기반)
-        String summary = generateSimpleSummary(reviews, averageRating);
+        String summary = generateSimpleSummary(stats);
 
         return StoreReviewsResponse.AiSummary.builder()
             .content(summary)
@@ -373,9 +472,9 @@ public class StoreReviewService {
     /**
      * 간단한 요약 텍스트 생성
      */
-    private String generateSimpleSummary(List<StoreReview> reviews, double averageRating) {
-        if (reviews.isEmpty()) {
-            return "리뷰가 없습니다.";
+    private String generateSimpleSummary(StoreReviewStatsRepository.Stats stats) {
+        if (stats.reviewCount() == 0) {
+            return "아직 리뷰가 없습니다.";
         }
 
         // 가비애 매장의 경우 특별한 요약 제공
@@ -383,32 +482,17 @@ public class StoreReviewService {
     }
 
     /**
-     * 포토 리뷰 URL 목록 추출
-     */
-    private List<String> findPhotoUrls(List<StoreReview> allReviews) {
-        List<String> allReviewIds = allReviews.stream()
-            .map(StoreReview::getId)
-            .collect(Collectors.toList());
-
-        // 이미지가 있는 리뷰 ID들만 필터링
-        List<ReviewImage> images = reviewImageRepository.findRepresentativeImagesByReviewIds(allReviewIds);
-        
-        return images.stream()
-            .map(ReviewImage::getImageUrl)
-            .distinct()
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * 리뷰 목록 생성
+     * 리뷰 목록 생성 (대표 이미지 / 이미지 수는 리뷰 행에 비정규화돼 있어 review_images 는 읽지 않음)
      */
-    private List<StoreReviewsResponse.Review> createReviews(List<StoreReview> allReviews) {
-        return allReviews.stream()
+    private List<StoreReviewsResponse.Review> createReviews(List<StoreReviewRepository.ReviewFeedRow> page) {
+        return page.stream()
             .map(review -> StoreReviewsResponse.Review.builder()
                 .id(review.getId())
                 .userNickname(review.getUserNickname())
                 .rating(review.getRating().doubleValue())
                 .content(review.getContent())
+                .repImageUrl(review.getRepImageUrl())
+                .imageCount(review.getImageCount())
                 .build())
             .collect(Collectors.toList());
     }
@@ -0,0 +1,131 @@
+package com.example.kakao_login.service;
+
+import com.example.kakao_login.entity.StoreView;
+import com.example.kakao_login.repository.StoreViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매장 조회수 write-behind 카운터
+ * - 상세 조회 시에는 메모리 카운터(서울 기준 일자별, 매장별 LongAdder)만 올리고 DB 쓰기는 하지 않음
+ * - 주기적으로 쌓인 증가분을 store_views 의 해당 일자 행에 배치 upsert (view_count = view_count + 증가분)
+ * - 반영에 성공한 만큼만 카운터에서 빼므로 반영 중 들어온 조회나 실패한 증가분은 다음 주기로 넘어감
+ * - 종료 시 남은 증가분을 한 번 더 반영
+ */
+@Slf4j
+@Service
+public class StoreViewCounter {
+
+    private final StoreViewCountRepository repository;
+    /**
+     * 일자별 매장별 미반영 조회수
+     * - 매장 항목은 지우지 않고, 일자 묶음은 어제보다 오래되고 모두 반영됐을 때 제거 (그 날짜로 더 쓰는 조회가 없음)
+     */
+    private final Map<LocalDate, Map<String, LongAdder>> pending = new ConcurrentHashMap<>();
+    private final Counter flushedViews;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    public StoreViewCounter(StoreViewCountRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.flushedViews = Counter.builder("store.views.flushed")
+                .description("store_views 에 반영된 조회수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("store.views.flush.failures")
+                .description("조회수 반영 실패 횟수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("store.views.flush")
+                .description("조회수 배치 반영 소요시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("store.views.pending", pending, StoreViewCounter::pendingViews);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리만)
+     */
+    public void increment(String storeId) {
+        pending.computeIfAbsent(StoreView.today(), d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(storeId, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 미반영 증가분을 store_views 에 반영
+     */
+    @Scheduled(initialDelayString = "${app.store-view.flush-interval-ms:5000}",
+               fixedDelayString = "${app.store-view.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        LocalDate yesterday = StoreView.today().minusDays(1);
+        for (var day : pending.entrySet()) {
+            boolean drained = flush(day.getKey(), day.getValue());
+            if (drained && day.getKey().isBefore(yesterday)) {
+                pending.remove(day.getKey());
+            }
+        }
+    }
+
+    /**
+     * 하루치 증가분 반영
+     * @return 미반영분이 남지 않았는지
+     */
+    private boolean flush(LocalDate viewDate, Map<String, LongAdder> counters) {
+        Map<String, Long> deltas = new HashMap<>();
+        counters.forEach((storeId, adder) -> {
+            long views = adder.sum();
+            if (views > 0) {
+                deltas.put(storeId, views);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return true;
+        }
+        try {
+            flushTimer.record(() -> repository.addViewCounts(viewDate, deltas));
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.warn("매장 조회수 반영 실패 (다음 주기에 재시도) - date: {}, 매장수: {}, error: {}",
+                viewDate, deltas.size(), e.getMessage());
+            return false;
+        }
+        long total = 0;
+        for (var e : deltas.entrySet()) {
+            counters.get(e.getKey()).add(-e.getValue());
+            total += e.getValue();
+        }
+        flushedViews.increment(total);
+        log.debug("매장 조회수 반영 완료 - date: {}, 매장수: {}, 조회수: {}", viewDate, deltas.size(), total);
+        return true;
+    }
+
+    /**
+     * 종료 전 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long remaining = pendingViews(pending);
+        if (remaining > 0) {
+            log.error("종료 시 매장 조회수 미반영 - 조회수: {}", remaining);
+        }
+    }
+
+    private static long pendingViews(Map<LocalDate, Map<String, LongAdder>> pending) {
+        long sum = 0;
+        for (Map<String, LongAdder> counters : pending.values()) {
+            for (LongAdder adder : counters.values()) {
+                sum += adder.sum();
+            }
+        }
+        return sum;
+    }
+}
@@ -1,20 +1,24 @@
 package com.example.kakao_login.service;
 
 import com.example.kakao_login.dto.favorite.FavoriteResponse;
-import com.example.kakao_login.entity.Store;
+import com.example.kakao_login.dto.favorite.FavoriteSyncRequest;
 import com.example.kakao_login.entity.UserFavorite;
 import com.example.kakao_login.entity.EarlybirdDeal;
+import com.example.kakao_login.repository.FavoriteToggleRepository;
 import com.example.kakao_login.repository.UserFavoriteRepository;
 import com.example.kakao_login.repository.StoreRepository;
-import com.example.kakao_login.repository.EarlybirdDealRepository;
+import com.example.kakao_login.repository.StoreSearchViewRepository;
 import com.example.kakao_login.util.BusinessStatusUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,9 +29,11 @@ import java.util.stream.Collectors;
 public class UserFavoriteService {
 
     private final UserFavoriteRepository userFavoriteRepository;
+    private final FavoriteToggleRepository favoriteToggleRepository;
     private final StoreRepository storeRepository;
-    private final EarlybirdDealRepository dealRepository;
+    private final DealScheduler dealScheduler;
     private final BusinessStatusUtil businessStatusUtil;
+    private final StoreSearchViewRepository storeSearchViewRepository;
 
     /**
      * 즐겨찾기 상태 확인
@@ -38,22 +44,71 @@ public class UserFavoriteService {
     }
 
     /**
-     * 즐겨찾기 추가
+     * 여러 매장의 즐겨찾기 상태 일괄 확인
+     * @return 즐겨찾기한 매장 ID
+     */
+    public Set<String> favoriteStoreIds(String userId, Collection<String> storeIds) {
+        if (userId == null || storeIds.isEmpty()) return Set.of();
+        return Set.copyOf(userFavoriteRepository.findFavoriteStoreIds(userId, storeIds));
+    }
+
+    /**
+     * 즐겨찾기 추가 (이미 있으면 아무것도 하지 않음)
+     * @return 새로 추가했으면 true
      */
     @Transactional
-    public void addFavorite(String userId, String storeId) {
-        if (!userFavoriteRepository.findByUserIdAndStoreId(userId, storeId).isPresent()) {
-            userFavoriteRepository.save(UserFavorite.create(userId, storeId));
+    public boolean addFavorite(String userId, String storeId) {
+        boolean added = favoriteToggleRepository.add(userId, storeId);
+        if (added) {
+            storeSearchViewRepository.adjustFavoriteCount(storeId, 1);
         }
+        return added;
     }
 
     /**
-     * 즐겨찾기 삭제
+     * 즐겨찾기 삭제 (없으면 아무것도 하지 않음)
+     * @return 실제로 삭제했으면 true
      */
     @Transactional
-    public void removeFavorite(String userId, String storeId) {
-        userFavoriteRepository.findByUserIdAndStoreId(userId, storeId)
-            .ifPresent(userFavoriteRepository::delete);
+    public boolean removeFavorite(String userId, String storeId) {
+        boolean removed = favoriteToggleRepository.remove(userId, storeId);
+        if (removed) {
+            storeSearchViewRepository.adjustFavoriteCount(storeId, -1);
+        }
+        return removed;
+    }
+
+    /**
+     * 즐겨찾기 일괄 동기화
+     * - 매장별 마지막 기록을 최종 상태로 보고, 현재 상태(잠금 읽기)와 다른 매장만 반영
+     * - 추가는 다중 행 INSERT 한 문장, 해제는 DELETE 한 문장, 검색 뷰 찜 수는 UPDATE 한 문장
+     */
+    @Transactional
+    public FavoriteResponse.SyncResponse syncFavorites(String userId, FavoriteSyncRequest request) {
+        request.validate();
+
+        Map<String, Boolean> desired = new LinkedHashMap<>();
+        request.toggles().forEach(t -> desired.put(t.storeId().trim(), t.isFavorite()));
+
+        Set<String> current = new HashSet<>(favoriteToggleRepository.lockFavoriteStoreIds(userId, desired.keySet()));
+        List<String> toAdd = desired.entrySet().stream()
+            .filter(e -> e.getValue() && !current.contains(e.getKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+        List<String> toRemove = desired.entrySet().stream()
+            .filter(e -> !e.getValue() && current.contains(e.getKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+
+        favoriteToggleRepository.addAll(userId, toAdd);
+        favoriteToggleRepository.removeAll(userId, toRemove);
+        storeSearchViewRepository.adjustFavoriteCounts(toAdd, toRemove);
+
+        return FavoriteResponse.SyncResponse.builder()
+            .addedStoreIds(toAdd)
+            .removedStoreIds(toRemove)
+            .unchangedCount(desired.size() - toAdd.size() - toRemove.size())
+            .build();
     }
 
     /**
@@ -81,7 +136,7 @@ public class UserFavoriteService {
             .map(UserFavorite::getStoreId)
             .toList();
             
-        List<Store> stores = storeRepository.findByIdInAndIsActiveTrue(storeIds);
+        List<StoreRepository.StoreCard> stores = storeRepository.findCardsByIdIn(storeIds);
         
         // 3. 각 매장의 할인 정보 조회
         Map<String, FavoriteResponse.DealInfo> dealInfos = getDealInfos(storeIds);
@@ -92,7 +147,8 @@ public class UserFavoriteService {
                 .storeId(store.getId())
                 .storeName(store.getName())
                 .storeImage(store.getRepImageUrl())
-                .businessStatus(businessStatusUtil.getCurrentBusinessStatus(store))
+                .businessStatus(businessStatusUtil.getCurrentBusinessStatus(
+                    store.getBusinessStatus(), store.getOpenTime(), store.getCloseTime()))
                 .dealInfo(dealInfos.get(store.getId()))
                 .build())
             .collect(Collectors.toList());
@@ -103,20 +159,23 @@ public class UserFavoriteService {
     }
 
     /**
-     * 각 매장의 할인 정보 조회
+     * 각 매장의 할인 정보 조회 (딜 스케줄러의 진행 중 딜 스냅샷, 매장당 최신 딜)
      */
     private Map<String, FavoriteResponse.DealInfo> getDealInfos(List<String> storeIds) {
-        LocalDateTime now = LocalDateTime.now();
-        List<EarlybirdDeal> deals = dealRepository.findActiveDealsForStores(storeIds, now);
+        Map<String, EarlybirdDeal> currentByStore = dealScheduler.snapshot().currentByStore();
         
-        return deals.stream()
+        return storeIds.stream()
+            .distinct()
+            .filter(currentByStore::containsKey)
             .collect(Collectors.toMap(
-                EarlybirdDeal::getStoreId,
-                deal -> FavoriteResponse.DealInfo.builder()
-                    .title(deal.getTitle())
-                    .description(deal.getDescription())
-                    .build(),
-                (existing, replacement) -> existing // 중복 시 첫 번째 값 사용
+                storeId -> storeId,
+                storeId -> {
+                    EarlybirdDeal deal = currentByStore.get(storeId);
+                    return FavoriteResponse.DealInfo.builder()
+                        .title(deal.getTitle())
+                        .description(deal.getDescription())
+                        .build();
+                }
             ));
     }
 }
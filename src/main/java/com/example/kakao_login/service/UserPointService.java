@@ -1,21 +1,26 @@
 package com.example.kakao_login.service;
 
+import com.example.kakao_login.common.CreatedAtCursor;
+import com.example.kakao_login.config.SchemaCapabilities;
 import com.example.kakao_login.dto.point.PointResponse;
 import com.example.kakao_login.dto.point.PointHistoryResponse;
 import com.example.kakao_login.entity.UserPoint;
-import com.example.kakao_login.entity.PointHistory;
 import com.example.kakao_login.repository.UserPointRepository;
-import com.example.kakao_login.repository.PointHistoryRepository;
+import com.example.kakao_login.repository.PointLedgerRepository;
+import com.example.kakao_login.repository.UserPointCounterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * 사용자 포인트 Service
+ * - 적립/사용은 PointLedgerRepository 의 단일 UPDATE(upsert) + 원장 추가로 처리 (엔티티 읽고-고치고-저장 없음)
  */
 @Slf4j
 @Service
@@ -23,7 +28,9 @@ import java.util.stream.Collectors;
 public class UserPointService {
 
     private final UserPointRepository userPointRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final UserPointCounterRepository userPointCounterRepository;
+    private final SchemaCapabilities schemaCapabilities;
 
     /**
      * 사용자 포인트 잔액 조회
@@ -61,26 +68,10 @@ public class UserPointService {
             return;
         }
 
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-            .orElseGet(() -> {
-                UserPoint newPoint = UserPoint.create(userId);
-                return userPointRepository.save(newPoint);
-            });
+        // 잔액 upsert + 원장 기록 (같은 트랜잭션)
+        pointLedgerRepository.earn(userId, points, "리뷰 등록");
 
-        userPoint.earnPoints(points);
-        userPointRepository.save(userPoint);
-
-        // 포인트 적립 내역 저장
-        try {
-            PointHistory earnHistory = PointHistory.createEarnHistory(userId, points, "리뷰 등록");
-            pointHistoryRepository.save(earnHistory);
-            log.info("포인트 적립 내역 저장 완료 - userId: {}, points: {}, reason: {}", userId, points, "리뷰 등록");
-        } catch (Exception e) {
-            log.warn("포인트 적립 내역 저장 실패 - userId: {}, points: {}, error: {}", userId, points, e.getMessage());
-        }
-
-        log.info("사용자 포인트 획득 - userId: {}, points: {}, balance: {}", 
-            userId, points, userPoint.getPointBalance());
+        log.info("사용자 포인트 획득 - userId: {}, points: {}", userId, points);
     }
 
     /**
@@ -94,90 +85,101 @@ public class UserPointService {
             return;
         }
 
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-            .orElseGet(() -> {
-                UserPoint newPoint = UserPoint.create(userId);
-                return userPointRepository.save(newPoint);
-            });
+        // 조건부 차감 + 원장 기록 (잔액이 부족하면 잔액만큼만)
+        int spent = pointLedgerRepository.spend(userId, points, "리뷰 삭제");
 
-        int beforeBalance = userPoint.getPointBalance();
-        userPoint.spendPoints(points);
-        userPointRepository.save(userPoint);
+        log.info("사용자 포인트 차감 - userId: {}, 요청: {}, 차감: {}", userId, points, spent);
+    }
 
-        // 포인트 사용 내역 저장
-        PointHistory spendHistory = PointHistory.createSpendHistory(userId, points, "리뷰 삭제");
-        pointHistoryRepository.save(spendHistory);
+    /** 포인트 내역 기본 / 최대 페이지 크기 */
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
 
-        log.info("사용자 포인트 차감 - userId: {}, points: {}, before: {}, after: {}", 
-            userId, points, beforeBalance, userPoint.getPointBalance());
-    }
+    /** 요약 헤더에 보여줄 최근 월 수 (이번 달 포함) */
+    private static final int MONTHLY_SUMMARY_MONTHS = 6;
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
 
     /**
-     * 사용자 포인트 적립 내역 조회
+     * 사용자 포인트 적립 내역 조회 (커서 페이지네이션, 최신순)
+     * - 내역은 (user_id, created_at, id) 인덱스 범위 스캔으로 한 페이지만 조회
+     * - 요약 헤더: user_points 누계 + 월별 합계(point_monthly_rollups)
      * @param userId 사용자 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ MAX_HISTORY_PAGE_SIZE)
      * @return 포인트 적립 내역 응답
+     * @throws IllegalArgumentException 커서/페이지 크기가 올바르지 않은 경우
      */
     @Transactional(readOnly = true)
-    public PointHistoryResponse.PointHistoryListResponse getPointHistory(String userId) {
+    public PointHistoryResponse.PointHistoryListResponse getPointHistory(String userId, String cursor, int size) {
         if (userId == null) {
-            return PointHistoryResponse.PointHistoryListResponse.builder()
-                .userId(null)
-                .pointBalance(0)
-                .totalEarned(0)
-                .totalSpent(0)
-                .history(List.of())
-                .build();
+            return emptyHistory(null);
+        }
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다: " + size);
         }
+        CreatedAtCursor after = CreatedAtCursor.decodeOrNull(cursor);
 
         try {
             // 사용자 포인트 정보 조회
             UserPoint userPoint = userPointRepository.findByUserId(userId)
                 .orElseGet(() -> UserPoint.create(userId));
 
-            // 포인트 적립 내역 조회 (테이블이 없을 경우 빈 리스트 반환)
-            List<PointHistory> histories = List.of();
-            try {
-                // 테이블 존재 여부 확인
-                long tableExists = pointHistoryRepository.checkTableExists();
-                if (tableExists > 0) {
-                    histories = pointHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
-                } else {
-                    log.info("포인트 적립 내역 테이블이 존재하지 않습니다. 빈 내역을 반환합니다. - userId: {}", userId);
+            // 포인트 적립 내역 한 페이지 (테이블이 없으면 빈 내역, 존재 여부는 기동 시 확인)
+            List<PointHistoryResponse.PointHistoryItem> historyItems = List.of();
+            boolean hasNext = false;
+            String nextCursor = null;
+            if (schemaCapabilities.hasPointHistory()) {
+                List<PointHistoryResponse.PointHistoryItem> rows = pointLedgerRepository.findHistoryPage(userId, after, size + 1);
+                hasNext = rows.size() > size;
+                historyItems = hasNext ? rows.subList(0, size) : rows;
+                if (hasNext) {
+                    PointHistoryResponse.PointHistoryItem last = historyItems.get(historyItems.size() - 1);
+                    nextCursor = new CreatedAtCursor(last.createdAt(), last.id()).encode();
                 }
-            } catch (Exception e) {
-                log.warn("포인트 적립 내역 조회 중 오류가 발생했습니다. 빈 내역을 반환합니다. - userId: {}, error: {}", userId, e.getMessage());
             }
 
-            // DTO 변환
-            List<PointHistoryResponse.PointHistoryItem> historyItems = histories.stream()
-                .map(history -> PointHistoryResponse.PointHistoryItem.builder()
-                    .id(history.getId())
-                    .type(history.getType().name())
-                    .points(history.getPoints())
-                    .reason(history.getReason())
-                    .createdAt(history.getCreatedAt())
-                    .build())
-                .collect(Collectors.toList());
+            // 최근 월별 합계
+            List<PointHistoryResponse.MonthlySummary> monthly = List.of();
+            if (schemaCapabilities.hasPointMonthlyRollups()) {
+                LocalDate fromMonth = LocalDate.now().withDayOfMonth(1).minusMonths(MONTHLY_SUMMARY_MONTHS - 1);
+                monthly = pointLedgerRepository.findMonthlyRollups(userId, fromMonth).stream()
+                    .map(rollup -> PointHistoryResponse.MonthlySummary.builder()
+                        .month(rollup.month().format(MONTH_FORMAT))
+                        .earned(rollup.earned())
+                        .spent(rollup.spent())
+                        .build())
+                    .collect(Collectors.toList());
+            }
 
             return PointHistoryResponse.PointHistoryListResponse.builder()
                 .userId(userId)
                 .pointBalance(userPoint.getPointBalance())
                 .totalEarned(userPoint.getTotalEarned())
                 .totalSpent(userPoint.getTotalSpent())
+                .monthly(monthly)
                 .history(historyItems)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
         } catch (Exception e) {
             log.error("포인트 적립 내역 조회 중 오류 발생 - userId: {}", userId, e);
-            return PointHistoryResponse.PointHistoryListResponse.builder()
-                .userId(userId)
-                .pointBalance(0)
-                .totalEarned(0)
-                .totalSpent(0)
-                .history(List.of())
-                .build();
+            return emptyHistory(userId);
         }
     }
 
+    private PointHistoryResponse.PointHistoryListResponse emptyHistory(String userId) {
+        return PointHistoryResponse.PointHistoryListResponse.builder()
+            .userId(userId)
+            .pointBalance(0)
+            .totalEarned(0)
+            .totalSpent(0)
+            .monthly(List.of())
+            .history(List.of())
+            .hasNext(false)
+            .build();
+    }
+
     /**
      * 리뷰 등록 시 포인트 적립 (규칙 적용)
      * @param userId 사용자 ID
@@ -188,46 +190,21 @@ public class UserPointService {
             return;
         }
 
-        // 기존 리뷰 등록 횟수 조회
-        long reviewCount = pointHistoryRepository.countReviewRegistrations(userId);
-        long newReviewCount = reviewCount + 1;
+        // 리뷰 등록 횟수 증가 (카운터 행 잠금으로 같은 사용자의 동시 등록 직렬화)
+        long newReviewCount = userPointCounterRepository.incrementReviewCount(userId);
 
-        // 포인트 적립 규칙 적용
-        int pointsToEarn = 10; // 기본 10포인트
+        // 포인트 적립 규칙 적용 (마일스톤은 한 번만 지급)
+        int pointsToEarn = ReviewMilestones.BASE_POINTS;
         String reason = "리뷰 등록";
 
-        // 특별 보너스 포인트 적용 (기본 10포인트 + 특별 보너스 포인트)
-        if (newReviewCount == 10) {
-            pointsToEarn = 60; // 기본 10포인트 + 보너스 50포인트
-            reason = "10번째 리뷰 등록 (기본 10포인트 + 보너스 50포인트)";
-        } else if (newReviewCount == 20) {
-            pointsToEarn = 110; // 기본 10포인트 + 보너스 100포인트
-            reason = "20번째 리뷰 등록 (기본 10포인트 + 보너스 100포인트)";
-        } else if (newReviewCount == 30) {
-            pointsToEarn = 60; // 기본 10포인트 + 보너스 50포인트
-            reason = "30번째 리뷰 등록 (기본 10포인트 + 보너스 50포인트)";
-        } else if (newReviewCount == 40) {
-            pointsToEarn = 60; // 기본 10포인트 + 보너스 50포인트
-            reason = "40번째 리뷰 등록 (기본 10포인트 + 보너스 50포인트)";
-        }
-
-        // 포인트 적립 (내역 저장 없이)
-        if (userId == null || pointsToEarn <= 0) {
-            return;
+        ReviewMilestones.Milestone milestone = ReviewMilestones.at(newReviewCount);
+        if (milestone != null && userPointCounterRepository.markMilestoneGranted(userId, milestone.mask())) {
+            pointsToEarn = milestone.totalPoints();
+            reason = milestone.reason();
         }
 
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-            .orElseGet(() -> {
-                UserPoint newPoint = UserPoint.create(userId);
-                return userPointRepository.save(newPoint);
-            });
-
-        userPoint.earnPoints(pointsToEarn);
-        userPointRepository.save(userPoint);
-
-        // 포인트 적립 내역 저장
-        PointHistory earnHistory = PointHistory.createEarnHistory(userId, pointsToEarn, reason);
-        pointHistoryRepository.save(earnHistory);
+        // 잔액 upsert + 원장 기록 (같은 트랜잭션)
+        pointLedgerRepository.earn(userId, pointsToEarn, reason);
 
         log.info("리뷰 등록 포인트 적립 - userId: {}, reviewCount: {}, points: {}, reason: {}", 
             userId, newReviewCount, pointsToEarn, reason);
@@ -25,8 +25,18 @@ public class BusinessStatusUtil {
         if (store == null) {
             return "영업 정보 없음";
         }
+        return getCurrentBusinessStatus(store.getBusinessStatus(), store.getOpenTime(), store.getCloseTime());
+    }
 
-        BusinessStatus businessStatus = store.getBusinessStatus();
+    /**
+     * 현재 시간 기준으로 영업 상태 메시지를 반환 (엔티티 없이 프로젝션 값으로)
+     *
+     * @param businessStatus 영업 상태
+     * @param openTimeStr 오픈 시간 (HH:mm)
+     * @param closeTimeStr 마감 시간 (HH:mm)
+     * @return 영업 상태 메시지
+     */
+    public String getCurrentBusinessStatus(BusinessStatus businessStatus, String openTimeStr, String closeTimeStr) {
         if (businessStatus == null) {
             return "영업 정보 없음";
         }
@@ -37,14 +47,14 @@ public class BusinessStatusUtil {
         }
 
         // 영업 시간이 설정되지 않은 경우 기본 상태 반환
-        if (store.getOpenTime() == null || store.getCloseTime() == null) {
+        if (openTimeStr == null || closeTimeStr == null) {
             return getDefaultBusinessStatusMessage(businessStatus);
         }
 
         // 현재 시간과 영업 시간 비교
         LocalTime currentTime = LocalTime.now();
-        LocalTime openTime = parseTime(store.getOpenTime());
-        LocalTime closeTime = parseTime(store.getCloseTime());
+        LocalTime openTime = parseTime(openTimeStr);
+        LocalTime closeTime = parseTime(closeTimeStr);
 
         if (openTime == null || closeTime == null) {
             return getDefaultBusinessStatusMessage(businessStatus);
@@ -0,0 +1,200 @@
+package com.example.kakao_login.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 K 추정 (Stream-Summary 구조)
+ * - 카운터 capacity 개만 유지, 가득 차면 최소 카운터를 새 키에 넘겨주고 그 값을 오차로 기록
+ * - 전체 건수 N 에 대해 추정값은 실제보다 최대 N / capacity 크고, 실제 빈도가 N / capacity 를 넘는 키는 반드시 남음
+ * - 같은 값을 가진 카운터를 버킷으로 묶어 값 순으로 연결: 1 증가는 O(1), 상위 n 개 조회는 O(n)
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public final class SpaceSavingTopK {
+
+    /**
+     * 상위 항목
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 최대 과대 추정치 (count - error 는 실제 빈도 이하)
+     */
+    public record Ranked(String key, long count, long error) {
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private Bucket lower;
+        private Bucket higher;
+        private Counter head;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;
+        private Counter next;
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    /** 값이 가장 작은/큰 버킷 */
+    private Bucket min;
+    private Bucket max;
+    private long total;
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /** 지금까지 더한 전체 건수 */
+    public long total() {
+        return total;
+    }
+
+    public void increment(String key) {
+        add(key, 1);
+    }
+
+    /**
+     * 키의 빈도에 weight 만큼 더함 (재시작 시 저장된 집계로 채울 때는 weight > 1)
+     */
+    public void add(String key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        total += weight;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            long next = counter.bucket.count + weight;
+            place(counter, next, detach(counter));
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(key);
+            counters.put(key, counter);
+            place(counter, weight, null);
+            return;
+        }
+        // 최소 카운터를 새 키에 넘겨줌
+        counter = min.head;
+        long floor = min.count;
+        counters.remove(counter.key);
+        counter.key = key;
+        counter.error = floor;
+        counters.put(key, counter);
+        place(counter, floor + weight, detach(counter));
+    }
+
+    /**
+     * 추정 빈도 (추적 중이 아니면 0)
+     */
+    public long estimate(String key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.bucket.count;
+    }
+
+    /**
+     * 추정 빈도 상위 n 개 (내림차순, 같은 값끼리의 순서는 정하지 않음)
+     */
+    public List<Ranked> top(int n) {
+        var out = new ArrayList<Ranked>(Math.min(n, counters.size()));
+        for (Bucket b = max; b != null && out.size() < n; b = b.lower) {
+            for (Counter c = b.head; c != null && out.size() < n; c = c.next) {
+                out.add(new Ranked(c.key, b.count, c.error));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 카운터를 버킷에서 떼어냄 (비게 된 버킷은 제거)
+     * @return 새 위치 탐색을 시작할 버킷 (원래 버킷 또는 그보다 작은 버킷, 없으면 null)
+     */
+    private Bucket detach(Counter counter) {
+        Bucket bucket = counter.bucket;
+        if (counter.prev != null) {
+            counter.prev.next = counter.next;
+        } else {
+            bucket.head = counter.next;
+        }
+        if (counter.next != null) {
+            counter.next.prev = counter.prev;
+        }
+        counter.prev = null;
+        counter.next = null;
+        counter.bucket = null;
+        if (bucket.head != null) {
+            return bucket;
+        }
+        Bucket lower = bucket.lower;
+        unlink(bucket);
+        return lower;
+    }
+
+    /**
+     * count 값 버킷에 카운터를 넣음 (from 부터 위로 탐색, 1 증가면 바로 다음 버킷)
+     */
+    private void place(Counter counter, long count, Bucket from) {
+        Bucket below = from;
+        Bucket b = from == null ? min : from;
+        while (b != null && b.count < count) {
+            below = b;
+            b = b.higher;
+        }
+        if (b == null || b.count != count) {
+            Bucket created = new Bucket(count);
+            created.lower = below;
+            created.higher = below == null ? min : below.higher;
+            if (created.lower != null) {
+                created.lower.higher = created;
+            } else {
+                min = created;
+            }
+            if (created.higher != null) {
+                created.higher.lower = created;
+            } else {
+                max = created;
+            }
+            b = created;
+        }
+        counter.bucket = b;
+        counter.next = b.head;
+        if (b.head != null) {
+            b.head.prev = counter;
+        }
+        b.head = counter;
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.lower != null) {
+            bucket.lower.higher = bucket.higher;
+        } else {
+            min = bucket.higher;
+        }
+        if (bucket.higher != null) {
+            bucket.higher.lower = bucket.lower;
+        } else {
+            max = bucket.lower;
+        }
+        bucket.lower = null;
+        bucket.higher = null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.kakao_login.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠
+ * - 시각을 tickMs 단위 틱으로 나눠 틱 % wheelSize 슬롯에 등록 (등록 O(1))
+ * - 한 바퀴보다 먼 항목은 같은 슬롯에 두고 마감 틱이 될 때까지 건너뜀
+ * - 진행 시 지난 틱의 슬롯만 확인하므로 비용은 경과 틱 수 + 해당 슬롯 항목 수에 비례
+ * - 취소는 지원하지 않음 (호출 측에서 버전 비교로 무시)
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public final class TimingWheel<T> {
+
+    private record Timer<T>(long deadlineTick, T task) {
+    }
+
+    private final long tickMs;
+    private final List<Timer<T>>[] slots;
+    /** 처리를 마친 마지막 틱 */
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.tickMs = tickMs;
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * nowMs >= deadlineMs 인 첫 진행 때 꺼내지도록 등록 (이미 지난 시각이면 다음 진행 때)
+     */
+    public void schedule(long deadlineMs, T task) {
+        long tick = Math.max(-Math.floorDiv(-deadlineMs, tickMs), currentTick + 1); // 올림: 마감 전에 꺼내지 않음
+        slots[(int) Math.floorMod(tick, (long) slots.length)].add(new Timer<>(tick, task));
+        size++;
+    }
+
+    /**
+     * nowMs 까지 진행하며 마감된 항목을 꺼냄 (마감 틱 순, 한 바퀴 이상 밀린 경우는 순서 보장 안 함)
+     */
+    public List<T> advance(long nowMs) {
+        long target = Math.floorDiv(nowMs, tickMs);
+        if (target <= currentTick) {
+            return List.of();
+        }
+        List<T> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long from = Math.max(currentTick + 1, target - slots.length + 1);
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Timer<T>> it = slots[(int) Math.floorMod(tick, (long) slots.length)].iterator();
+            while (it.hasNext()) {
+                Timer<T> timer = it.next();
+                if (timer.deadlineTick() <= target) {
+                    expired.add(timer.task());
+                    it.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = target;
+        return expired;
+    }
+
+    /**
+     * 등록된 항목 전부 제거
+     */
+    public void clear() {
+        for (List<Timer<T>> slot : slots) {
+            slot.clear();
+        }
+        size = 0;
+    }
+}
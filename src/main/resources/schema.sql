@@ -0,0 +1,82 @@
+-- 매 기동마다 실행되므로 반복해도 되는 문장(CREATE TABLE IF NOT EXISTS)만 둠
+-- 컬럼/인덱스 변경, 기존 데이터 보정은 SchemaMigrator 에서 버전별로 한 번만 실행
+
+-- 일회성 스키마 변경 기록 (SchemaMigrator)
+CREATE TABLE IF NOT EXISTS schema_migrations (
+    version      VARCHAR(100) NOT NULL,
+    description  VARCHAR(255) NOT NULL,
+    applied_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (version)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 매장 검색용 비정규화 테이블 (검색 시 상관 서브쿼리 대신 조인해서 사용)
+CREATE TABLE IF NOT EXISTS store_search_view (
+    store_id          VARCHAR(36)   NOT NULL,
+    category_id       VARCHAR(36)   NULL,
+    best_discount_pct INT           NULL,
+    favorite_count    INT           NOT NULL DEFAULT 0,
+    rating_avg        DECIMAL(3,2)  NULL,
+    rating_count      INT           NOT NULL DEFAULT 0,
+    popularity_score  DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at        DATETIME(6)   NOT NULL,
+    PRIMARY KEY (store_id),
+    INDEX idx_ssv_category (category_id),
+    INDEX idx_ssv_discount_sort (best_discount_pct DESC, store_id),
+    INDEX idx_ssv_popularity_sort (popularity_score DESC, store_id),
+    INDEX idx_ssv_rating_sort (rating_avg DESC, rating_count DESC, store_id)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 매장별 리뷰 집계 (리뷰 작성/수정/삭제 시 증분 갱신, 야간 재계산으로 보정)
+CREATE TABLE IF NOT EXISTS store_review_stats (
+    store_id      VARCHAR(36)   NOT NULL,
+    review_count  INT           NOT NULL DEFAULT 0,
+    rating_sum    DECIMAL(12,2) NOT NULL DEFAULT 0,
+    star_1        INT           NOT NULL DEFAULT 0,
+    star_2        INT           NOT NULL DEFAULT 0,
+    star_3        INT           NOT NULL DEFAULT 0,
+    star_4        INT           NOT NULL DEFAULT 0,
+    star_5        INT           NOT NULL DEFAULT 0,
+    updated_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (store_id)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 사용자별 포인트 원장 스냅샷 (검증 시 전체 원장 대신 ledger_until 이후분만 합산)
+CREATE TABLE IF NOT EXISTS point_ledger_snapshots (
+    user_id       VARCHAR(36)  NOT NULL,
+    total_earned  BIGINT       NOT NULL DEFAULT 0,
+    total_spent   BIGINT       NOT NULL DEFAULT 0,
+    ledger_until  DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    INDEX idx_pls_until (ledger_until)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 사용자별 포인트 카운터 (리뷰 등록 횟수, 지급한 마일스톤 비트 - ReviewMilestones 규칙표 기준)
+CREATE TABLE IF NOT EXISTS user_point_counters (
+    user_id             VARCHAR(36)  NOT NULL,
+    review_count        BIGINT       NOT NULL DEFAULT 0,
+    milestones_granted  BIGINT       NOT NULL DEFAULT 0,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 사용자별 월간 포인트 적립/사용 합계 (원장 기록 시 같은 트랜잭션에서 누적)
+CREATE TABLE IF NOT EXISTS point_monthly_rollups (
+    user_id     VARCHAR(36)  NOT NULL,
+    month       DATE         NOT NULL,
+    earned      BIGINT       NOT NULL DEFAULT 0,
+    spent       BIGINT       NOT NULL DEFAULT 0,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id, month)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
+
+-- 포인트 일괄 적립 지급 키 (같은 키는 한 번만 적립, 적립과 같은 트랜잭션에서 기록)
+CREATE TABLE IF NOT EXISTS point_grants (
+    grant_key   VARCHAR(100) NOT NULL,
+    user_id     VARCHAR(36)  NOT NULL,
+    points      INT          NOT NULL,
+    reason      VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (grant_key),
+    INDEX idx_point_grants_user (user_id)
+) DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
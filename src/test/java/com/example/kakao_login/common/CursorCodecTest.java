@@ -0,0 +1,88 @@
+package com.example.kakao_login.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CursorCodecTest {
+
+    private static List<String> roundTrip(String... keys) {
+        List<String> list = Arrays.asList(keys);
+        return CursorCodec.decode(CursorCodec.encode(list), list.size());
+    }
+
+    /** 이스케이프 없이 원문 그대로 Base64 인코딩한 커서 */
+    private static String rawCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void roundTripsPlainKeys() {
+        assertEquals(List.of("NAME", "스타벅스 강남점", "4.5", "store-1"), roundTrip("NAME", "스타벅스 강남점", "4.5", "store-1"));
+        assertEquals(List.of("2025-01-02T03:04:05", "r-9"), roundTrip("2025-01-02T03:04:05", "r-9"));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = CursorCodec.encode(List.of("???>>>", "~~~", "카페"));
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void roundTripsNullAndEmptyKeys() {
+        assertEquals(Arrays.asList("RATING", null, null, "store-1"), roundTrip("RATING", null, null, "store-1"));
+        assertEquals(Arrays.asList("", null, ""), roundTrip("", null, ""));
+        assertEquals(Arrays.asList((String) null), roundTrip((String) null));
+    }
+
+    @Test
+    void roundTripsKeysContainingSeparator() {
+        // 매장명 등 임의 문자열에 구분자가 들어 있어도 키 개수가 바뀌지 않아야 함
+        assertEquals(List.of("NAME", "a\u001fb", "\u001f", "store-1"), roundTrip("NAME", "a\u001fb", "\u001f", "store-1"));
+    }
+
+    @Test
+    void roundTripsKeysContainingNullMarkerAndEscape() {
+        // null 표시 문자 자체인 키는 null 과 구별돼야 함
+        assertEquals(Arrays.asList("\u0000", null, "x\u0000y"), roundTrip("\u0000", null, "x\u0000y"));
+        assertEquals(List.of("\\", "a\\sb", "\\0", "\\\u001f\\"), roundTrip("\\", "a\\sb", "\\0", "\\\u001f\\"));
+    }
+
+    @Test
+    void decodesCursorsWithoutEscapedCharacters() {
+        // 이스케이프할 문자가 없는 키는 기존 형식과 같은 커서
+        assertEquals(rawCursor("NAME\u001fcafe\u001f\u0000\u001fstore-1"),
+            CursorCodec.encode(Arrays.asList("NAME", "cafe", null, "store-1")));
+    }
+
+    @Test
+    void rejectsWrongKeyCount() {
+        String cursor = CursorCodec.encode(List.of("a", "b"));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(cursor, 3));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(cursor, 1));
+    }
+
+    @Test
+    void rejectsMalformedBase64() {
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("!!!", 1));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("a", 1)); // 잘린 Base64
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("YWJj+/", 1)); // URL-safe 아닌 문자
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(null, 1));
+    }
+
+    @Test
+    void rejectsMalformedEscapes() {
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(rawCursor("a\\"), 1));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(rawCursor("a\\x"), 1));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(rawCursor("a\u0000b"), 1));
+    }
+}
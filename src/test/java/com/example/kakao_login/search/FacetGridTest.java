@@ -0,0 +1,141 @@
+package com.example.kakao_login.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FacetGridTest {
+
+    private static final double CELL_DEG = 0.01;
+    private static final int TAGS = 5;
+    private static final int SLOTS = 4;
+    private static final List<String> CATEGORIES = List.of("cafe", "bakery", "brunch");
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LNG = 126.9780;
+
+    private static List<FacetGrid.Store> randomStores(int count, double spreadDeg, long seed) {
+        var random = new Random(seed);
+        var stores = new ArrayList<FacetGrid.Store>(count);
+        for (int i = 0; i < count; i++) {
+            boolean hasCoords = random.nextInt(20) != 0;
+            Double lat = hasCoords ? SEOUL_LAT + (random.nextDouble() - 0.5) * spreadDeg : null;
+            Double lng = hasCoords ? SEOUL_LNG + (random.nextDouble() - 0.5) * spreadDeg : null;
+            int[] tags = random.ints(random.nextInt(3), 0, TAGS).distinct().toArray();
+            String category = random.nextInt(10) == 0 ? null : CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            long openMask = random.nextLong() & ((1L << (7 * SLOTS)) - 1);
+            stores.add(new FacetGrid.Store("s" + i, lat, lng, category, random.nextBoolean(), tags, openMask));
+        }
+        return stores;
+    }
+
+    private static FacetGrid grid(List<FacetGrid.Store> stores) {
+        var builder = new FacetGrid.Builder(CELL_DEG, TAGS, SLOTS);
+        stores.forEach(builder::add);
+        return builder.build();
+    }
+
+    /** 매장을 하나씩 거리 확인해 세는 기대값 (radiusKm 가 null 이면 전체) */
+    private static void assertMatchesBruteForce(List<FacetGrid.Store> stores, FacetGrid.Counts actual,
+                                                double lat, double lng, Double radiusKm) {
+        var in = stores.stream()
+            .filter(s -> radiusKm == null
+                || (s.lat() != null && GeoGridIndex.distanceKm(lat, lng, s.lat(), s.lng()) <= radiusKm))
+            .toList();
+        String at = lat + "," + lng + " r=" + radiusKm;
+
+        assertEquals(in.size(), actual.stores(), "stores " + at);
+        assertEquals(in.stream().filter(FacetGrid.Store::hasDeal).count(), (long) actual.deals(), "deals " + at);
+        for (int t = 0; t < TAGS; t++) {
+            int tag = t;
+            long expected = in.stream().filter(s -> Arrays.stream(s.tags()).anyMatch(x -> x == tag)).count();
+            assertEquals(expected, (long) actual.tag(t), "tag " + t + " " + at);
+        }
+        for (String category : CATEGORIES) {
+            long expected = in.stream().filter(s -> category.equals(s.categoryId())).count();
+            assertEquals(expected, (long) actual.category(category), "category " + category + " " + at);
+        }
+        for (int dow = 0; dow < 7; dow++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                long bit = 1L << (dow * SLOTS + slot);
+                long expected = in.stream().filter(s -> (s.openMask() & bit) != 0).count();
+                assertEquals(expected, (long) actual.open(dow, slot), "open " + dow + "/" + slot + " " + at);
+            }
+        }
+    }
+
+    @Test
+    void withinMatchesBruteForceCount() {
+        List<FacetGrid.Store> stores = randomStores(4000, 0.3, 17);
+        FacetGrid grid = grid(stores);
+        var random = new Random(23);
+
+        for (int i = 0; i < 300; i++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5) * 0.3;
+            double lng = SEOUL_LNG + (random.nextDouble() - 0.5) * 0.3;
+            // 셀 크기(약 1km)보다 작은 반경부터 여러 셀을 통째로 덮는 반경까지
+            double radiusKm = 0.1 + random.nextDouble() * 6;
+            assertMatchesBruteForce(stores, grid.within(lat, lng, radiusKm), lat, lng, radiusKm);
+        }
+    }
+
+    @Test
+    void withinMatchesBruteForceOnCellBoundaries() {
+        List<FacetGrid.Store> stores = new ArrayList<>(randomStores(1500, 0.1, 29));
+        // 셀 경계/모서리 바로 위와 양옆의 매장
+        int n = 0;
+        for (double lat = 37.52; lat <= 37.61; lat += CELL_DEG) {
+            for (double lng = 126.93; lng <= 127.02; lng += CELL_DEG) {
+                for (double d : new double[]{-1e-7, 0, 1e-7}) {
+                    stores.add(new FacetGrid.Store("b" + n++, lat + d, lng - d, "cafe", true, new int[]{0}, 1L));
+                }
+            }
+        }
+        FacetGrid grid = grid(stores);
+
+        // 중심을 셀 경계/모서리에 두고, 반경이 셀 모서리에 딱 닿는 경우 포함
+        double[][] centers = {{37.57, 126.98}, {37.57, 126.975}, {37.565, 126.98}, {37.5650001, 126.9799999}};
+        for (double[] c : centers) {
+            for (double radiusKm : new double[]{0.3, 0.5, 1.0, 1.5, 2.5}) {
+                assertMatchesBruteForce(stores, grid.within(c[0], c[1], radiusKm), c[0], c[1], radiusKm);
+            }
+            double toCorner = GeoGridIndex.distanceKm(c[0], c[1], 37.59, 127.0);
+            assertMatchesBruteForce(stores, grid.within(c[0], c[1], toCorner), c[0], c[1], toCorner);
+        }
+    }
+
+    @Test
+    void largeRadiusScansExistingCellsOnly() {
+        List<FacetGrid.Store> stores = randomStores(500, 0.2, 31);
+        FacetGrid grid = grid(stores);
+
+        // 덮는 셀 수가 존재하는 셀 수보다 많은 경로
+        assertMatchesBruteForce(stores, grid.within(SEOUL_LAT, SEOUL_LNG, 200), SEOUL_LAT, SEOUL_LNG, 200.0);
+    }
+
+    @Test
+    void allIncludesStoresWithoutCoordinates() {
+        List<FacetGrid.Store> stores = randomStores(800, 0.2, 37);
+        FacetGrid grid = grid(stores);
+
+        assertMatchesBruteForce(stores, grid.all(), SEOUL_LAT, SEOUL_LNG, null);
+    }
+
+    @Test
+    void negativeRadiusCountsNothing() {
+        FacetGrid grid = grid(randomStores(50, 0.1, 41));
+
+        assertEquals(0, grid.within(SEOUL_LAT, SEOUL_LNG, -1).stores());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new FacetGrid.Builder(0, TAGS, SLOTS));
+        assertThrows(IllegalArgumentException.class, () -> new FacetGrid.Builder(CELL_DEG, TAGS, 10));
+    }
+}
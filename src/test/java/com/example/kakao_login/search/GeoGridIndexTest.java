@@ -0,0 +1,191 @@
+package com.example.kakao_login.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridIndexTest {
+
+    private static final double CELL_DEG = 0.01;
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LNG = 126.9780;
+
+    /** 독립 구현 (haversine) 으로 계산한 거리 */
+    private static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 6371.0 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /** 전체 좌표를 훑는 기대값 (인덱스와 같은 거리식/경계 규칙) */
+    private static List<GeoGridIndex.Hit> bruteForce(Map<String, double[]> points, double lat, double lng, double radiusKm) {
+        var out = new ArrayList<GeoGridIndex.Hit>();
+        points.forEach((id, p) -> {
+            double d = GeoGridIndex.distanceKm(lat, lng, p[0], p[1]);
+            if (d <= radiusKm) {
+                out.add(new GeoGridIndex.Hit(id, d));
+            }
+        });
+        out.sort(Comparator.comparingDouble(GeoGridIndex.Hit::distanceKm).thenComparing(GeoGridIndex.Hit::id));
+        return out;
+    }
+
+    private static Map<String, double[]> randomPoints(GeoGridIndex index, int count, double spreadDeg, long seed) {
+        var random = new Random(seed);
+        var points = new HashMap<String, double[]>();
+        for (int i = 0; i < count; i++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5) * spreadDeg;
+            double lng = SEOUL_LNG + (random.nextDouble() - 0.5) * spreadDeg;
+            points.put("s" + i, new double[]{lat, lng});
+            index.put("s" + i, lat, lng);
+        }
+        return points;
+    }
+
+    @Test
+    void matchesBruteForceScan() {
+        var index = new GeoGridIndex(CELL_DEG);
+        Map<String, double[]> points = randomPoints(index, 3000, 0.4, 7);
+        var random = new Random(11);
+
+        for (int i = 0; i < 200; i++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5) * 0.4;
+            double lng = SEOUL_LNG + (random.nextDouble() - 0.5) * 0.4;
+            double radiusKm = 0.05 + random.nextDouble() * 8;
+
+            List<GeoGridIndex.Hit> expected = bruteForce(points, lat, lng, radiusKm);
+            assertEquals(expected, index.within(lat, lng, radiusKm), "center " + lat + "," + lng + " r=" + radiusKm);
+        }
+    }
+
+    @Test
+    void distancesAgreeWithHaversine() {
+        var index = new GeoGridIndex(CELL_DEG);
+        Map<String, double[]> points = randomPoints(index, 500, 0.2, 3);
+
+        for (GeoGridIndex.Hit hit : index.within(SEOUL_LAT, SEOUL_LNG, 10)) {
+            double[] p = points.get(hit.id());
+            // 구면 코사인 법칙은 짧은 거리에서 오차가 커지므로 1m 이내로 비교
+            assertEquals(haversineKm(SEOUL_LAT, SEOUL_LNG, p[0], p[1]), hit.distanceKm(), 1e-3);
+        }
+    }
+
+    @Test
+    void largeRadiusScansExistingCellsOnly() {
+        var index = new GeoGridIndex(CELL_DEG);
+        Map<String, double[]> points = randomPoints(index, 200, 0.4, 5);
+        // 멀리 떨어진 매장 (부산)
+        points.put("busan", new double[]{35.1796, 129.0756});
+        index.put("busan", 35.1796, 129.0756);
+
+        // 덮는 셀 수가 존재하는 셀 수보다 많으면 존재하는 셀만 훑는 경로
+        List<GeoGridIndex.Hit> near = index.within(SEOUL_LAT, SEOUL_LNG, 100);
+        assertEquals(bruteForce(points, SEOUL_LAT, SEOUL_LNG, 100), near);
+        assertEquals(200, near.size());
+
+        List<GeoGridIndex.Hit> all = index.within(SEOUL_LAT, SEOUL_LNG, 500);
+        assertEquals(bruteForce(points, SEOUL_LAT, SEOUL_LNG, 500), all);
+        assertEquals("busan", all.get(all.size() - 1).id());
+    }
+
+    @Test
+    void returnsNullPastCandidateLimit() {
+        var index = new GeoGridIndex(CELL_DEG);
+        randomPoints(index, 6000, 0.1, 9);
+
+        // 검색은 후보 5000건 초과 시 SQL 거리 계산으로 대체
+        assertNull(index.within(SEOUL_LAT, SEOUL_LNG, 50, 5000));
+        List<GeoGridIndex.Hit> limited = index.within(SEOUL_LAT, SEOUL_LNG, 1, 5000);
+        assertTrue(limited != null && limited.size() <= 5000);
+        assertEquals(index.within(SEOUL_LAT, SEOUL_LNG, 1), limited);
+    }
+
+    @Test
+    void limitIsInclusive() {
+        var index = new GeoGridIndex(CELL_DEG);
+        index.put("a", SEOUL_LAT, SEOUL_LNG);
+        index.put("b", SEOUL_LAT + 0.001, SEOUL_LNG);
+
+        assertEquals(2, index.within(SEOUL_LAT, SEOUL_LNG, 1, 2).size());
+        assertNull(index.within(SEOUL_LAT, SEOUL_LNG, 1, 1));
+    }
+
+    @Test
+    void includesPointsAcrossCellBoundaries() {
+        var index = new GeoGridIndex(CELL_DEG);
+        // 셀 경계 바로 양쪽 (37.57 / 126.98 이 경계)
+        index.put("north", 37.5700001, 126.9750);
+        index.put("south", 37.5699999, 126.9750);
+        index.put("east", 37.5695, 126.9800001);
+        index.put("west", 37.5695, 126.9799999);
+        index.put("corner", 37.5700, 126.9800);
+
+        List<String> ids = index.within(37.5699, 126.9799, 0.5).stream().map(GeoGridIndex.Hit::id).toList();
+        assertTrue(ids.containsAll(List.of("north", "south", "east", "west", "corner")), ids.toString());
+    }
+
+    @Test
+    void pointExactlyOnRadiusIsIncluded() {
+        var index = new GeoGridIndex(CELL_DEG);
+        double lat = SEOUL_LAT + 0.0137;
+        double lng = SEOUL_LNG + 0.0211;
+        index.put("edge", lat, lng);
+        double exact = GeoGridIndex.distanceKm(SEOUL_LAT, SEOUL_LNG, lat, lng);
+
+        assertEquals(List.of(new GeoGridIndex.Hit("edge", exact)), index.within(SEOUL_LAT, SEOUL_LNG, exact));
+        assertTrue(index.within(SEOUL_LAT, SEOUL_LNG, Math.nextDown(exact)).isEmpty());
+    }
+
+    @Test
+    void radiusReachingNeighbourCellFromCellEdge() {
+        var index = new GeoGridIndex(CELL_DEG);
+        // 중심은 셀 가장자리, 매장은 두 셀 건너 (반경이 셀 크기보다 큼)
+        index.put("far", 37.5925, 126.9800);
+        double d = GeoGridIndex.distanceKm(37.5700, 126.9800, 37.5925, 126.9800);
+
+        assertEquals(1, index.within(37.5700, 126.9800, d + 1e-9).size());
+        assertTrue(index.within(37.5700, 126.9800, d - 1e-6).isEmpty());
+    }
+
+    @Test
+    void putMovesAndRemoveDeletes() {
+        var index = new GeoGridIndex(CELL_DEG);
+        index.put("a", SEOUL_LAT, SEOUL_LNG);
+        index.put("a", SEOUL_LAT + 0.2, SEOUL_LNG); // 다른 셀로 이동
+
+        assertTrue(index.within(SEOUL_LAT, SEOUL_LNG, 1).isEmpty());
+        assertEquals(1, index.within(SEOUL_LAT + 0.2, SEOUL_LNG, 1).size());
+        assertEquals(1, index.size());
+
+        index.remove("a");
+        index.remove("missing");
+
+        assertEquals(0, index.size());
+        assertTrue(index.within(SEOUL_LAT + 0.2, SEOUL_LNG, 1).isEmpty());
+    }
+
+    @Test
+    void negativeRadiusFindsNothing() {
+        var index = new GeoGridIndex(CELL_DEG);
+        index.put("a", SEOUL_LAT, SEOUL_LNG);
+
+        assertTrue(index.within(SEOUL_LAT, SEOUL_LNG, -1).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new GeoGridIndex(0));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.kakao_login.search;
+
+import com.example.kakao_login.event.StoreChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoreGeoIndexTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    /** 매장 한 행 (lat/lng 는 null 가능) */
+    private record Row(String id, Double lat, Double lng, boolean active) {
+    }
+
+    /**
+     * stores 테이블 대역
+     * - 전체 적재(ids 파라미터 없음)는 활성 + 좌표 있는 매장만, 부분 조회는 요청한 ID 전부 반환
+     * - duringFullLoad: 전체 적재 행을 다 읽은 뒤(교체 전) 한 번 실행
+     */
+    private static final class FakeStores extends NamedParameterJdbcTemplate {
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        Runnable duringFullLoad = () -> { };
+
+        FakeStores() {
+            super(new JdbcTemplate());
+        }
+
+        void upsert(String id, Double lat, Double lng, boolean active) {
+            rows.put(id, new Row(id, lat, lng, active));
+        }
+
+        @Override
+        public void query(String sql, SqlParameterSource params, RowCallbackHandler handler) {
+            boolean partial = params.hasValue("ids");
+            Collection<?> ids = partial ? (Collection<?>) params.getValue("ids") : null;
+            try {
+                for (Row row : List.copyOf(rows.values())) {
+                    boolean match = partial
+                            ? ids.contains(row.id())
+                            : row.active() && row.lat() != null && row.lng() != null;
+                    if (match) {
+                        handler.processRow(resultSet(row));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            if (!partial) {
+                Runnable hook = duringFullLoad;
+                duringFullLoad = () -> { };
+                hook.run();
+            }
+        }
+    }
+
+    /** 매핑에 쓰는 getString / getDouble / getBoolean / wasNull 만 지원하는 ResultSet */
+    private static ResultSet resultSet(Row row) {
+        boolean[] lastNull = new boolean[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getString" -> row.id();
+                case "getDouble" -> {
+                    Double v = "lat".equals(args[0]) ? row.lat() : row.lng();
+                    lastNull[0] = v == null;
+                    yield v == null ? 0.0 : v;
+                }
+                case "getBoolean" -> row.active();
+                case "wasNull" -> lastNull[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static StoreChangedEvent storeChanged(String... ids) {
+        return new StoreChangedEvent(StoreChangedEvent.Type.STORE, Set.of(ids));
+    }
+
+    private static List<String> idsNear(StoreGeoIndex index, double lat, double lng) {
+        return index.within(lat, lng, 0.5, Integer.MAX_VALUE).stream().map(GeoGridIndex.Hit::id).toList();
+    }
+
+    @Test
+    void rebuildLoadsActiveStoresWithCoordinates() {
+        var stores = new FakeStores();
+        stores.upsert("a", LAT, LNG, true);
+        stores.upsert("inactive", LAT, LNG, false);
+        stores.upsert("no-coords", null, null, true);
+        var index = new StoreGeoIndex(stores, 0.01);
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of("a"), idsNear(index, LAT, LNG));
+    }
+
+    @Test
+    void partialUpdateMovesAndRemovesStores() {
+        var stores = new FakeStores();
+        stores.upsert("a", LAT, LNG, true);
+        stores.upsert("b", LAT, LNG, true);
+        var index = new StoreGeoIndex(stores, 0.01);
+        index.rebuild();
+
+        stores.upsert("a", LAT + 0.1, LNG, true);
+        stores.upsert("b", LAT, LNG, false);
+        index.onStoreChanged(storeChanged("a", "b"));
+
+        assertTrue(idsNear(index, LAT, LNG).isEmpty());
+        assertEquals(List.of("a"), idsNear(index, LAT + 0.1, LNG));
+    }
+
+    @Test
+    void changesDuringRebuildAreReplayedOntoFreshIndex() {
+        var stores = new FakeStores();
+        stores.upsert("moved", LAT, LNG, true);
+        stores.upsert("closed", LAT, LNG, true);
+        var index = new StoreGeoIndex(stores, 0.01);
+        index.rebuild();
+
+        // 재구축이 이전 값을 읽은 뒤, 교체 전에 변경과 이벤트가 들어옴
+        stores.duringFullLoad = () -> {
+            stores.upsert("moved", LAT + 0.1, LNG, true);
+            stores.upsert("closed", LAT, LNG, false);
+            stores.upsert("opened", LAT, LNG + 0.1, true);
+            index.onStoreChanged(storeChanged("moved", "closed", "opened"));
+        };
+        index.rebuild();
+
+        // 교체된 새 인덱스에도 재구축 중의 변경이 반영돼 있어야 함
+        assertTrue(idsNear(index, LAT, LNG).isEmpty());
+        assertEquals(List.of("moved"), idsNear(index, LAT + 0.1, LNG));
+        assertEquals(List.of("opened"), idsNear(index, LAT, LNG + 0.1));
+    }
+
+    @Test
+    void ignoresNonStoreEvents() {
+        var stores = new FakeStores();
+        stores.upsert("a", LAT, LNG, true);
+        var index = new StoreGeoIndex(stores, 0.01);
+        index.rebuild();
+
+        stores.upsert("a", LAT + 0.1, LNG, true);
+        index.onStoreChanged(new StoreChangedEvent(StoreChangedEvent.Type.MENU, Set.of("a")));
+
+        assertEquals(List.of("a"), idsNear(index, LAT, LNG));
+    }
+}
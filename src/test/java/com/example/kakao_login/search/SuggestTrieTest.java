@@ -0,0 +1,108 @@
+package com.example.kakao_login.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestTrieTest {
+
+    private static SuggestTrie.Suggestion store(String text, double weight) {
+        return new SuggestTrie.Suggestion(text, "STORE", text, weight);
+    }
+
+    private static SuggestTrie trie(SuggestTrie.Suggestion... suggestions) {
+        var builder = new SuggestTrie.Builder();
+        for (SuggestTrie.Suggestion s : suggestions) {
+            builder.add(s);
+        }
+        return builder.build();
+    }
+
+    private static List<String> texts(List<SuggestTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestTrie.Suggestion::text).toList();
+    }
+
+    @Test
+    void plainPrefixMatchesStartOfText() {
+        var trie = trie(store("스타벅스 강남점", 10), store("스타필드 카페", 5), store("투썸플레이스", 7));
+
+        assertEquals(List.of("스타벅스 강남점", "스타필드 카페"), texts(trie.suggest("스타", 10)));
+        assertEquals(List.of("스타벅스 강남점"), texts(trie.suggest("스타벅", 10)));
+        assertTrue(trie.suggest("벅스", 10).isEmpty()); // 단어 중간부터는 매칭하지 않음
+        assertTrue(trie.suggest("이디야", 10).isEmpty());
+    }
+
+    @Test
+    void matchesAtEachWordStart() {
+        var trie = trie(store("스타벅스 강남점", 10), store("강남 베이커리", 3));
+
+        assertEquals(List.of("스타벅스 강남점", "강남 베이커리"), texts(trie.suggest("강남", 10)));
+        assertEquals(List.of("강남 베이커리"), texts(trie.suggest("베이", 10)));
+    }
+
+    @Test
+    void choseongOnlyInput() {
+        var trie = trie(store("스타벅스", 10), store("스무디킹", 4), store("투썸플레이스", 7));
+
+        assertEquals(List.of("스타벅스", "스무디킹"), texts(trie.suggest("ㅅ", 10)));
+        assertEquals(List.of("스타벅스"), texts(trie.suggest("ㅅㅌㅂ", 10)));
+        assertEquals(List.of("투썸플레이스"), texts(trie.suggest("ㅌㅆ", 10)));
+        assertTrue(trie.suggest("ㅅㅌㅍ", 10).isEmpty());
+    }
+
+    @Test
+    void choseongOnlyInputMatchesWordStarts() {
+        var trie = trie(store("스타벅스 강남점", 10));
+
+        assertEquals(List.of("스타벅스 강남점"), texts(trie.suggest("ㄱㄴ", 10)));
+    }
+
+    @Test
+    void mixedInputExpandsTrailingChoseong() {
+        var trie = trie(store("스타벅스", 10), store("스타필드", 5), store("스타우트", 1));
+
+        // 회귀: 완성 글자 뒤 초성("스타ㅂ")이 초성 트라이로 넘어가 결과가 비던 문제
+        assertEquals(List.of("스타벅스"), texts(trie.suggest("스타ㅂ", 10)));
+        assertEquals(List.of("스타필드"), texts(trie.suggest("스타ㅍ", 10)));
+        assertTrue(trie.suggest("스타ㅋ", 10).isEmpty());
+    }
+
+    @Test
+    void mixedInputWithLeadingChoseong() {
+        var trie = trie(store("스타벅스", 10), store("사타구니", 2), store("스무디킹", 4));
+
+        assertEquals(List.of("스타벅스", "사타구니"), texts(trie.suggest("ㅅ타", 10)));
+        assertEquals(List.of("스타벅스"), texts(trie.suggest("ㅅ타벅", 10)));
+    }
+
+    @Test
+    void ordersByWeightAndAppliesLimit() {
+        var trie = trie(store("카페 A", 1), store("카페 B", 30), store("카페 C", 20), store("카페 D", 10));
+
+        assertEquals(List.of("카페 B", "카페 C", "카페 D", "카페 A"), texts(trie.suggest("카페", 10)));
+        assertEquals(List.of("카페 B", "카페 C"), texts(trie.suggest("카페", 2)));
+        assertEquals(List.of("카페 B", "카페 C"), texts(trie.suggest("ㅋㅍ", 2)));
+    }
+
+    @Test
+    void mixedInputMergesBranchesByWeight() {
+        var trie = trie(store("스타벅스", 1), store("스타박스", 9), store("스타복스", 5));
+
+        // 초성 'ㅂ' 아래 여러 자식 노드의 후보를 합쳐 가중치순으로 자름
+        assertEquals(List.of("스타박스", "스타복스"), texts(trie.suggest("스타ㅂ", 2)));
+    }
+
+    @Test
+    void normalizesCaseAndIgnoresBlankQuery() {
+        var trie = trie(store("Blue Bottle", 5));
+
+        assertEquals(List.of("Blue Bottle"), texts(trie.suggest("blue b", 10)));
+        assertEquals(List.of("Blue Bottle"), texts(trie.suggest("BOT", 10)));
+        assertTrue(trie.suggest("  ", 10).isEmpty());
+        assertTrue(trie.suggest("blue", 0).isEmpty());
+        assertEquals(1, trie.size());
+    }
+}
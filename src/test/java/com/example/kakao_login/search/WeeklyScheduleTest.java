@@ -0,0 +1,142 @@
+package com.example.kakao_login.search;
+
+import org.junit.jupiter.api.Test;
+
+import static com.example.kakao_login.search.WeeklySchedule.MINUTES_PER_WEEK;
+import static com.example.kakao_login.search.WeeklySchedule.minuteOfWeek;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeeklyScheduleTest {
+
+    private static final int SUN = 0;
+    private static final int MON = 1;
+    private static final int TUE = 2;
+    private static final int FRI = 5;
+    private static final int SAT = 6;
+
+    private static int hm(int hour, int minute) {
+        return hour * 60 + minute;
+    }
+
+    @Test
+    void dayRangeIsOpenFromOpeningUntilBeforeClosing() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(MON, false, hm(9, 0), hm(18, 0), -1, -1)
+            .build();
+
+        assertFalse(schedule.isOpen(minuteOfWeek(MON, hm(8, 59))));
+        assertTrue(schedule.isOpen(minuteOfWeek(MON, hm(9, 0))));
+        assertTrue(schedule.isOpen(minuteOfWeek(MON, hm(17, 59))));
+        assertFalse(schedule.isOpen(minuteOfWeek(MON, hm(18, 0))));
+        assertFalse(schedule.isOpen(minuteOfWeek(TUE, hm(10, 0))));
+    }
+
+    @Test
+    void overnightRangeSpillsIntoNextDay() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(FRI, false, hm(22, 0), hm(2, 0), -1, -1)
+            .build();
+
+        assertFalse(schedule.isOpen(minuteOfWeek(FRI, hm(21, 59))));
+        assertTrue(schedule.isOpen(minuteOfWeek(FRI, hm(23, 30))));
+        assertTrue(schedule.isOpen(minuteOfWeek(SAT, hm(1, 59))));
+        assertFalse(schedule.isOpen(minuteOfWeek(SAT, hm(2, 0))));
+        // 검색 SQL 과 같은 규칙: 해당 요일 새벽 [00:00, 마감)도 영업
+        assertTrue(schedule.isOpen(minuteOfWeek(FRI, hm(1, 0))));
+        assertFalse(schedule.isOpen(minuteOfWeek(FRI, hm(2, 0))));
+    }
+
+    @Test
+    void saturdayOvernightWrapsToSunday() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(SAT, false, hm(22, 0), hm(3, 0), -1, -1)
+            .build();
+
+        assertTrue(schedule.isOpen(minuteOfWeek(SAT, hm(23, 59))));
+        assertTrue(schedule.isOpen(minuteOfWeek(SUN, hm(0, 0))));
+        assertTrue(schedule.isOpen(minuteOfWeek(SUN, hm(2, 59))));
+        assertFalse(schedule.isOpen(minuteOfWeek(SUN, hm(3, 0))));
+    }
+
+    @Test
+    void breakTimeIsClosed() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(MON, false, hm(9, 0), hm(18, 0), hm(12, 0), hm(13, 0))
+            .build();
+
+        assertTrue(schedule.isOpen(minuteOfWeek(MON, hm(11, 59))));
+        assertFalse(schedule.isOpen(minuteOfWeek(MON, hm(12, 0))));
+        assertFalse(schedule.isOpen(minuteOfWeek(MON, hm(12, 59))));
+        assertTrue(schedule.isOpen(minuteOfWeek(MON, hm(13, 0))));
+        assertEquals(1, schedule.minutesUntilNextOpening(minuteOfWeek(MON, hm(12, 59))));
+    }
+
+    @Test
+    void breakAfterMidnightAppliesToOvernightTail() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(FRI, false, hm(18, 0), hm(2, 0), hm(0, 30), hm(1, 0))
+            .build();
+
+        assertTrue(schedule.isOpen(minuteOfWeek(FRI, hm(23, 0))));
+        assertTrue(schedule.isOpen(minuteOfWeek(SAT, hm(0, 29))));
+        assertFalse(schedule.isOpen(minuteOfWeek(SAT, hm(0, 30))));
+        assertTrue(schedule.isOpen(minuteOfWeek(SAT, hm(1, 0))));
+        assertFalse(schedule.isOpen(minuteOfWeek(SAT, hm(2, 0))));
+    }
+
+    @Test
+    void adjacentDaysMergeAcrossMidnight() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(MON, true, -1, -1, -1, -1)
+            .add(TUE, false, hm(0, 0), hm(6, 0), -1, -1)
+            .build();
+
+        assertTrue(schedule.isOpen(minuteOfWeek(MON, hm(23, 59))));
+        assertTrue(schedule.isOpen(minuteOfWeek(TUE, hm(0, 0))));
+        assertFalse(schedule.isOpen(minuteOfWeek(TUE, hm(6, 0))));
+        // 병합된 한 구간이므로 다음 오픈은 다음 주 월요일
+        assertEquals(MINUTES_PER_WEEK - hm(10, 0),
+            schedule.minutesUntilNextOpening(minuteOfWeek(MON, hm(10, 0))));
+    }
+
+    @Test
+    void minutesUntilNextOpeningWrapsToNextWeek() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(MON, false, hm(9, 0), hm(18, 0), -1, -1)
+            .build();
+
+        assertEquals(60, schedule.minutesUntilNextOpening(minuteOfWeek(MON, hm(8, 0))));
+        int satNight = minuteOfWeek(SAT, hm(23, 0));
+        assertEquals(minuteOfWeek(MON, hm(9, 0)) + MINUTES_PER_WEEK - satNight,
+            schedule.minutesUntilNextOpening(satNight));
+        // 영업 중이면 이번 구간이 아니라 다음 오픈까지
+        assertEquals(MINUTES_PER_WEEK - hm(1, 0),
+            schedule.minutesUntilNextOpening(minuteOfWeek(MON, hm(10, 0))));
+    }
+
+    @Test
+    void emptyScheduleIsNeverOpen() {
+        var schedule = new WeeklySchedule.Builder()
+            .add(MON, false, hm(9, 0), hm(9, 0), -1, -1) // 오픈 = 마감 → 구간 없음
+            .add(7, true, -1, -1, -1, -1)                // 잘못된 요일 무시
+            .add(TUE, false, -1, hm(18, 0), -1, -1)      // 시각 없음 무시
+            .build();
+
+        assertTrue(schedule.isEmpty());
+        assertFalse(schedule.isOpen(minuteOfWeek(MON, hm(9, 0))));
+        assertEquals(-1, schedule.minutesUntilNextOpening(0));
+    }
+
+    @Test
+    void parsesMinuteOfDay() {
+        assertEquals(hm(9, 30), WeeklySchedule.parseMinuteOfDay("09:30"));
+        assertEquals(hm(9, 30), WeeklySchedule.parseMinuteOfDay("09:30:00"));
+        assertEquals(WeeklySchedule.MINUTES_PER_DAY, WeeklySchedule.parseMinuteOfDay("24:00"));
+        assertEquals(-1, WeeklySchedule.parseMinuteOfDay("9:30"));
+        assertEquals(-1, WeeklySchedule.parseMinuteOfDay("25:00"));
+        assertEquals(-1, WeeklySchedule.parseMinuteOfDay("ab:cd"));
+        assertEquals(-1, WeeklySchedule.parseMinuteOfDay(null));
+    }
+}
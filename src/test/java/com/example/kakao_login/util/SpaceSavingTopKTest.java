@@ -0,0 +1,131 @@
+package com.example.kakao_login.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    void countsExactlyWhileUnderCapacity() {
+        var topK = new SpaceSavingTopK(4);
+        for (String key : List.of("a", "b", "a", "c", "a", "b")) {
+            topK.increment(key);
+        }
+
+        assertEquals(List.of(
+            new SpaceSavingTopK.Ranked("a", 3, 0),
+            new SpaceSavingTopK.Ranked("b", 2, 0),
+            new SpaceSavingTopK.Ranked("c", 1, 0)), topK.top(10));
+        assertEquals(6, topK.total());
+        assertEquals(3, topK.size());
+    }
+
+    @Test
+    void evictsMinimumCounterAndRecordsItsCountAsError() {
+        var topK = new SpaceSavingTopK(2);
+        topK.add("a", 5);
+        topK.add("b", 2);
+
+        topK.increment("c");
+
+        assertEquals(0, topK.estimate("b"));
+        assertEquals(3, topK.estimate("c"));
+        assertEquals(List.of(
+            new SpaceSavingTopK.Ranked("a", 5, 0),
+            new SpaceSavingTopK.Ranked("c", 3, 2)), topK.top(2));
+    }
+
+    @Test
+    void evictedKeyComesBackWithErrorOfCurrentMinimum() {
+        var topK = new SpaceSavingTopK(2);
+        topK.add("a", 4);
+        topK.add("b", 1);
+        topK.increment("c"); // b 제거, c = 2 (오차 1)
+
+        topK.increment("b"); // c 제거, b = 3 (오차 2)
+
+        assertEquals(0, topK.estimate("c"));
+        assertEquals(List.of(
+            new SpaceSavingTopK.Ranked("a", 4, 0),
+            new SpaceSavingTopK.Ranked("b", 3, 2)), topK.top(2));
+    }
+
+    @Test
+    void weightedAddSkipsPastIntermediateBuckets() {
+        var topK = new SpaceSavingTopK(4);
+        topK.add("a", 1);
+        topK.add("b", 3);
+        topK.add("c", 7);
+
+        topK.add("a", 5);
+
+        assertEquals(List.of("c", "a", "b"), topK.top(3).stream().map(SpaceSavingTopK.Ranked::key).toList());
+        assertEquals(6, topK.estimate("a"));
+    }
+
+    @Test
+    void ignoresNonPositiveWeight() {
+        var topK = new SpaceSavingTopK(2);
+        topK.add("a", 0);
+        topK.add("a", -3);
+
+        assertEquals(0, topK.size());
+        assertEquals(0, topK.total());
+        assertTrue(topK.top(5).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingTopK(0));
+    }
+
+    @Test
+    void staysWithinErrorBoundOnSkewedStream() {
+        int capacity = 20;
+        var topK = new SpaceSavingTopK(capacity);
+        Map<String, Long> actual = new HashMap<>();
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 앞쪽 키일수록 자주 나오는 분포 (키 200개)
+            String key = "k" + (int) (200 * Math.pow(random.nextDouble(), 3));
+            long weight = 1 + random.nextInt(3);
+            topK.add(key, weight);
+            actual.merge(key, weight, Long::sum);
+        }
+
+        long total = topK.total();
+        assertEquals(actual.values().stream().mapToLong(Long::longValue).sum(), total);
+        assertEquals(capacity, topK.size());
+
+        List<SpaceSavingTopK.Ranked> ranked = topK.top(capacity);
+        assertEquals(capacity, ranked.size());
+        long countSum = 0;
+        for (int i = 0; i < ranked.size(); i++) {
+            SpaceSavingTopK.Ranked r = ranked.get(i);
+            long real = actual.getOrDefault(r.key(), 0L);
+            assertTrue(r.count() >= real, "추정값은 실제 이상: " + r);
+            assertTrue(r.count() - r.error() <= real, "count - error 는 실제 이하: " + r);
+            assertTrue(r.count() - real <= total / capacity, "과대 추정은 N / capacity 이하: " + r);
+            if (i > 0) {
+                assertTrue(ranked.get(i - 1).count() >= r.count(), "내림차순: " + ranked);
+            }
+            countSum += r.count();
+        }
+        // 카운터를 넘겨줄 때 기존 값을 이어받으므로 추정값 합은 항상 전체 건수
+        assertEquals(total, countSum);
+
+        actual.forEach((key, real) -> {
+            if (real > total / capacity) {
+                assertTrue(topK.estimate(key) > 0, "N / capacity 를 넘는 키는 남아야 함: " + key);
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.kakao_login.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void firesExactlyOnAlignedDeadline() {
+        var wheel = new TimingWheel<String>(1000, 8, 0);
+        wheel.schedule(2000, "a");
+
+        assertTrue(wheel.advance(1999).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(2000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void neverFiresBeforeUnalignedDeadline() {
+        var wheel = new TimingWheel<String>(1000, 8, 0);
+        wheel.schedule(1500, "a");
+
+        // 마감 틱은 올림 → 1500 이 지나도 틱 2(2000) 전에는 꺼내지 않음
+        assertTrue(wheel.advance(1500).isEmpty());
+        assertTrue(wheel.advance(1999).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(2000));
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        var wheel = new TimingWheel<String>(1000, 8, 3000);
+        wheel.schedule(500, "late");
+
+        assertTrue(wheel.advance(3999).isEmpty());
+        assertEquals(List.of("late"), wheel.advance(4000));
+    }
+
+    @Test
+    void ignoresAdvanceWithinCurrentTickOrBackwards() {
+        var wheel = new TimingWheel<String>(1000, 8, 5000);
+        wheel.schedule(6000, "a");
+
+        assertTrue(wheel.advance(5999).isEmpty());
+        assertTrue(wheel.advance(1000).isEmpty());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("a"), wheel.advance(6000));
+    }
+
+    @Test
+    void skipsEntriesMoreThanOneRevolutionAhead() {
+        var wheel = new TimingWheel<String>(1000, 4, 0);
+        wheel.schedule(10_000, "far"); // 틱 10 → 슬롯 2
+
+        assertTrue(wheel.advance(2000).isEmpty()); // 슬롯 2, 아직 틱 2
+        assertTrue(wheel.advance(6000).isEmpty()); // 슬롯 2, 아직 틱 6
+        assertTrue(wheel.advance(9999).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(10_000));
+    }
+
+    @Test
+    void firesInDeadlineOrderWithinOneRevolution() {
+        var wheel = new TimingWheel<String>(1000, 8, 0);
+        wheel.schedule(3000, "c");
+        wheel.schedule(1000, "a");
+        wheel.schedule(2000, "b");
+
+        assertEquals(List.of("a", "b", "c"), wheel.advance(3000));
+    }
+
+    @Test
+    void jumpOfSeveralRevolutionsReturnsEachEntryOnce() {
+        var wheel = new TimingWheel<Integer>(1000, 4, 0);
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule(i * 1000L, i);
+        }
+        wheel.schedule(30_000, 30);
+
+        List<Integer> expired = wheel.advance(25_000);
+
+        assertEquals(20, expired.size());
+        Set<Integer> unique = new HashSet<>(expired);
+        assertEquals(20, unique.size());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(30), wheel.advance(30_000));
+    }
+
+    @Test
+    void handlesNegativeTimes() {
+        var wheel = new TimingWheel<String>(1000, 4, -5000);
+        wheel.schedule(-2500, "a"); // 올림 → 틱 -2
+
+        assertTrue(wheel.advance(-2001).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(-2000));
+    }
+
+    @Test
+    void clearDropsEverything() {
+        var wheel = new TimingWheel<String>(1000, 4, 0);
+        wheel.schedule(1000, "a");
+        wheel.schedule(9000, "b");
+
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(10_000).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(1000, 0, 0));
+    }
+}